@@ -19,6 +19,7 @@ public class FieldKeySerializer extends ValueSerializer<FieldKey> {
 
     @Override
     public void serialize(FieldKey value, JsonGenerator gen, SerializationContext context) {
+        // Generators keep every name as a String (write context, token buffers), so there is no copy to save here
         String formatted = formatter.format(value);
         gen.writeName(formatted);
     }
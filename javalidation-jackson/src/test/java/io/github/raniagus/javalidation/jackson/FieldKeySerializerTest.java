@@ -3,10 +3,16 @@ package io.github.raniagus.javalidation.jackson;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.Validation;
+import io.github.raniagus.javalidation.ValidationErrors;
 import io.github.raniagus.javalidation.format.FieldKeyFormatter;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.json.JsonMapper;
 
 class FieldKeySerializerTest {
@@ -122,4 +128,56 @@ class FieldKeySerializerTest {
                 {"name":"test","map":{"field[42]":"Count"}}\
                 """);
     }
+
+    @Test
+    void givenUtf8Output_whenSerialize_thenWritesFormattedKey() {
+        FieldKey fk = FieldKey.of("messages", 5, "text");
+
+        byte[] json = mapper.writeValueAsBytes(Map.of(fk, "Hello, world!"));
+
+        assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo("""
+                {"messages[5].text":"Hello, world!"}                """);
+    }
+
+    @Test
+    void givenKeyNeedingEscapes_whenSerialize_thenEscapesAndEncodes() {
+        FieldKey fk = FieldKey.of("caf\u00e9", "say \"hi\"");
+        String expected = """
+                {"caf\u00e9.say \\"hi\\"":"value"}                """;
+
+        assertThat(mapper.writeValueAsString(Map.of(fk, "value"))).isEqualTo(expected);
+        assertThat(new String(mapper.writeValueAsBytes(Map.of(fk, "value")), StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    void givenTreeOutput_whenSerialize_thenKeepsFormattedKey() {
+        FieldKey fk = FieldKey.of("items", 0);
+
+        assertThat(mapper.valueToTree(Map.of(fk, "value")).propertyNames()).containsExactly("items[0]");
+    }
+
+    @Test
+    void givenSeveralKeys_whenConvertValue_thenKeepsEveryKey() {
+        ValidationErrors errors = Validation.create()
+                .addErrorAt("name", "bad1")
+                .addErrorAt("email", "bad2")
+                .addErrorAt("age", "bad3")
+                .finish();
+
+        Map<String, Object> converted = mapper.convertValue(errors, new TypeReference<>() {});
+
+        assertThat(converted).containsOnlyKeys("fieldErrors");
+        assertThat(converted.get("fieldErrors")).asInstanceOf(InstanceOfAssertFactories.MAP)
+                .containsOnlyKeys("name", "email", "age");
+    }
+
+    @Test
+    void givenSeveralKeys_whenBufferedAndReplayed_thenKeepsEveryKey() {
+        Map<FieldKey, String> map = new LinkedHashMap<>();
+        map.put(FieldKey.of("a"), "1");
+        map.put(FieldKey.of("b", 0), "2");
+        map.put(FieldKey.of("c", "d"), "3");
+
+        assertThat(mapper.valueToTree(map).propertyNames()).containsExactly("a", "b[0]", "c.d");
+    }
 }
@@ -37,6 +37,20 @@ public sealed interface FieldWriter extends ValidationWriter {
         out.removeVariable();
     }
 
+    @Override
+    default void writeMethodsTo(ValidationOutput out) {
+        out.registerVariable(field());
+        for (NullUnsafeWriter writer : nullUnsafeWriters()) {
+            writer.writeMethodsTo(out);
+        }
+        out.removeVariable();
+    }
+
+    @Override
+    default boolean readsClock() {
+        return nullUnsafeWriters().stream().anyMatch(ValidationWriter::readsClock);
+    }
+
     String field();
 
     default @Nullable NullSafeWriter nullSafeWriter() {
@@ -1,17 +1,27 @@
 package io.github.raniagus.javalidation.validator.processor;
 
+import java.util.stream.Stream;
+
 public sealed interface NullSafeWriter extends ValidationWriter {
 
+    @Override
+    default Stream<String> imports() {
+        return Stream.of(TEMPLATE_STRING_IMPORT);
+    }
+
     record NotNull(String message) implements NullSafeWriter {
+        @Override
+        public void writePropertiesTo(ValidationOutput out) {
+            ValidationWriter.writeErrorConstantTo(out, ValidationWriter.errorConstantName(out, this, "NOT_NULL"), message);
+        }
+
         @Override
         public void writeBodyTo(ValidationOutput out) {
             out.write("""
                     if (%s == null) {\
                     """.formatted(out.getVariable()));
             out.incrementIndentationLevel();
-            out.write("""
-                    validation.addError("%s");\
-                    """.formatted(message));
+            ValidationWriter.writeAddErrorTo(out, ValidationWriter.errorConstantName(out, this, "NOT_NULL"));
             out.write("return;");
             out.decrementIndentationLevel();
             out.write("}");
@@ -19,15 +29,18 @@ public sealed interface NullSafeWriter extends ValidationWriter {
     }
 
     record Null(String message) implements NullSafeWriter {
+        @Override
+        public void writePropertiesTo(ValidationOutput out) {
+            ValidationWriter.writeErrorConstantTo(out, ValidationWriter.errorConstantName(out, this, "NULL"), message);
+        }
+
         @Override
         public void writeBodyTo(ValidationOutput out) {
             out.write("""
                     if (%s != null) {\
                     """.formatted(out.getVariable()));
             out.incrementIndentationLevel();
-            out.write("""
-                    validation.addError("%s");\
-                    """.formatted(message));
+            ValidationWriter.writeAddErrorTo(out, ValidationWriter.errorConstantName(out, this, "NULL"));
             out.write("return;");
             out.decrementIndentationLevel();
             out.write("}");
@@ -35,19 +48,27 @@ public sealed interface NullSafeWriter extends ValidationWriter {
     }
 
     record NullSafeAccessor(String accessor, String message) implements NullSafeWriter {
+        @Override
+        public void writePropertiesTo(ValidationOutput out) {
+            ValidationWriter.writeErrorConstantTo(out, errorConstantName(out), message);
+        }
+
         @Override
         public void writeBodyTo(ValidationOutput out) {
             out.write("""
                     if (%1$s == null || %1$s.%2$s()) {\
                     """.formatted(out.getVariable(), accessor));
             out.incrementIndentationLevel();
-            out.write("""
-                    validation.addError("%s");\
-                    """.formatted(message));
+            ValidationWriter.writeAddErrorTo(out, errorConstantName(out));
             out.write("return;");
             out.decrementIndentationLevel();
             out.write("}");
         }
+
+        private String errorConstantName(ValidationOutput out) {
+            // "isBlank" -> "IS_BLANK"
+            return ValidationWriter.errorConstantName(out, this, ValidationWriter.constantCase(accessor));
+        }
     }
 
 }
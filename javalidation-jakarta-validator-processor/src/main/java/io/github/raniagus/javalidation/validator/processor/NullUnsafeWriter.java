@@ -25,33 +25,53 @@ public interface NullUnsafeWriter extends ValidationWriter {
             int min,
             int max
     ) implements NullUnsafeWriter {
+        @Override
+        public Stream<String> imports() {
+            return Stream.of(TEMPLATE_STRING_IMPORT);
+        }
+
+        @Override
+        public void writePropertiesTo(ValidationOutput out) {
+            ValidationWriter.writeErrorConstantTo(out, ValidationWriter.errorConstantName(out, this, "SIZE"), message, min, max);
+        }
+
         @Override
         public void writeBodyTo(ValidationOutput out) {
             out.write("""
                     if (%1$s.%2$s() < %3$d || %1$s.%2$s() > %4$d) {\
                     """.formatted(out.getVariable(), accessor, min, max));
             out.incrementIndentationLevel();
-            out.write("""
-                    validation.addError("%s", %d, %d);\
-                    """.formatted(message, min, max));
+            ValidationWriter.writeAddErrorTo(out, ValidationWriter.errorConstantName(out, this, "SIZE"));
             out.decrementIndentationLevel();
             out.write("}");
         }
     }
 
     record EqualTo(String value, String message) implements NullUnsafeWriter {
+        @Override
+        public Stream<String> imports() {
+            return Stream.of(TEMPLATE_STRING_IMPORT);
+        }
+
+        @Override
+        public void writePropertiesTo(ValidationOutput out) {
+            ValidationWriter.writeErrorConstantTo(out, errorConstantName(out), message);
+        }
+
         @Override
         public void writeBodyTo(ValidationOutput out) {
             out.write("""
                     if (!%s.equals(%s)) {\
                     """.formatted(out.getVariable(), value));
             out.incrementIndentationLevel();
-            out.write("""
-                    validation.addError("%s");\
-                    """.formatted(message));
+            ValidationWriter.writeAddErrorTo(out, errorConstantName(out));
             out.decrementIndentationLevel();
             out.write("}");
         }
+
+        private String errorConstantName(ValidationOutput out) {
+            return ValidationWriter.errorConstantName(out, this, "EQ_" + value.toUpperCase());
+        }
     }
 
     record NumericCompare(
@@ -65,23 +85,33 @@ public interface NullUnsafeWriter extends ValidationWriter {
         @Override
         public Stream<String> imports() {
             return switch (kind) {
-                case BIG_DECIMAL, NUMBER, CHAR_SEQUENCE -> Stream.of("java.math.BigDecimal");
-                case BIG_INTEGER -> Stream.of("java.math.BigInteger");
-                case BYTE, SHORT, INTEGER, LONG, DOUBLE, FLOAT -> Stream.empty();
+                case BIG_DECIMAL -> Stream.of(TEMPLATE_STRING_IMPORT, "java.math.BigDecimal");
+                case BIG_INTEGER -> Stream.of(TEMPLATE_STRING_IMPORT, "java.math.BigInteger");
+                case NUMBER, CHAR_SEQUENCE -> Stream.of(TEMPLATE_STRING_IMPORT, "io.github.raniagus.javalidation.validator.DecimalBound");
+                case BYTE, SHORT, INTEGER, LONG, DOUBLE, FLOAT -> Stream.of(TEMPLATE_STRING_IMPORT);
             };
         }
 
         @Override
         public void writePropertiesTo(ValidationOutput out) {
             switch (kind) {
-                case BIG_DECIMAL, NUMBER, CHAR_SEQUENCE -> out.write("""
+                case BIG_DECIMAL -> out.write("""
                         private static final BigDecimal %s = new BigDecimal("%s");
-                        """.formatted(constantName(out.getVariable()), value));
+                        """.formatted(boundConstantName(out), value));
+                case NUMBER, CHAR_SEQUENCE -> out.write("""
+                        private static final DecimalBound %s = DecimalBound.of("%s");
+                        """.formatted(boundConstantName(out), value));
                 case BIG_INTEGER -> out.write("""
                         private static final BigInteger %s = new BigInteger("%s");
-                        """.formatted(constantName(out.getVariable()), value));
+                        """.formatted(boundConstantName(out), value));
                 case BYTE, SHORT, INTEGER, LONG, DOUBLE, FLOAT -> { /* primitives: no caching needed */ }
             }
+            String errorConstant = errorConstantName(out);
+            if (useValueAsArg) {
+                ValidationWriter.writeErrorConstantTo(out, errorConstant, message, value);
+            } else {
+                ValidationWriter.writeErrorConstantTo(out, errorConstant, message);
+            }
         }
 
         @Override
@@ -90,9 +120,7 @@ public interface NullUnsafeWriter extends ValidationWriter {
                     if (!(%s)) {\
                     """.formatted(comparison(out)));
             out.incrementIndentationLevel();
-            out.write("""
-                    validation.addError("%s"%s);\
-                    """.formatted(message, formatArg()));
+            ValidationWriter.writeAddErrorTo(out, errorConstantName(out));
             out.decrementIndentationLevel();
             out.write("}");
         }
@@ -100,15 +128,25 @@ public interface NullUnsafeWriter extends ValidationWriter {
         private String comparison(ValidationOutput out) {
             return switch (kind) {
                 case BIG_DECIMAL, BIG_INTEGER -> "%s.compareTo(%s) %s 0".formatted(
-                        out.getVariable(), constantName(out.getVariable()), operator);
+                        out.getVariable(), boundConstantName(out), operator);
                 case BYTE, SHORT, INTEGER, LONG, DOUBLE, FLOAT -> "%s %s %s".formatted(
                         out.getVariable(), operator, value);
-                case NUMBER, CHAR_SEQUENCE -> "new BigDecimal(%s.toString()).compareTo(%s) %s 0".formatted(
-                        out.getVariable(), constantName(out.getVariable()), operator);
+                // Compares the value in place, without parsing it into a BigDecimal
+                case NUMBER, CHAR_SEQUENCE -> "%s.compare(%s) %s 0".formatted(
+                        boundConstantName(out), out.getVariable(), operator);
             };
         }
 
-        private String constantName(String variable) {
+        private String boundConstantName(ValidationOutput out) {
+            return out.constantName(this, ValidationWriter.constantCase(out.getVariable()) + "_" + constraintName(), "");
+        }
+
+        private String errorConstantName(ValidationOutput out) {
+            return ValidationWriter.errorConstantName(out, this, constraintName());
+        }
+
+        /** Returns the operator and bound, e.g. {@code GE_10} for {@code >= 10}. */
+        private String constraintName() {
             String opSuffix = switch (operator) {
                 case ">=" -> "GE";
                 case ">"  -> "GT";
@@ -117,13 +155,7 @@ public interface NullUnsafeWriter extends ValidationWriter {
                 default -> operator;
             };
             String valueSuffix = value.toString().replace("-", "N").replace(".", "_");
-            return variable.toUpperCase() + "_" + opSuffix + "_" + valueSuffix;
-        }
-
-        private String formatArg() {
-            if (!useValueAsArg) return "";
-            if (value instanceof String string) return "," + javaStringLiteral(string);
-            return ", " + value;
+            return opSuffix + "_" + valueSuffix;
         }
     }
 
@@ -136,70 +168,105 @@ public interface NullUnsafeWriter extends ValidationWriter {
 
         @Override
         public Stream<String> imports() {
+            return Stream.concat(Stream.of(TEMPLATE_STRING_IMPORT), temporalImports());
+        }
+
+        @Override
+        public void writePropertiesTo(ValidationOutput out) {
+            ValidationWriter.writeErrorConstantTo(out, errorConstantName(out), message);
+        }
+
+        @Override
+        public boolean readsClock() {
+            return true;
+        }
+
+        private Stream<String> temporalImports() {
             return switch (kind) {
-                case INSTANT, LONG, INTEGER, SHORT, BYTE, DATE, CALENDAR -> Stream.of("java.time.Instant");
+                case INSTANT, LONG, INTEGER, SHORT, BYTE, DATE, CALENDAR -> Stream.empty();
                 case LOCAL_DATE -> Stream.of("java.time.LocalDate");
                 case LOCAL_TIME -> Stream.of("java.time.LocalTime");
                 case LOCAL_DATE_TIME -> Stream.of("java.time.LocalDateTime");
                 case OFFSET_DATE_TIME -> Stream.of("java.time.OffsetDateTime");
                 case OFFSET_TIME -> Stream.of("java.time.OffsetTime");
                 case ZONED_DATE_TIME -> Stream.of("java.time.ZonedDateTime");
-                case YEAR -> Stream.of("java.time.Year");
-                case YEAR_MONTH -> Stream.of("java.time.YearMonth");
-                case MONTH_DAY -> Stream.of("java.time.MonthDay");
-                case HIJRAH_DATE -> Stream.of("java.time.chrono.HijrahDate");
-                case JAPANESE_DATE -> Stream.of("java.time.chrono.JapaneseDate");
-                case MINGUO_DATE -> Stream.of("java.time.chrono.MinguoDate");
-                case THAI_BUDDHIST_DATE -> Stream.of("java.time.chrono.ThaiBuddhistDate");
+                case YEAR -> Stream.of("java.time.Year", "java.time.LocalDate");
+                case YEAR_MONTH -> Stream.of("java.time.YearMonth", "java.time.LocalDate");
+                case MONTH_DAY -> Stream.of("java.time.MonthDay", "java.time.LocalDate");
+                case HIJRAH_DATE -> Stream.of("java.time.chrono.HijrahDate", "java.time.LocalDate");
+                case JAPANESE_DATE -> Stream.of("java.time.chrono.JapaneseDate", "java.time.LocalDate");
+                case MINGUO_DATE -> Stream.of("java.time.chrono.MinguoDate", "java.time.LocalDate");
+                case THAI_BUDDHIST_DATE -> Stream.of("java.time.chrono.ThaiBuddhistDate", "java.time.LocalDate");
             };
         }
 
         @Override
         public void writeBodyTo(ValidationOutput out) {
-            if (result) {
-                out.write("""
-                    if (!%s.%s(%s)) {\
-                    """.formatted(normalized(out.getVariable()), accessor, now()));
-            } else {
-                out.write("""
-                    if (%s.%s(%s)) {\
-                    """.formatted(normalized(out.getVariable()), accessor, now()));
-            }
-            out.incrementIndentationLevel();
             out.write("""
-                validation.addError("%s");\
-                """.formatted(message));
+                    if (%s) {\
+                    """.formatted(failure(out.getVariable())));
+            out.incrementIndentationLevel();
+            ValidationWriter.writeAddErrorTo(out, errorConstantName(out));
             out.decrementIndentationLevel();
             out.write("}");
         }
 
-        private String now() {
+        private String errorConstantName(ValidationOutput out) {
+            return ValidationWriter.errorConstantName(out, this, constraintName());
+        }
+
+        /** Returns the constraint this comparison implements, e.g. {@code PAST} for {@code isBefore(now) == true}. */
+        private String constraintName() {
+            boolean before = accessor.equals("isBefore");
+            if (result) {
+                return before ? "PAST" : "FUTURE";
+            }
+            return before ? "FUTURE_OR_PRESENT" : "PAST_OR_PRESENT";
+        }
+
+        /** Returns the condition under which the constraint fails, i.e. {@code variable.accessor(now) != result}. */
+        private String failure(String variable) {
+            return switch (kind) {
+                // Legacy types are compared in epoch milliseconds, without wrapping them in an Instant
+                case LONG, INTEGER, SHORT, BYTE, DATE, CALENDAR -> "%s %s validationTime.toEpochMilli()".formatted(
+                        epochMillis(variable), failureOperator());
+                default -> "%s%s.%s(%s)".formatted(result ? "!" : "", variable, accessor, now());
+            };
+        }
+
+        private String failureOperator() {
+            boolean before = accessor.equals("isBefore");
+            if (result) {
+                return before ? ">=" : "<=";
+            }
+            return before ? "<" : ">";
+        }
+
+        private String epochMillis(String variable) {
             return switch (kind) {
-                case INSTANT, LONG, INTEGER, SHORT, BYTE, DATE, CALENDAR -> "Instant.now()";
-                case LOCAL_DATE -> "LocalDate.now()";
-                case LOCAL_TIME -> "LocalTime.now()";
-                case LOCAL_DATE_TIME -> "LocalDateTime.now()";
-                case OFFSET_DATE_TIME -> "OffsetDateTime.now()";
-                case OFFSET_TIME -> "OffsetTime.now()";
-                case ZONED_DATE_TIME -> "ZonedDateTime.now()";
-                case YEAR -> "Year.now()";
-                case YEAR_MONTH -> "YearMonth.now()";
-                case MONTH_DAY -> "MonthDay.now()";
-                case HIJRAH_DATE -> "HijrahDate.now()";
-                case JAPANESE_DATE -> "JapaneseDate.now()";
-                case MINGUO_DATE -> "MinguoDate.now()";
-                case THAI_BUDDHIST_DATE -> "ThaiBuddhistDate.now()";
+                case DATE -> variable + ".getTime()";
+                case CALENDAR -> variable + ".getTimeInMillis()";
+                default -> variable;
             };
         }
 
-        private String normalized(String variable) {
+        /** Returns the {@code validationTime} snapshot, converted to the type of the field in the clock's zone. */
+        private String now() {
             return switch (kind) {
-                case LONG, INTEGER, SHORT, BYTE -> "Instant.ofEpochMilli(%s)".formatted(variable);
-                case DATE -> "Instant.ofEpochMilli(%s.getTime())".formatted(variable);
-                case CALENDAR -> "Instant.ofEpochMilli(%s.getTimeInMillis())".formatted(variable);
-                case INSTANT, LOCAL_DATE, LOCAL_TIME, LOCAL_DATE_TIME, OFFSET_DATE_TIME,
-                     OFFSET_TIME, ZONED_DATE_TIME, YEAR, YEAR_MONTH, MONTH_DAY,
-                     HIJRAH_DATE, JAPANESE_DATE, MINGUO_DATE, THAI_BUDDHIST_DATE -> variable;
+                case INSTANT, LONG, INTEGER, SHORT, BYTE, DATE, CALENDAR -> "validationTime";
+                case LOCAL_DATE -> "LocalDate.ofInstant(validationTime, validationClock.getZone())";
+                case LOCAL_TIME -> "LocalTime.ofInstant(validationTime, validationClock.getZone())";
+                case LOCAL_DATE_TIME -> "LocalDateTime.ofInstant(validationTime, validationClock.getZone())";
+                case OFFSET_DATE_TIME -> "OffsetDateTime.ofInstant(validationTime, validationClock.getZone())";
+                case OFFSET_TIME -> "OffsetTime.ofInstant(validationTime, validationClock.getZone())";
+                case ZONED_DATE_TIME -> "ZonedDateTime.ofInstant(validationTime, validationClock.getZone())";
+                case YEAR -> "Year.from(LocalDate.ofInstant(validationTime, validationClock.getZone()))";
+                case YEAR_MONTH -> "YearMonth.from(LocalDate.ofInstant(validationTime, validationClock.getZone()))";
+                case MONTH_DAY -> "MonthDay.from(LocalDate.ofInstant(validationTime, validationClock.getZone()))";
+                case HIJRAH_DATE -> "HijrahDate.from(LocalDate.ofInstant(validationTime, validationClock.getZone()))";
+                case JAPANESE_DATE -> "JapaneseDate.from(LocalDate.ofInstant(validationTime, validationClock.getZone()))";
+                case MINGUO_DATE -> "MinguoDate.from(LocalDate.ofInstant(validationTime, validationClock.getZone()))";
+                case THAI_BUDDHIST_DATE -> "ThaiBuddhistDate.from(LocalDate.ofInstant(validationTime, validationClock.getZone()))";
             };
         }
     }
@@ -208,7 +275,7 @@ public interface NullUnsafeWriter extends ValidationWriter {
         @Override
         public Stream<String> imports() {
             return Stream.concat(
-                    Stream.of("io.github.raniagus.javalidation.validator.Predicates"),
+                    Stream.of(TEMPLATE_STRING_IMPORT, "io.github.raniagus.javalidation.validator.Predicates"),
                     regexp != null ? Stream.of("java.util.regex.Pattern") : Stream.empty()
             );
         }
@@ -217,9 +284,10 @@ public interface NullUnsafeWriter extends ValidationWriter {
         public void writePropertiesTo(ValidationOutput out) {
             if (regexp != null) {
                 out.write("""
-                        private static final Pattern %1$s_REGEXP_PATTERN = Pattern.compile(%2$s%3$s);
-                        """.formatted(out.getVariable().toUpperCase(), javaStringLiteral(regexp), joinPatternFlags(flags)));
+                        private static final Pattern %1$s_REGEXP_PATTERN = Predicates.pattern(%2$s%3$s);
+                        """.formatted(ValidationWriter.constantCase(out.getVariable()), javaStringLiteral(regexp), joinPatternFlags(flags)));
             }
+            ValidationWriter.writeErrorConstantTo(out, ValidationWriter.errorConstantName(out, this, "EMAIL"), message);
         }
 
         @Override
@@ -231,12 +299,10 @@ public interface NullUnsafeWriter extends ValidationWriter {
             } else {
                 out.write("""
                         if (!Predicates.isEmail(%2$s) || !%1$s_REGEXP_PATTERN.matcher(%2$s).matches()) {\
-                        """.formatted(out.getVariable().toUpperCase(), out.getVariable()));
+                        """.formatted(ValidationWriter.constantCase(out.getVariable()), out.getVariable()));
             }
             out.incrementIndentationLevel();
-            out.write("""
-                    validation.addError("%s");\
-                    """.formatted(message));
+            ValidationWriter.writeAddErrorTo(out, ValidationWriter.errorConstantName(out, this, "EMAIL"));
             out.decrementIndentationLevel();
             out.write("}");
         }
@@ -250,35 +316,57 @@ public interface NullUnsafeWriter extends ValidationWriter {
     record Pattern(int index, String regex, List<String> flags, String message, Object... args) implements NullUnsafeWriter {
         @Override
         public Stream<String> imports() {
-            return Stream.of("java.util.regex.Pattern");
+            return simpleRegex() != null ? Stream.of(TEMPLATE_STRING_IMPORT)
+                    : Stream.of(TEMPLATE_STRING_IMPORT, "io.github.raniagus.javalidation.validator.Predicates",
+                            "java.util.regex.Pattern");
         }
 
         @Override
         public void writePropertiesTo(ValidationOutput out) {
-            out.write("""
-                    private static final Pattern %s_PATTERN%s = Pattern.compile(%s%s);
-                    """.formatted(out.getVariable().toUpperCase(), getIndexSuffix(), javaStringLiteral(regex),
-                            joinPatternFlags(flags)));
+            if (simpleRegex() == null) {
+                out.write("""
+                        private static final Pattern %s_PATTERN%s = Predicates.pattern(%s%s);
+                        """.formatted(ValidationWriter.constantCase(out.getVariable()), getIndexSuffix(), javaStringLiteral(regex),
+                                joinPatternFlags(flags)));
+            }
+            ValidationWriter.writeErrorConstantTo(out, ValidationWriter.errorConstantName(out, this, "PATTERN" + getIndexSuffix()),
+                    message, args);
         }
 
         @Override
         public void writeBodyTo(ValidationOutput out) {
-            out.write("""
-                    if (!%s_PATTERN%s.matcher(%s.toString()).matches()) {\
-                    """.formatted(out.getVariable().toUpperCase(), getIndexSuffix(), out.getVariable()));
+            if (simpleRegex() != null) {
+                out.write("""
+                        if (!%s(%s)) {\
+                        """.formatted(matcherName(out), out.getVariable()));
+            } else {
+                out.write("""
+                        if (!%s_PATTERN%s.matcher(%s).matches()) {\
+                        """.formatted(ValidationWriter.constantCase(out.getVariable()), getIndexSuffix(), out.getVariable()));
+            }
             out.incrementIndentationLevel();
-            out.write("""
-                    validation.addError("%s"%s);\
-                    """.formatted(message, formatArgs()));
+            ValidationWriter.writeAddErrorTo(out, ValidationWriter.errorConstantName(out, this, "PATTERN" + getIndexSuffix()));
             out.decrementIndentationLevel();
             out.write("}");
         }
 
-        private String formatArgs() {
-            if (args.length == 0) return "";
-            return Stream.of(args)
-                    .map(arg -> arg instanceof String string ? javaStringLiteral(string) : arg.toString())
-                    .collect(Collectors.joining(", ", ",", ""));
+        @Override
+        public void writeMethodsTo(ValidationOutput out) {
+            SimpleRegex simpleRegex = simpleRegex();
+            if (simpleRegex != null) {
+                out.write("");
+                simpleRegex.writeMatcherTo(out, matcherName(out));
+            }
+        }
+
+        /** Returns the regex as a plain char loop, or {@code null} if it needs a compiled {@code Pattern}. */
+        private @Nullable SimpleRegex simpleRegex() {
+            return SimpleRegex.parse(regex, flags);
+        }
+
+        private String matcherName(ValidationOutput out) {
+            String variable = out.getVariable();
+            return "matches" + Character.toUpperCase(variable.charAt(0)) + variable.substring(1) + "Pattern" + getIndexSuffix();
         }
 
         private String joinPatternFlags(List<String> flags) {
@@ -300,54 +388,24 @@ public interface NullUnsafeWriter extends ValidationWriter {
 
         @Override
         public Stream<String> imports() {
-            return switch (kind) {
-                case CHAR_SEQUENCE -> Stream.of("io.github.raniagus.javalidation.validator.Predicates", "java.util.function.Predicate");
-                case BIG_INTEGER, NUMBER, BYTE, SHORT, INTEGER, LONG, DOUBLE, FLOAT -> Stream.of(
-                        "io.github.raniagus.javalidation.validator.Predicates",
-                        "java.math.BigDecimal"
-                );
-                case BIG_DECIMAL -> Stream.of("io.github.raniagus.javalidation.validator.Predicates");
-            };
+            return Stream.of(TEMPLATE_STRING_IMPORT, "io.github.raniagus.javalidation.validator.Predicates");
         }
 
         @Override
         public void writePropertiesTo(ValidationOutput out) {
-            switch (kind) {
-                case CHAR_SEQUENCE ->
-                        out.write("""
-                            private static final Predicate<CharSequence> %s_DIGITS_PREDICATE = Predicates.digits(%d, %d);
-                            """.formatted(out.getVariable().toUpperCase(), integer, fraction));
-                case BIG_INTEGER, NUMBER, BYTE, SHORT, INTEGER, LONG, DOUBLE, FLOAT, BIG_DECIMAL -> {
-                    // No Predicate to precompile
-                }
-            }
+            ValidationWriter.writeErrorConstantTo(out, ValidationWriter.errorConstantName(out, this, "DIGITS"), message, integer, fraction);
         }
 
         @Override
         public void writeBodyTo(ValidationOutput out) {
-            switch (kind) {
-                case CHAR_SEQUENCE ->
-                        out.write("""
-                            if (!%s_DIGITS_PREDICATE.test(%s)) {\
-                            """.formatted(out.getVariable().toUpperCase(), out.getVariable()));
-                case BIG_INTEGER, NUMBER ->
-                        out.write("""
-                            if (!Predicates.digits(new BigDecimal(%s.toString()), %d, %d)) {\
-                            """.formatted(out.getVariable(), integer, fraction));
-                case BYTE, SHORT, INTEGER, LONG, DOUBLE, FLOAT ->
-                        out.write("""
-                            if (!Predicates.digits(BigDecimal.valueOf(%s), %d, %d)) {\
-                            """.formatted(out.getVariable(), integer, fraction));
-                case BIG_DECIMAL ->
-                        out.write("""
-                            if (!Predicates.digits(%s, %d, %d)) {\
-                            """.formatted(out.getVariable(), integer, fraction));
-            }
+            // Every kind but NUMBER resolves to its own allocation-free Predicates.digits overload
+            String method = kind == NumericKind.NUMBER ? "numberDigits" : "digits";
+            out.write("""
+                    if (!Predicates.%s(%s, %d, %d)) {\
+                    """.formatted(method, out.getVariable(), integer, fraction));
 
             out.incrementIndentationLevel();
-            out.write("""
-                validation.addError("%s", %s, %s);\
-                """.formatted(message, integer, fraction));
+            ValidationWriter.writeAddErrorTo(out, ValidationWriter.errorConstantName(out, this, "DIGITS"));
             out.decrementIndentationLevel();
             out.write("}");
         }
@@ -424,6 +482,18 @@ public interface NullUnsafeWriter extends ValidationWriter {
             out.removeVariable();
         }
 
+        @Override
+        public void writeMethodsTo(ValidationOutput out) {
+            out.registerVariable(out.getVariable() + "Item");
+            nullUnsafeWriters.forEach(writer -> writer.writeMethodsTo(out));
+            out.removeVariable();
+        }
+
+        @Override
+        public boolean readsClock() {
+            return nullUnsafeWriters.stream().anyMatch(ValidationWriter::readsClock);
+        }
+
         @Override
         public void writeBodyTo(ValidationOutput out) {
             if (nullSafeWriter == null && nullUnsafeWriters.isEmpty()) {
@@ -455,10 +525,16 @@ public interface NullUnsafeWriter extends ValidationWriter {
                     Stream.ofNullable(keyNullSafeWriter).flatMap(ValidationWriter::imports),
                     keyNullUnsafeWriters.stream().flatMap(ValidationWriter::imports),
                     Stream.ofNullable(valueNullSafeWriter).flatMap(ValidationWriter::imports),
-                    valueNullUnsafeWriters.stream().flatMap(ValidationWriter::imports)
+                    valueNullUnsafeWriters.stream().flatMap(ValidationWriter::imports),
+                    isEmpty() ? Stream.<String>empty() : Stream.of("io.github.raniagus.javalidation.FieldKeyPart")
             ).flatMap(s -> s);
         }
 
+        private boolean isEmpty() {
+            return keyNullSafeWriter == null && keyNullUnsafeWriters.isEmpty()
+                    && valueNullSafeWriter == null && valueNullUnsafeWriters.isEmpty();
+        }
+
         @Override
         public void writePropertiesTo(ValidationOutput out) {
             out.registerVariable(out.getVariable() + "Key");
@@ -493,10 +569,26 @@ public interface NullUnsafeWriter extends ValidationWriter {
             out.removeVariable();
         }
 
+        @Override
+        public void writeMethodsTo(ValidationOutput out) {
+            out.registerVariable(out.getVariable() + "Key");
+            keyNullUnsafeWriters.forEach(w -> w.writeMethodsTo(out));
+            out.removeVariable();
+
+            out.registerVariable(out.getVariable() + "Value");
+            valueNullUnsafeWriters.forEach(w -> w.writeMethodsTo(out));
+            out.removeVariable();
+        }
+
+        @Override
+        public boolean readsClock() {
+            return Stream.concat(keyNullUnsafeWriters.stream(), valueNullUnsafeWriters.stream())
+                    .anyMatch(ValidationWriter::readsClock);
+        }
+
         @Override
         public void writeBodyTo(ValidationOutput out) {
-            if (keyNullSafeWriter == null && keyNullUnsafeWriters.isEmpty()
-                    && valueNullSafeWriter == null && valueNullUnsafeWriters.isEmpty()) {
+            if (isEmpty()) {
                 return;
             }
 
@@ -510,7 +602,7 @@ public interface NullUnsafeWriter extends ValidationWriter {
             writeNestedFieldsTo(keyNullSafeWriter, keyNullUnsafeWriters, out);
             out.removeVariable();
 
-            out.write("validation.withField(%s, () -> {".formatted(keyVar));
+            out.write("validation.withField(FieldKeyPart.of(%s), () -> {".formatted(keyVar));
             out.incrementIndentationLevel();
 
             out.registerVariable(valueVar);
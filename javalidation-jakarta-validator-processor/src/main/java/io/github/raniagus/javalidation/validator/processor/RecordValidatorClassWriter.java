@@ -20,10 +20,17 @@ public record RecordValidatorClassWriter(
                         "io.github.raniagus.javalidation.validator.InitializableValidator",
                         "io.github.raniagus.javalidation.validator.ValidatorsHolder"
                 ),
-                fieldWriters.stream().flatMap(ValidationWriter::imports)
+                Stream.concat(
+                        readsClock() ? Stream.of("java.time.Clock", "java.time.Instant") : Stream.empty(),
+                        fieldWriters.stream().flatMap(ValidationWriter::imports)
+                )
         );
     }
 
+    private boolean readsClock() {
+        return fieldWriters.stream().anyMatch(FieldWriter::readsClock);
+    }
+
     @Override
     public void writeBody(ValidationOutput out) {
         out.write(
@@ -34,11 +41,17 @@ public record RecordValidatorClassWriter(
         for (FieldWriter writer : fieldWriters) {
             writer.writePropertiesTo(out);
         }
+        if (readsClock()) {
+            out.write("private Clock validationClock = Clock.systemDefaultZone();");
+        }
         out.write("");
 
         out.write("@Override");
         out.write("public void initialize(ValidatorsHolder holder) {");
         out.incrementIndentationLevel();
+        if (readsClock()) {
+            out.write("validationClock = holder.clock();");
+        }
         for (FieldWriter writer : fieldWriters) {
             writer.writePropertiesInitTo(out);
         }
@@ -52,11 +65,19 @@ public record RecordValidatorClassWriter(
                 public void validate(Validation validation, %s%s %s) {\
                 """.formatted(enclosingClassPrefix, recordName, out.getVariable()));
         out.incrementIndentationLevel();
+        if (readsClock()) {
+            // One snapshot per Validation, shared with the parent and nested record validators
+            out.write("Instant validationTime = validation.instant(validationClock);");
+        }
         for (ValidationWriter writer : fieldWriters) {
             writer.writeBodyTo(out);
         }
         out.decrementIndentationLevel();
         out.write("}");
+        out.removeVariable();
+        for (FieldWriter writer : fieldWriters) {
+            writer.writeMethodsTo(out);
+        }
         out.decrementIndentationLevel();
         out.write("}");
     }
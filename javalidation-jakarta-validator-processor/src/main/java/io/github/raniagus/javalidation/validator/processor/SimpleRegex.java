@@ -0,0 +1,387 @@
+package io.github.raniagus.javalidation.validator.processor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A regular expression simple enough to be checked by a generated char loop instead of a
+ * {@code java.util.regex.Pattern}.
+ * <p>
+ * The supported subset is a sequence of items, each one a literal, an escaped punctuation character,
+ * {@code \d}, {@code \w}, {@code \s} or a non-negated character class of those, followed by an optional
+ * greedy quantifier ({@code ?}, {@code *}, {@code +}, {@code {n}}, {@code {n,}}, {@code {n,m}}). A leading
+ * {@code ^} and a trailing {@code $} are accepted and ignored, since {@code matches()} anchors the whole
+ * input anyway. Anything else, such as groups, alternation, {@code .}, negated classes or flags that change
+ * matching, makes {@link #parse(String, List)} return {@code null} so that the caller keeps the
+ * {@code Pattern}.
+ * <p>
+ * The loop consumes each item greedily and never backtracks. That is only equivalent to the regex when
+ * giving characters back could not help, so an item of variable length must not share any character with
+ * the items after it; {@code ^[A-Z]+\d*$} is accepted, {@code ^\d{1,3}\d$} is not.
+ */
+public record SimpleRegex(List<Item> items) {
+    private static final Set<String> NEUTRAL_FLAGS = Set.of("MULTILINE", "UNIX_LINES", "DOTALL");
+    private static final int MAX_COUNT = 1 << 16;
+    private static final int UNBOUNDED = -1;
+
+    /**
+     * A run of {@code min} to {@code max} characters from {@code ranges}; {@code max} is {@code -1} when
+     * unbounded.
+     */
+    public record Item(List<Range> ranges, int min, int max) {
+        boolean isLiteral() {
+            return min == 1 && max == 1 && ranges.size() == 1 && ranges.getFirst().from() == ranges.getFirst().to();
+        }
+
+        boolean overlaps(Item other) {
+            return ranges.stream().anyMatch(a -> other.ranges.stream().anyMatch(b -> a.from() <= b.to() && b.from() <= a.to()));
+        }
+    }
+
+    public record Range(char from, char to) {
+    }
+
+    /**
+     * Parses {@code regex} if it belongs to the supported subset.
+     *
+     * @param regex the regular expression
+     * @param flags the names of the {@code Pattern} flags it is compiled with
+     * @return the parsed expression, or {@code null} if it must be left to {@code Pattern}
+     */
+    public static @Nullable SimpleRegex parse(String regex, List<String> flags) {
+        if (!NEUTRAL_FLAGS.containsAll(flags)) {
+            return null;
+        }
+        try {
+            // An invalid expression keeps failing when the validator is loaded, as it did before
+            Pattern.compile(regex);
+            return new Parser(regex).parse();
+        } catch (PatternSyntaxException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a {@code private static boolean methodName(CharSequence input)} method that returns whether
+     * the whole input matches.
+     */
+    public void writeMatcherTo(ValidationOutput out, String methodName) {
+        out.write("private static boolean %s(CharSequence input) {".formatted(methodName));
+        out.incrementIndentationLevel();
+        out.write("int length = input.length();");
+        out.write("int i = 0;");
+        for (int start = 0; start < items.size(); ) {
+            int end = start;
+            while (end < items.size() && items.get(end).isLiteral()) {
+                end++;
+            }
+            if (end > start) {
+                writeLiteralTo(out, items.subList(start, end));
+                start = end;
+            } else {
+                writeItemTo(out, items.get(start), start);
+                start++;
+            }
+        }
+        out.write("return i == length;");
+        out.decrementIndentationLevel();
+        out.write("}");
+    }
+
+    private static void writeLiteralTo(ValidationOutput out, List<Item> literal) {
+        StringBuilder condition = new StringBuilder("length - i < %d".formatted(literal.size()));
+        for (int j = 0; j < literal.size(); j++) {
+            condition.append(" || input.charAt(%s) != %s".formatted(
+                    j == 0 ? "i" : "i + " + j, charLiteral(literal.get(j).ranges().getFirst().from())));
+        }
+        out.write("if (%s) {".formatted(condition));
+        out.incrementIndentationLevel();
+        out.write("return false;");
+        out.decrementIndentationLevel();
+        out.write("}");
+        out.write("i += %d;".formatted(literal.size()));
+    }
+
+    private static void writeItemTo(ValidationOutput out, Item item, int index) {
+        if (item.min() == item.max()) {
+            out.write("if (length - i < %d) {".formatted(item.min()));
+            out.incrementIndentationLevel();
+            out.write("return false;");
+            out.decrementIndentationLevel();
+            out.write("}");
+            out.write("for (int end = i + %d; i < end; i++) {".formatted(item.min()));
+            out.incrementIndentationLevel();
+            out.write("char c = input.charAt(i);");
+            out.write("if (!(%s)) {".formatted(test(item.ranges())));
+            out.incrementIndentationLevel();
+            out.write("return false;");
+            out.decrementIndentationLevel();
+            out.write("}");
+            out.decrementIndentationLevel();
+            out.write("}");
+            return;
+        }
+        // A plain "[...]*" needs no counter
+        boolean counted = item.min() > 0 || item.max() != UNBOUNDED;
+        String count = "count" + index;
+        if (counted) {
+            out.write("int %s = 0;".formatted(count));
+        }
+        out.write(item.max() == UNBOUNDED
+                ? "while (i < length) {"
+                : "while (i < length && %s < %d) {".formatted(count, item.max()));
+        out.incrementIndentationLevel();
+        out.write("char c = input.charAt(i);");
+        out.write("if (!(%s)) {".formatted(test(item.ranges())));
+        out.incrementIndentationLevel();
+        out.write("break;");
+        out.decrementIndentationLevel();
+        out.write("}");
+        out.write("i++;");
+        if (counted) {
+            out.write("%s++;".formatted(count));
+        }
+        out.decrementIndentationLevel();
+        out.write("}");
+        if (item.min() > 0) {
+            out.write("if (%s < %d) {".formatted(count, item.min()));
+            out.incrementIndentationLevel();
+            out.write("return false;");
+            out.decrementIndentationLevel();
+            out.write("}");
+        }
+    }
+
+    private static String test(List<Range> ranges) {
+        return ranges.stream()
+                .map(range -> range.from() == range.to()
+                        ? "c == " + charLiteral(range.from())
+                        : "c >= %s && c <= %s".formatted(charLiteral(range.from()), charLiteral(range.to())))
+                .collect(Collectors.joining(" || "));
+    }
+
+    private static String charLiteral(char c) {
+        if (c == '\'' || c == '\\') {
+            return "'\\" + c + "'";
+        }
+        if (c >= 0x20 && c <= 0x7E) {
+            return "'" + c + "'";
+        }
+        // A unicode escape would be decoded before lexing, so write the code as a number
+        return "0x%04X".formatted((int) c);
+    }
+
+    private static final class Parser {
+        private final String regex;
+        private final int end;
+        private int position;
+
+        Parser(String regex) {
+            this.regex = regex;
+            int end = regex.length();
+            if (end > 0 && regex.charAt(end - 1) == '$' && !isEscaped(end - 1)) {
+                end--;
+            }
+            this.end = end;
+            this.position = end > 0 && regex.charAt(0) == '^' ? 1 : 0;
+        }
+
+        SimpleRegex parse() {
+            List<Item> items = new ArrayList<>();
+            while (position < end) {
+                List<Range> ranges = atom();
+                int min = 1;
+                int max = 1;
+                if (position < end) {
+                    switch (regex.charAt(position)) {
+                        case '?' -> { min = 0; position++; }
+                        case '*' -> { min = 0; max = UNBOUNDED; position++; }
+                        case '+' -> { max = UNBOUNDED; position++; }
+                        case '{' -> {
+                            position++;
+                            min = number();
+                            max = min;
+                            if (peek() == ',') {
+                                position++;
+                                max = peek() == '}' ? UNBOUNDED : number();
+                            }
+                            expect('}');
+                            if (max != UNBOUNDED && max < min) {
+                                throw new UnsupportedOperationException();
+                            }
+                        }
+                        default -> { }
+                    }
+                    if (min != 1 || max != 1) {
+                        // Lazy and possessive quantifiers
+                        char next = peek();
+                        if (next == '?' || next == '+') {
+                            throw new UnsupportedOperationException();
+                        }
+                    }
+                }
+                if (max != 0) {
+                    items.add(new Item(normalize(ranges), min, max));
+                }
+            }
+            for (int i = 0; i < items.size(); i++) {
+                Item item = items.get(i);
+                if (item.min() != item.max()) {
+                    for (Item later : items.subList(i + 1, items.size())) {
+                        if (item.overlaps(later)) {
+                            throw new UnsupportedOperationException();
+                        }
+                    }
+                }
+            }
+            return new SimpleRegex(List.copyOf(items));
+        }
+
+        private List<Range> atom() {
+            char c = regex.charAt(position++);
+            return switch (c) {
+                case '[' -> characterClass();
+                case '\\' -> escape();
+                case '.', '(', ')', '|', '*', '+', '?', '{', '}', '^', '$', ']' -> throw new UnsupportedOperationException();
+                default -> List.of(literal(c));
+            };
+        }
+
+        private List<Range> characterClass() {
+            if (peek() == '^' || peek() == ']') {
+                throw new UnsupportedOperationException();
+            }
+            List<Range> ranges = new ArrayList<>();
+            while (true) {
+                if (position >= end) {
+                    throw new UnsupportedOperationException();
+                }
+                char c = regex.charAt(position++);
+                if (c == ']') {
+                    return ranges;
+                }
+                if (c == '[' || (c == '&' && peek() == '&')) {
+                    throw new UnsupportedOperationException();
+                }
+                if (c == '\\') {
+                    List<Range> escaped = escape();
+                    if (escaped.size() > 1 || escaped.getFirst().from() != escaped.getFirst().to()) {
+                        ranges.addAll(escaped);
+                        continue;
+                    }
+                    c = escaped.getFirst().from();
+                }
+                if (peek() == '-' && position + 1 < end && regex.charAt(position + 1) != ']') {
+                    position++;
+                    char to = regex.charAt(position++);
+                    if (to == '\\') {
+                        List<Range> escaped = escape();
+                        if (escaped.size() > 1 || escaped.getFirst().from() != escaped.getFirst().to()) {
+                            throw new UnsupportedOperationException();
+                        }
+                        to = escaped.getFirst().from();
+                    } else if (to == '[') {
+                        throw new UnsupportedOperationException();
+                    }
+                    // Pattern matches code points, so a range across the surrogates would also match a pair
+                    if (to < c || (c < Character.MIN_SURROGATE && to > Character.MAX_SURROGATE)) {
+                        throw new UnsupportedOperationException();
+                    }
+                    ranges.add(new Range(literal(c).from(), literal(to).to()));
+                } else {
+                    ranges.add(literal(c));
+                }
+            }
+        }
+
+        private List<Range> escape() {
+            if (position >= end) {
+                throw new UnsupportedOperationException();
+            }
+            char c = regex.charAt(position++);
+            return switch (c) {
+                case 'd' -> List.of(new Range('0', '9'));
+                case 'w' -> List.of(new Range('a', 'z'), new Range('A', 'Z'), new Range('_', '_'), new Range('0', '9'));
+                case 's' -> List.of(new Range(' ', ' '), new Range('\t', '\r'));
+                case 't' -> List.of(literal('\t'));
+                case 'n' -> List.of(literal('\n'));
+                case 'r' -> List.of(literal('\r'));
+                case 'f' -> List.of(literal('\f'));
+                default -> {
+                    // Escaped ASCII punctuation stands for itself; letters and digits have special meanings
+                    if (c < 0x80 && !Character.isLetterOrDigit(c)) {
+                        yield List.of(literal(c));
+                    }
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        private static Range literal(char c) {
+            if (Character.isSurrogate(c)) {
+                throw new UnsupportedOperationException();
+            }
+            return new Range(c, c);
+        }
+
+        private int number() {
+            int start = position;
+            while (position < end && position - start < 6 && Character.isDigit(regex.charAt(position)) && regex.charAt(position) < 0x80) {
+                position++;
+            }
+            if (position == start) {
+                throw new UnsupportedOperationException();
+            }
+            int value = Integer.parseInt(regex, start, position, 10);
+            if (value > MAX_COUNT) {
+                throw new UnsupportedOperationException();
+            }
+            return value;
+        }
+
+        private char peek() {
+            if (position >= end) {
+                // Also covers an unterminated class or quantifier
+                return '\0';
+            }
+            return regex.charAt(position);
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw new UnsupportedOperationException();
+            }
+            position++;
+        }
+
+        private boolean isEscaped(int index) {
+            int backslashes = 0;
+            while (index - backslashes > 0 && regex.charAt(index - backslashes - 1) == '\\') {
+                backslashes++;
+            }
+            return backslashes % 2 == 1;
+        }
+
+        /** Sorts and merges ranges, so that the generated test is as short as possible. */
+        private static List<Range> normalize(List<Range> ranges) {
+            List<Range> sorted = new ArrayList<>(ranges);
+            sorted.sort(Comparator.comparing(Range::from));
+            List<Range> merged = new ArrayList<>();
+            for (Range range : sorted) {
+                Range last = merged.isEmpty() ? null : merged.getLast();
+                if (last != null && range.from() <= last.to() + 1) {
+                    merged.set(merged.size() - 1, new Range(last.from(), (char) Math.max(last.to(), range.to())));
+                } else {
+                    merged.add(range);
+                }
+            }
+            return List.copyOf(merged);
+        }
+    }
+}
@@ -4,13 +4,21 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class ValidationOutput {
     private static final int INDENT_SIZE = 4;
 
     private final Writer writer;
     private final List<String> variableNames = new ArrayList<>();
+    // Constant names declared in this class, and the one handed to each writer for each requested name
+    private final Set<String> constantNames = new HashSet<>();
+    private final Map<Object, Map<String, String>> constantNamesByOwner = new IdentityHashMap<>();
 
     private int indentLevel = 0;
     private String indent = "";
@@ -54,4 +62,22 @@ public class ValidationOutput {
     public void removeVariable() {
         variableNames.removeLast();
     }
+
+    /**
+     * Returns {@code baseName + suffix}, or {@code baseName + "_2" + suffix}, {@code "_3"}, … if another
+     * writer of this class already took that name. The same {@code owner} always gets the same name for
+     * the same {@code baseName} and {@code suffix}, so the declaration and every use of a constant agree.
+     */
+    public String constantName(Object owner, String baseName, String suffix) {
+        return constantNamesByOwner.computeIfAbsent(owner, key -> new HashMap<>())
+                .computeIfAbsent(baseName + suffix, key -> claimConstantName(baseName, suffix));
+    }
+
+    private String claimConstantName(String baseName, String suffix) {
+        String name = baseName + suffix;
+        for (int i = 2; !constantNames.add(name); i++) {
+            name = baseName + "_" + i + suffix;
+        }
+        return name;
+    }
 }
@@ -1,8 +1,11 @@
 package io.github.raniagus.javalidation.validator.processor;
 
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public interface ValidationWriter {
+    String TEMPLATE_STRING_IMPORT = "io.github.raniagus.javalidation.TemplateString";
+
     default Stream<String> imports() {
         return Stream.empty();
     }
@@ -12,4 +15,48 @@ public interface ValidationWriter {
     default void writePropertiesInitTo(ValidationOutput out) {}
 
     void writeBodyTo(ValidationOutput out);
+
+    /** Writes helper methods that the body calls, after the {@code validate} method of the validator class. */
+    default void writeMethodsTo(ValidationOutput out) {}
+
+    /**
+     * Returns whether the body compares against the current time, so that the validator class declares
+     * a {@code Clock} and takes a {@code validationTime} snapshot at the start of {@code validate}.
+     */
+    default boolean readsClock() {
+        return false;
+    }
+
+    /**
+     * Returns the name of the {@code TemplateString} constant holding the error of a constraint,
+     * e.g. {@code CREATED_AT_PAST_ERROR}. When two constraints of one class would share a name, as
+     * {@code @Min(10)} and {@code @DecimalMin("10")} on the same field do, the later one gets a
+     * counter, e.g. {@code VALUE_GE_10_2_ERROR}.
+     *
+     * @param owner the writer declaring and using the constant
+     */
+    static String errorConstantName(ValidationOutput out, ValidationWriter owner, String constraint) {
+        return out.constantName(owner, constantCase(out.getVariable()) + "_" + constraint, "_ERROR");
+    }
+
+    /** Converts a camel-case identifier to upper snake case, e.g. {@code createdAt} to {@code CREATED_AT}. */
+    static String constantCase(String identifier) {
+        return identifier.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    /**
+     * Writes a {@code TemplateString} constant for an error whose arguments are all known at compile
+     * time, so that the failure path of the generated validator does not allocate a new one.
+     */
+    static void writeErrorConstantTo(ValidationOutput out, String constant, String message, Object... args) {
+        out.write("""
+                private static final TemplateString %s = TemplateString.of(%s%s);\
+                """.formatted(constant, NullUnsafeWriter.javaStringLiteral(message), Stream.of(args)
+                        .map(arg -> arg instanceof String string ? NullUnsafeWriter.javaStringLiteral(string) : arg.toString())
+                        .collect(Collectors.joining(", ", args.length == 0 ? "" : ", ", ""))));
+    }
+
+    static void writeAddErrorTo(ValidationOutput out, String constant) {
+        out.write("validation.addError(%s);".formatted(constant));
+    }
 }
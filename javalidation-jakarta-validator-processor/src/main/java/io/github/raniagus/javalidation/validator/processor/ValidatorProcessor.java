@@ -168,8 +168,14 @@ public class ValidatorProcessor extends AbstractProcessor {
 
     private List<ValidatorClassWriter> parseClassWriters(RoundEnvironment roundEnv) {
         Set<Object> visited = new HashSet<>();
-        return roundEnv.getRootElements().stream()
-                .flatMap(element -> getAllRecordsWithValid(element, visited))
+        List<TypeElement> records = new ArrayList<>();
+        for (VariableElement param : getDeclaredValidParams(roundEnv)) {
+            getRecordsFromParam(param, visited).forEach(records::add);
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            collectRecordsWithValid(element, visited, records);
+        }
+        return records.stream()
                 .distinct()
                 .map(te -> te.getModifiers().contains(Modifier.SEALED)
                         ? parseSealedClassWriter(te)
@@ -177,31 +183,48 @@ public class ValidatorProcessor extends AbstractProcessor {
                 .toList();
     }
 
-    private Stream<TypeElement> getAllRecordsWithValid(Element element, Set<Object> visited) {
+    /** Parameters with {@code @Valid} in declaration position, which javac indexes for us. */
+    private List<VariableElement> getDeclaredValidParams(RoundEnvironment roundEnv) {
+        TypeElement valid = processingEnv.getElementUtils().getTypeElement("jakarta.validation.Valid");
+        if (valid == null) {
+            return List.of();
+        }
+        List<VariableElement> params = new ArrayList<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(valid)) {
+            if (element.getKind() == ElementKind.PARAMETER) {
+                params.add((VariableElement) element);
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Walks the types of a root element for what {@code getElementsAnnotatedWith} cannot report: records
+     * registered by an earlier compilation, and parameters whose {@code @Valid} is only on their type, as in
+     * {@code com.example.@Valid Foo}. Only type elements and executable parameters are visited.
+     */
+    private void collectRecordsWithValid(Element element, Set<Object> visited, List<TypeElement> records) {
         if (!(element instanceof TypeElement typeElement)) {
-            return Stream.empty();
+            return;
         }
 
         if (typeElement.getKind() == ElementKind.RECORD
                 && discoveredClassNames.contains(getValidatorFullName(typeElement))) {
-            return getRecordAndNestedValidAnnotated(typeElement, visited);
+            getRecordAndNestedValidAnnotated(typeElement, visited).forEach(records::add);
+            return;
         }
 
-        Stream<TypeElement> fromParams = getMethodAndConstructorParams(typeElement)
-                .filter(this::isAnnotatedWithValid)
-                .flatMap(e -> getRecordsFromParam(e, visited));
-
-        Stream<TypeElement> fromNested = typeElement.getEnclosedElements().stream()
-                .flatMap(e -> getAllRecordsWithValid(e, visited));
-
-        return Stream.concat(fromParams, fromNested);
-    }
-
-    private Stream<VariableElement> getMethodAndConstructorParams(TypeElement typeElement) {
-        return typeElement.getEnclosedElements().stream()
-                .filter(e -> e instanceof ExecutableElement)
-                .map(e -> (ExecutableElement) e)
-                .flatMap(executableElement -> executableElement.getParameters().stream());
+        for (Element enclosed : typeElement.getEnclosedElements()) {
+            if (enclosed instanceof ExecutableElement executable) {
+                for (VariableElement param : executable.getParameters()) {
+                    if (isAnnotatedWithValid(param.asType()) && !isAnnotatedWithValidElement(param)) {
+                        getRecordsFromParam(param, visited).forEach(records::add);
+                    }
+                }
+            } else if (enclosed instanceof TypeElement) {
+                collectRecordsWithValid(enclosed, visited, records);
+            }
+        }
     }
 
     private Stream<TypeElement> getRecordsFromParam(VariableElement param, Set<Object> visited) {
@@ -296,12 +319,12 @@ public class ValidatorProcessor extends AbstractProcessor {
     }
 
     private boolean isAnnotatedWithValid(VariableElement param) {
-        boolean onElement = param.getAnnotationMirrors().stream()
-                .anyMatch(ValidatorProcessor::isValidAnnotation);
-
-        boolean onType = isAnnotatedWithValid(param.asType());
+        return isAnnotatedWithValidElement(param) || isAnnotatedWithValid(param.asType());
+    }
 
-        return onElement || onType;
+    private boolean isAnnotatedWithValidElement(VariableElement param) {
+        return param.getAnnotationMirrors().stream()
+                .anyMatch(ValidatorProcessor::isValidAnnotation);
     }
 
     private static boolean isValidAnnotation(AnnotationMirror a) {
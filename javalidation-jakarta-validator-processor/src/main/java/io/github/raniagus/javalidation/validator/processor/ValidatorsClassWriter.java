@@ -13,6 +13,7 @@ public record ValidatorsClassWriter(List<RecordValidatorClassWriter> classWriter
     public Stream<String> imports() {
         return Stream.concat(
                 Stream.of(
+                        "java.time.Clock",
                         "java.util.Map",
                         "io.github.raniagus.javalidation.ValidationErrors",
                         "io.github.raniagus.javalidation.validator.Validator",
@@ -64,6 +65,18 @@ public record ValidatorsClassWriter(List<RecordValidatorClassWriter> classWriter
                     public static <T> Validator<T> getValidator(Class<T> clazz) {
                          return HOLDER.getValidator(clazz);
                     }
+
+                    public static void setClock(Clock clock) {
+                         HOLDER.setClock(clock);
+                    }
+
+                    public static void setInterceptor(ValidationInterceptor interceptor) {
+                         HOLDER.setInterceptor(interceptor);
+                    }
+
+                    public static boolean removeInterceptor(ValidationInterceptor interceptor) {
+                         return HOLDER.removeInterceptor(interceptor);
+                    }
                 }
                 """);
     }
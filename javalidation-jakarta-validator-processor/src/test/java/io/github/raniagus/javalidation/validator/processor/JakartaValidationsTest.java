@@ -1,12 +1,22 @@
 package io.github.raniagus.javalidation.validator.processor;
 
 import com.google.testing.compile.JavaFileObjects;
+import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.ValidationErrors;
+import io.github.raniagus.javalidation.validator.DecimalBound;
+import io.github.raniagus.javalidation.validator.Predicates;
+import io.github.raniagus.javalidation.validator.ValidationInterceptor;
+import io.github.raniagus.javalidation.validator.Validator;
+import io.github.raniagus.javalidation.validator.ValidatorsHolder;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.tools.JavaFileObject;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,6 +24,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import test.jakarta.*;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -24,6 +35,7 @@ import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
@@ -31,6 +43,8 @@ import static io.github.raniagus.javalidation.assertj.JavalidationAssertions.ass
 import static com.google.testing.compile.CompilationSubject.assertThat;
 import static com.google.testing.compile.Compiler.javac;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JakartaValidationsTest {
 
@@ -83,11 +97,14 @@ class JakartaValidationsTest {
             "PastOrPresentRecord",
             "FutureRecord",
             "FutureOrPresentRecord",
+            "PastAndFutureRecord",
             "PatternRecord",
             "PatternFlagsRecord",
             "MultiPatternRecord",
+            "SimplePatternRecord",
             "DecimalMinInclusiveRecord",
             "DecimalMinExclusiveRecord",
+            "MinAndDecimalMinRecord",
             "DecimalMaxInclusiveRecord",
             "DecimalMaxExclusiveRecord",
             "DigitsRecord",
@@ -320,6 +337,54 @@ class JakartaValidationsTest {
                     .hasErrorCount(1)
                     .hasFieldError("value", "io.github.raniagus.javalidation.constraints.Email.message");
         }
+
+        @Test
+        void givenLabelOf63Chars_whenValidate_thenIsEmpty() {
+            assertThat(validator.validate(new EmailRecord("user@" + "a".repeat(63) + ".com")))
+                    .isEmpty();
+        }
+
+        @Test
+        void givenLabelOf64Chars_whenValidate_thenHasFieldError() {
+            assertThat(validator.validate(new EmailRecord("user@" + "a".repeat(64) + ".com")))
+                    .hasErrorCount(1)
+                    .hasFieldError("value", "io.github.raniagus.javalidation.constraints.Email.message");
+        }
+
+        @Test
+        void givenHyphenAtLabelEdge_whenValidate_thenHasFieldError() {
+            assertThat(validator.validate(new EmailRecord("user@-example.com"))).hasErrorCount(1);
+            assertThat(validator.validate(new EmailRecord("user@example-.com"))).hasErrorCount(1);
+            assertThat(validator.validate(new EmailRecord("user@ex-ample.com"))).isEmpty();
+        }
+
+        @Test
+        void givenEmptyLabel_whenValidate_thenHasFieldError() {
+            assertThat(validator.validate(new EmailRecord("user@example..com"))).hasErrorCount(1);
+            assertThat(validator.validate(new EmailRecord("user@example.com."))).hasErrorCount(1);
+            assertThat(validator.validate(new EmailRecord("user@.example.com"))).hasErrorCount(1);
+        }
+
+        @Test
+        void givenRandomInputs_whenIsEmail_thenMatchesReferenceRegex() {
+            java.util.regex.Pattern reference = java.util.regex.Pattern.compile("^[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*$");
+            String alphabet = "aZ09.-@_+ \n\u00e9";
+            Random random = new Random(42);
+            for (int n = 0; n < 100_000; n++) {
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(12);
+                for (int i = 0; i < length; i++) {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                if (random.nextInt(4) == 0) {
+                    sb.insert(random.nextInt(sb.length() + 1), "a".repeat(60 + random.nextInt(6)));
+                }
+                String value = sb.toString();
+                assertThat(Predicates.isEmail(value))
+                        .as("isEmail(\"%s\")", value)
+                        .isEqualTo(reference.matcher(value).matches());
+            }
+        }
     }
 
     // ── @Email(regexp) ────────────────────────────────────────────────────────
@@ -521,6 +586,47 @@ class JakartaValidationsTest {
             assertThat(validator.validate(new MinNumberRecord(11L)))
                     .isEmpty();
         }
+
+        @Test
+        void givenOtherNumberSubtypes_whenValidate_thenComparesTheirDecimalForm() {
+            assertThat(validator.validate(new MinNumberRecord(9.99))).hasErrorCount(1);
+            assertThat(validator.validate(new MinNumberRecord(10.0))).isEmpty();
+            assertThat(validator.validate(new MinNumberRecord(9.999f))).hasErrorCount(1);
+            assertThat(validator.validate(new MinNumberRecord(new BigDecimal("9.99")))).hasErrorCount(1);
+            assertThat(validator.validate(new MinNumberRecord(BigInteger.TEN.pow(20)))).isEmpty();
+            assertThat(validator.validate(new MinNumberRecord(new AtomicLong(9)))).hasErrorCount(1);
+        }
+
+        @Test
+        void givenNaNOrInfinity_whenValidate_thenThrowsNumberFormatException() {
+            for (Number value : List.of(Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                    Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY)) {
+                assertThatThrownBy(() -> validator.validate(new MinNumberRecord(value)))
+                        .as("validate(%s)", value)
+                        .isInstanceOf(NumberFormatException.class);
+            }
+        }
+
+        @Test
+        void givenRandomNumbers_whenCompare_thenMatchesBigDecimal() {
+            Random random = new Random(42);
+            for (int n = 0; n < 100_000; n++) {
+                DecimalBound bound = DecimalBound.of(randomDecimal(random));
+                BigDecimal reference = new BigDecimal(bound.toString());
+                long longValue = random.nextBoolean() ? random.nextLong() : random.nextInt(41) - 20;
+                double doubleValue = random.nextBoolean() ? random.nextGaussian() * 20 : Math.round(random.nextGaussian() * 200) / 10.0;
+                float floatValue = (float) doubleValue;
+                assertThat(Integer.signum(bound.compare(longValue)))
+                        .as("compare(%dL) with %s", longValue, reference)
+                        .isEqualTo(BigDecimal.valueOf(longValue).compareTo(reference));
+                assertThat(Integer.signum(bound.compare(doubleValue)))
+                        .as("compare(%s) with %s", doubleValue, reference)
+                        .isEqualTo(BigDecimal.valueOf(doubleValue).compareTo(reference));
+                assertThat(Integer.signum(bound.compare((Number) floatValue)))
+                        .as("compare(%sf) with %s", floatValue, reference)
+                        .isEqualTo(new BigDecimal(Float.toString(floatValue)).compareTo(reference));
+            }
+        }
     }
 
     // ── @Min (CharSequence) ────────────────────────────────────────────────────
@@ -552,6 +658,54 @@ class JakartaValidationsTest {
             assertThat(validator.validate(new MinCharSequenceRecord("11")))
                     .isEmpty();
         }
+
+        @Test
+        void givenDecimalForms_whenValidate_thenComparesTheirValue() {
+            assertThat(validator.validate(new MinCharSequenceRecord("9.999"))).hasErrorCount(1);
+            assertThat(validator.validate(new MinCharSequenceRecord("010.000"))).isEmpty();
+            assertThat(validator.validate(new MinCharSequenceRecord("+10"))).isEmpty();
+            assertThat(validator.validate(new MinCharSequenceRecord("-100"))).hasErrorCount(1);
+            assertThat(validator.validate(new MinCharSequenceRecord("1e1"))).isEmpty();
+            assertThat(validator.validate(new MinCharSequenceRecord("99999999999999999999999"))).isEmpty();
+        }
+
+        @Test
+        void givenRandomDecimals_whenCompare_thenMatchesBigDecimal() {
+            Random random = new Random(42);
+            for (int n = 0; n < 100_000; n++) {
+                DecimalBound bound = DecimalBound.of(randomDecimal(random));
+                BigDecimal reference = new BigDecimal(bound.toString());
+                String value = randomDecimal(random);
+                assertThat(Integer.signum(bound.compare(value)))
+                        .as("compare(\"%s\") with %s", value, reference)
+                        .isEqualTo(new BigDecimal(value).compareTo(reference));
+            }
+        }
+    }
+
+    private static String randomDecimal(Random random) {
+        String digits = "000123456789";
+        StringBuilder sb = new StringBuilder();
+        switch (random.nextInt(4)) {
+            case 0 -> sb.append('-');
+            case 1 -> sb.append('+');
+            default -> { }
+        }
+        int integerLength = random.nextInt(5);
+        for (int i = 0; i < integerLength; i++) {
+            sb.append(digits.charAt(random.nextInt(digits.length())));
+        }
+        if (integerLength == 0 || random.nextBoolean()) {
+            sb.append('.');
+            int fractionLength = 1 + random.nextInt(4);
+            for (int i = 0; i < fractionLength; i++) {
+                sb.append(digits.charAt(random.nextInt(digits.length())));
+            }
+        }
+        if (random.nextInt(8) == 0) {
+            sb.append('E').append(random.nextInt(7) - 3);
+        }
+        return sb.toString();
     }
 
     // ── @Min on double ────────────────────────────────────────────────────────
@@ -822,6 +976,161 @@ class JakartaValidationsTest {
         }
     }
 
+    // ── @Past / @Future with an injected Clock ────────────────────────────────
+    @Nested
+    class PastAndFuture {
+        private static final Instant NOW = Instant.parse("2024-01-01T02:00:00Z");
+
+        private PastAndFutureRecordValidator validatorAt(Clock clock) {
+            PastAndFutureRecordValidator validator = new PastAndFutureRecordValidator();
+            new ValidatorsHolder(Map.of(PastAndFutureRecord.class, validator), clock).initialize();
+            return validator;
+        }
+
+        @Test
+        void givenValuesAroundFixedClock_whenValidate_thenComparesWithIt() {
+            var validator = validatorAt(Clock.fixed(NOW, ZoneOffset.UTC));
+
+            assertThat(validator.validate(new PastAndFutureRecord(
+                    LocalDate.parse("2023-12-31"), NOW.plusMillis(1), Date.from(NOW))))
+                    .isEmpty();
+        }
+
+        @Test
+        void givenValuesAtFixedClock_whenValidate_thenHasFieldErrors() {
+            var validator = validatorAt(Clock.fixed(NOW, ZoneOffset.UTC));
+
+            assertThat(validator.validate(new PastAndFutureRecord(
+                    LocalDate.parse("2024-01-01"), NOW, Date.from(NOW.plusMillis(1)))))
+                    .hasErrorCount(3)
+                    .hasFieldError("birthDate", "io.github.raniagus.javalidation.constraints.Past.message")
+                    .hasFieldError("expiresAt", "io.github.raniagus.javalidation.constraints.Future.message")
+                    .hasFieldError("createdAt", "io.github.raniagus.javalidation.constraints.PastOrPresent.message");
+        }
+
+        @Test
+        void givenClockZone_whenValidate_thenLocalDateIsTakenInThatZone() {
+            var validator = validatorAt(Clock.fixed(NOW, ZoneOffset.ofHours(-5)));
+
+            assertThat(validator.validate(new PastAndFutureRecord(LocalDate.parse("2023-12-31"), null, null)))
+                    .hasErrorCount(1)
+                    .hasFieldError("birthDate", "io.github.raniagus.javalidation.constraints.Past.message");
+        }
+
+        private static Clock advancingClock(AtomicLong reads) {
+            return new Clock() {
+                @Override
+                public ZoneId getZone() {
+                    return ZoneOffset.UTC;
+                }
+
+                @Override
+                public Clock withZone(ZoneId zone) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public Instant instant() {
+                    return NOW.plusSeconds(reads.getAndIncrement());
+                }
+            };
+        }
+
+        @Test
+        void givenClockThatAdvances_whenValidate_thenReadsItOncePerCall() {
+            AtomicLong reads = new AtomicLong();
+            var validator = validatorAt(advancingClock(reads));
+
+            validator.validate(new PastAndFutureRecord(LocalDate.parse("2023-12-31"), NOW.plusSeconds(10), Date.from(NOW)));
+
+            assertThat(reads.get()).isEqualTo(1);
+        }
+
+        @Test
+        void givenNestedValidatorAndClockThatAdvances_whenValidate_thenReadsItOncePerCall() {
+            AtomicLong reads = new AtomicLong();
+            NestedPastAndFutureRecordValidator validator = new NestedPastAndFutureRecordValidator();
+            new ValidatorsHolder(Map.of(
+                    NestedPastAndFutureRecord.class, validator,
+                    PastAndFutureRecord.class, new PastAndFutureRecordValidator()
+            ), advancingClock(reads)).initialize();
+
+            assertThat(validator.validate(new NestedPastAndFutureRecord(NOW.plusMillis(1),
+                    new PastAndFutureRecord(null, NOW.plusMillis(1), Date.from(NOW)))))
+                    .isEmpty();
+            assertThat(reads.get()).isEqualTo(1);
+        }
+
+        @Test
+        void givenInitializedValidator_whenSetClock_thenComparesWithNewClock() {
+            PastAndFutureRecordValidator validator = new PastAndFutureRecordValidator();
+            var holder = new ValidatorsHolder(Map.of(PastAndFutureRecord.class, validator), Clock.fixed(NOW, ZoneOffset.UTC));
+            holder.initialize();
+            var record = new PastAndFutureRecord(null, NOW.plusSeconds(1), null);
+
+            holder.setClock(Clock.fixed(NOW.plusSeconds(2), ZoneOffset.UTC));
+
+            assertThat(validator.validate(record))
+                    .hasErrorCount(1)
+                    .hasFieldError("expiresAt", "io.github.raniagus.javalidation.constraints.Future.message");
+        }
+    }
+
+    // ── ValidatorsHolder interceptor ──────────────────────────────────────────
+    @Nested
+    class Interceptor {
+        @Test
+        void givenInterceptor_whenHolderValidate_thenWrapsTopLevelCallOnly() {
+            List<Object> intercepted = new ArrayList<>();
+            var holder = new ValidatorsHolder(Map.of(
+                    NestedPastAndFutureRecord.class, new NestedPastAndFutureRecordValidator(),
+                    PastAndFutureRecord.class, new PastAndFutureRecordValidator()
+            ));
+            holder.initialize();
+            holder.setInterceptor(new ValidationInterceptor() {
+                @Override
+                public <T> ValidationErrors validate(T instance, Validator<T> validator) {
+                    intercepted.add(instance);
+                    return validator.validate(instance);
+                }
+            });
+            var record = new NestedPastAndFutureRecord(null, new PastAndFutureRecord(null, null, null));
+
+            assertThat(holder.validate(record)).isEmpty();
+            assertThat(intercepted).containsExactly(record);
+        }
+
+        @Test
+        void givenReplacedInterceptor_whenRemoveInterceptor_thenKeepsTheReplacement() {
+            List<Object> intercepted = new ArrayList<>();
+            var holder = new ValidatorsHolder(Map.of(PastAndFutureRecord.class, new PastAndFutureRecordValidator()));
+            holder.initialize();
+            ValidationInterceptor first = new ValidationInterceptor() {
+                @Override
+                public <T> ValidationErrors validate(T instance, Validator<T> validator) {
+                    return validator.validate(instance);
+                }
+            };
+            ValidationInterceptor second = new ValidationInterceptor() {
+                @Override
+                public <T> ValidationErrors validate(T instance, Validator<T> validator) {
+                    intercepted.add(instance);
+                    return validator.validate(instance);
+                }
+            };
+            holder.setInterceptor(first);
+            holder.setInterceptor(second);
+
+            assertThat(holder.removeInterceptor(first)).isFalse();
+            holder.validate(new PastAndFutureRecord(null, null, null));
+            assertThat(intercepted).hasSize(1);
+
+            assertThat(holder.removeInterceptor(second)).isTrue();
+            holder.validate(new PastAndFutureRecord(null, null, null));
+            assertThat(intercepted).hasSize(1);
+        }
+    }
+
     // ── @Past (LocalDate) ──────────────────────────────────────────────────────
     @Nested
     class PastLocalDate {
@@ -1303,6 +1612,114 @@ class JakartaValidationsTest {
         }
     }
 
+    // ── @Pattern as a char loop ───────────────────────────────────────────────
+    @Nested
+    class SimplePattern {
+        SimplePatternRecordValidator validator = new SimplePatternRecordValidator();
+
+        @Test
+        void givenMatchingValues_whenValidate_thenIsEmpty() {
+            assertThat(validator.validate(new SimplePatternRecord("USD", "12345678", "INV-42", List.of("", "a_b"))))
+                    .isEmpty();
+        }
+
+        @Test
+        void givenNonMatchingValues_whenValidate_thenHasFieldErrors() {
+            assertThat(validator.validate(new SimplePatternRecord("usd", "123", "INV-", List.of("ok", "Not ok"))))
+                    .hasErrorCount(4)
+                    .hasFieldError("currency", "io.github.raniagus.javalidation.constraints.Pattern.message", "^[A-Z]{3}$")
+                    .hasFieldError("accountNumber", "io.github.raniagus.javalidation.constraints.Pattern.message", "^\\d{4,10}$")
+                    .hasFieldError("invoice", "io.github.raniagus.javalidation.constraints.Pattern.message", "INV-\\d+")
+                    .hasFieldErrorAt(FieldKey.of("tags", 1), "io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-z_]*$");
+        }
+
+        @Test
+        void givenRandomValues_whenValidate_thenMatchesPattern() {
+            java.util.regex.Pattern currency = java.util.regex.Pattern.compile("^[A-Z]{3}$");
+            java.util.regex.Pattern accountNumber = java.util.regex.Pattern.compile("^\\d{4,10}$");
+            java.util.regex.Pattern invoice = java.util.regex.Pattern.compile("INV-\\d+");
+            java.util.regex.Pattern tag = java.util.regex.Pattern.compile("^[a-z_]*$");
+            Random random = new Random(42);
+            String alphabet = "AINVZaz_-09\u00e9\n";
+            for (int n = 0; n < 20_000; n++) {
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(13);
+                for (int i = 0; i < length; i++) {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                String value = random.nextBoolean() ? sb.toString() : "INV-" + sb;
+                var result = validator.validate(new SimplePatternRecord(value, value, value, List.of(value)));
+                assertThat(result.count(FieldKey.of("currency")) > 0).as("currency %s", value)
+                        .isNotEqualTo(currency.matcher(value).matches());
+                assertThat(result.count(FieldKey.of("accountNumber")) > 0).as("accountNumber %s", value)
+                        .isNotEqualTo(accountNumber.matcher(value).matches());
+                assertThat(result.count(FieldKey.of("invoice")) > 0).as("invoice %s", value)
+                        .isNotEqualTo(invoice.matcher(value).matches());
+                assertThat(result.count(FieldKey.of("tags", 0)) > 0).as("tags %s", value)
+                        .isNotEqualTo(tag.matcher(value).matches());
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "^[\\p{IsLatin}\\p{M}]+$",
+                "^.{3,10}$",
+                "(ab)+",
+                "a|b",
+                "[^a]",
+                "\\d{1,3}\\d",
+                "[a-z]+?",
+                "\\u0041",
+                "[a-z&&[^e]]",
+                "[\\x{0}-\\x{FFFF}]",
+                "\\Qa\\E",
+        })
+        void givenComplexRegex_whenParse_thenKeepsPattern(String regex) {
+            assertThat(SimpleRegex.parse(regex, List.of())).isNull();
+        }
+
+        @Test
+        void givenSimpleRegexWithMatchingFlag_whenParse_thenKeepsPattern() {
+            assertThat(SimpleRegex.parse("[a-z]+", List.of("CASE_INSENSITIVE"))).isNull();
+            assertThat(SimpleRegex.parse("[a-z]+", List.of("MULTILINE"))).isNotNull();
+        }
+
+        @Test
+        void givenSameRegexAndFlags_whenPattern_thenSharesInstance() {
+            assertThat(Predicates.pattern(".*example.*", java.util.regex.Pattern.CASE_INSENSITIVE))
+                    .isSameAs(Predicates.pattern(".*example.*", java.util.regex.Pattern.CASE_INSENSITIVE))
+                    .isNotSameAs(Predicates.pattern(".*example.*"));
+        }
+    }
+
+    // ── JFR ───────────────────────────────────────────────────────────────────
+    @Nested
+    class FlightRecorder {
+        @Test
+        void givenRecording_whenValidate_thenRecordsValidateEvent() throws Exception {
+            ValidatorsHolder holder = new ValidatorsHolder(Map.of(SimplePatternRecord.class, new SimplePatternRecordValidator()));
+            holder.initialize();
+            java.nio.file.Path file = java.nio.file.Files.createTempFile("javalidation", ".jfr");
+            try (jdk.jfr.Recording recording = new jdk.jfr.Recording()) {
+                recording.enable("io.github.raniagus.javalidation.Validate");
+                recording.start();
+                holder.validate(new SimplePatternRecord("usd", "1234", "INV-1", List.of()));
+                recording.stop();
+                recording.dump(file);
+
+                assertThat(jdk.jfr.consumer.RecordingFile.readAllEvents(file))
+                        .filteredOn(event -> event.getEventType().getName().equals("io.github.raniagus.javalidation.Validate"))
+                        .singleElement()
+                        .satisfies(event -> {
+                            assertThat(event.getClass("type").getName()).isEqualTo(SimplePatternRecord.class.getName());
+                            assertThat(event.getInt("errorCount")).isEqualTo(1);
+                        });
+            } finally {
+                java.nio.file.Files.deleteIfExists(file);
+            }
+        }
+    }
+
     // ── @DecimalMin ───────────────────────────────────────────────────────────
     @Nested
     class DecimalMin {
@@ -1342,6 +1759,26 @@ class JakartaValidationsTest {
         }
     }
 
+    // ── @Min + @DecimalMin (same bound) ───────────────────────────────────────
+    @Nested
+    class MinAndDecimalMin {
+        MinAndDecimalMinRecordValidator validator = new MinAndDecimalMinRecordValidator();
+
+        @Test
+        void givenBelowBothMins_whenValidate_thenHasBothFieldErrors() {
+            assertThat(validator.validate(new MinAndDecimalMinRecord(5)))
+                    .hasErrorCount(2)
+                    .hasFieldError("value", "io.github.raniagus.javalidation.constraints.Min.message", 10)
+                    .hasFieldError("value", "io.github.raniagus.javalidation.constraints.DecimalMin.message", "10");
+        }
+
+        @Test
+        void givenAtMin_whenValidate_thenIsEmpty() {
+            assertThat(validator.validate(new MinAndDecimalMinRecord(10)))
+                    .isEmpty();
+        }
+    }
+
     // ── @DecimalMax ───────────────────────────────────────────────────────────
     @Nested
     class DecimalMax {
@@ -1411,6 +1848,61 @@ class JakartaValidationsTest {
                     .hasErrorCount(1)
                     .hasFieldError("value", "io.github.raniagus.javalidation.constraints.Digits.message", 5, 2);
         }
+
+        @Test
+        void givenTrailingFractionZeros_whenValidate_thenIsEmpty() {
+            assertThat(validator.validate(new DigitsRecord(new BigDecimal("12345.6700"))))
+                    .isEmpty();
+            assertThat(validator.validate(new DigitsRecord(new BigDecimal("0.000"))))
+                    .isEmpty();
+        }
+
+        @Test
+        void givenRandomValues_whenDigits_thenMatchesStrippedBigDecimal() {
+            Random random = new Random(42);
+            for (int n = 0; n < 100_000; n++) {
+                long unscaled = switch (random.nextInt(3)) {
+                    case 0 -> random.nextLong();
+                    case 1 -> random.nextInt(2_000_000) - 1_000_000;
+                    default -> (random.nextInt(2000) - 1000) * (long) Math.pow(10, random.nextInt(8));
+                };
+                double fractional = unscaled / Math.pow(10, random.nextInt(6));
+                int integer = random.nextInt(21);
+                int fraction = random.nextInt(6);
+                assertThat(Predicates.digits(unscaled, integer, fraction))
+                        .as("digits(%dL, %d, %d)", unscaled, integer, fraction)
+                        .isEqualTo(referenceDigits(BigDecimal.valueOf(unscaled), integer, fraction));
+                assertThat(Predicates.digits((double) unscaled, integer, fraction))
+                        .as("digits(%s, %d, %d)", (double) unscaled, integer, fraction)
+                        .isEqualTo(referenceDigits(BigDecimal.valueOf((double) unscaled), integer, fraction));
+                assertThat(Predicates.digits(fractional, integer, fraction))
+                        .as("digits(%s, %d, %d)", fractional, integer, fraction)
+                        .isEqualTo(referenceDigits(BigDecimal.valueOf(fractional), integer, fraction));
+                BigDecimal decimal = BigDecimal.valueOf(unscaled, random.nextInt(12) - 4);
+                assertThat(Predicates.digits(decimal, integer, fraction))
+                        .as("digits(%s, %d, %d)", decimal, integer, fraction)
+                        .isEqualTo(referenceDigits(decimal, integer, fraction));
+            }
+        }
+
+        @Test
+        void givenExtremeValues_whenDigits_thenMatchesStrippedBigDecimal() {
+            assertThat(Predicates.digits(Long.MIN_VALUE, 19, 0)).isTrue();
+            assertThat(Predicates.digits(Long.MIN_VALUE, 18, 0)).isFalse();
+            assertThat(Predicates.digits(Long.MAX_VALUE, 19, 0)).isTrue();
+            assertThat(Predicates.digits(-0.0, 1, 0)).isTrue();
+            assertThat(Predicates.digits(1e23, 24, 0)).isEqualTo(referenceDigits(BigDecimal.valueOf(1e23), 24, 0));
+            assertThat(Predicates.digits(Double.NaN, 5, 2)).isFalse();
+            assertThat(Predicates.digits(Double.POSITIVE_INFINITY, 5, 2)).isFalse();
+            BigInteger big = BigInteger.TEN.pow(30);
+            assertThat(Predicates.digits(big, 31, 0)).isTrue();
+            assertThat(Predicates.digits(big, 30, 0)).isFalse();
+        }
+
+        private static boolean referenceDigits(BigDecimal value, int integer, int fraction) {
+            BigDecimal normalized = value.stripTrailingZeros();
+            return normalized.precision() - normalized.scale() <= integer && Math.max(0, normalized.scale()) <= fraction;
+        }
     }
 
     @Nested
@@ -1461,6 +1953,34 @@ class JakartaValidationsTest {
                     .hasErrorCount(1)
                     .hasFieldError("value", "io.github.raniagus.javalidation.constraints.Digits.message", 5, 2);
         }
+
+        @Test
+        void givenMalformedNumber_whenValidate_thenHasFieldError() {
+            assertThat(validator.validate(new DigitsCharSequenceRecord(""))).hasErrorCount(1);
+            assertThat(validator.validate(new DigitsCharSequenceRecord("-"))).hasErrorCount(1);
+            assertThat(validator.validate(new DigitsCharSequenceRecord("12."))).hasErrorCount(1);
+            assertThat(validator.validate(new DigitsCharSequenceRecord(".5"))).hasErrorCount(1);
+            assertThat(validator.validate(new DigitsCharSequenceRecord("+1"))).hasErrorCount(1);
+            assertThat(validator.validate(new DigitsCharSequenceRecord("1.2.3"))).hasErrorCount(1);
+        }
+
+        @Test
+        void givenRandomInputs_whenDigits_thenMatchesReferenceRegex() {
+            java.util.regex.Pattern reference = java.util.regex.Pattern.compile("^-?\\d{1,3}(\\.\\d{1,2})?$");
+            String alphabet = "0159.-+e \u0663";
+            Random random = new Random(42);
+            for (int n = 0; n < 100_000; n++) {
+                StringBuilder sb = new StringBuilder();
+                int length = random.nextInt(9);
+                for (int i = 0; i < length; i++) {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                String value = sb.toString();
+                assertThat(Predicates.digits(value, 3, 2))
+                        .as("digits(\"%s\", 3, 2)", value)
+                        .isEqualTo(reference.matcher(value).matches());
+            }
+        }
     }
 
     // ── @Digits (Primitive Integer) ────────────────────────────────────────────
@@ -1523,6 +2043,16 @@ class JakartaValidationsTest {
             assertThat(validator.validate(new DigitsNumberRecord(-12345L)))
                     .isEmpty();
         }
+
+        @Test
+        void givenOtherNumberSubtypes_whenValidate_thenChecksTheirDecimalForm() {
+            assertThat(validator.validate(new DigitsNumberRecord(12345.67))).isEmpty();
+            assertThat(validator.validate(new DigitsNumberRecord(1234.567))).hasErrorCount(1);
+            assertThat(validator.validate(new DigitsNumberRecord(0.1f))).isEmpty();
+            assertThat(validator.validate(new DigitsNumberRecord(new BigDecimal("123.4500")))).isEmpty();
+            assertThat(validator.validate(new DigitsNumberRecord(BigInteger.valueOf(123456)))).hasErrorCount(1);
+            assertThat(validator.validate(new DigitsNumberRecord(new AtomicLong(12345)))).isEmpty();
+        }
     }
 
     // ── @Size (Collection) ────────────────────────────────────────────────────
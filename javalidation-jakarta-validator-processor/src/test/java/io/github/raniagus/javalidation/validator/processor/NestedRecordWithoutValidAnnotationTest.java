@@ -49,6 +49,7 @@ class NestedRecordWithoutValidAnnotationTest {
                     .hasSourceEquivalentTo(JavaFileObjects.forSourceString("test.SkippedRecordValidator", """
                             package test;
 
+                            import io.github.raniagus.javalidation.TemplateString;
                             import io.github.raniagus.javalidation.Validation;
                             import io.github.raniagus.javalidation.validator.InitializableValidator;
                             import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -58,7 +59,8 @@ class NestedRecordWithoutValidAnnotationTest {
                             @NullMarked
                             @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
                             public class SkippedRecordValidator implements InitializableValidator<SkippedRecord> {
-        
+                                private static final TemplateString NAME_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+
                                 @Override
                                 public void initialize(ValidatorsHolder holder) {
                                 }
@@ -68,7 +70,7 @@ class NestedRecordWithoutValidAnnotationTest {
                                     validation.withField("name", () -> {
                                         var name = root.name();
                                         if (name == null) {
-                                            validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                                            validation.addError(NAME_NOT_NULL_ERROR);
                                             return;
                                         }
                                     });
@@ -106,6 +106,7 @@ class ValidateAnnotationTest {
                             package io.github.raniagus.javalidation.validator;
                         
                             import io.github.raniagus.javalidation.ValidationErrors;
+                            import java.time.Clock;
                             import java.util.Map;
                             import javax.annotation.processing.Generated;
                             import org.jspecify.annotations.NullMarked;
@@ -137,6 +138,18 @@ class ValidateAnnotationTest {
                                 public static <T> Validator<T> getValidator(Class<T> clazz) {
                                      return HOLDER.getValidator(clazz);
                                 }
+
+                                public static void setClock(Clock clock) {
+                                     HOLDER.setClock(clock);
+                                }
+
+                                public static void setInterceptor(ValidationInterceptor interceptor) {
+                                     HOLDER.setInterceptor(interceptor);
+                                }
+
+                                public static boolean removeInterceptor(ValidationInterceptor interceptor) {
+                                     return HOLDER.removeInterceptor(interceptor);
+                                }
                             }
                             """));
         }
@@ -252,6 +265,7 @@ class ValidateAnnotationTest {
                             package io.github.raniagus.javalidation.validator;
                         
                             import io.github.raniagus.javalidation.ValidationErrors;
+                            import java.time.Clock;
                             import java.util.Map;
                             import javax.annotation.processing.Generated;
                             import org.jspecify.annotations.NullMarked;
@@ -286,6 +300,18 @@ class ValidateAnnotationTest {
                                 public static <T> Validator<T> getValidator(Class<T> clazz) {
                                      return HOLDER.getValidator(clazz);
                                 }
+
+                                public static void setClock(Clock clock) {
+                                     HOLDER.setClock(clock);
+                                }
+
+                                public static void setInterceptor(ValidationInterceptor interceptor) {
+                                     HOLDER.setInterceptor(interceptor);
+                                }
+
+                                public static boolean removeInterceptor(ValidationInterceptor interceptor) {
+                                     return HOLDER.removeInterceptor(interceptor);
+                                }
                             }
                             """));
         }
@@ -399,6 +425,7 @@ class ValidateAnnotationTest {
                             package io.github.raniagus.javalidation.validator;
                         
                             import io.github.raniagus.javalidation.ValidationErrors;
+                            import java.time.Clock;
                             import java.util.Map;
                             import javax.annotation.processing.Generated;
                             import org.jspecify.annotations.NullMarked;
@@ -432,6 +459,18 @@ class ValidateAnnotationTest {
                                 public static <T> Validator<T> getValidator(Class<T> clazz) {
                                      return HOLDER.getValidator(clazz);
                                 }
+
+                                public static void setClock(Clock clock) {
+                                     HOLDER.setClock(clock);
+                                }
+
+                                public static void setInterceptor(ValidationInterceptor interceptor) {
+                                     HOLDER.setInterceptor(interceptor);
+                                }
+
+                                public static boolean removeInterceptor(ValidationInterceptor interceptor) {
+                                     return HOLDER.removeInterceptor(interceptor);
+                                }
                             }
                             """));
         }
@@ -552,6 +591,7 @@ class ValidateAnnotationTest {
                             package io.github.raniagus.javalidation.validator;
                         
                             import io.github.raniagus.javalidation.ValidationErrors;
+                            import java.time.Clock;
                             import java.util.Map;
                             import javax.annotation.processing.Generated;
                             import org.jspecify.annotations.NullMarked;
@@ -568,8 +608,8 @@ class ValidateAnnotationTest {
                         
                                 static {
                                     HOLDER = new ValidatorsHolder(Map.ofEntries(
-                                            Map.entry(UserRequest.UserAddress.class, new UserRequest$UserAddressValidator())
-                                          , Map.entry(UserRequest.class, new UserRequestValidator())
+                                            Map.entry(UserRequest.class, new UserRequestValidator())
+                                          , Map.entry(UserRequest.UserAddress.class, new UserRequest$UserAddressValidator())
                                     ));
                                     HOLDER.initialize();
                                 }
@@ -585,6 +625,18 @@ class ValidateAnnotationTest {
                                 public static <T> Validator<T> getValidator(Class<T> clazz) {
                                      return HOLDER.getValidator(clazz);
                                 }
+
+                                public static void setClock(Clock clock) {
+                                     HOLDER.setClock(clock);
+                                }
+
+                                public static void setInterceptor(ValidationInterceptor interceptor) {
+                                     HOLDER.setInterceptor(interceptor);
+                                }
+
+                                public static boolean removeInterceptor(ValidationInterceptor interceptor) {
+                                     return HOLDER.removeInterceptor(interceptor);
+                                }
                             }
                             """));
         }
@@ -766,6 +818,7 @@ class ValidateAnnotationTest {
                         package io.github.raniagus.javalidation.validator;
 
                         import io.github.raniagus.javalidation.ValidationErrors;
+                        import java.time.Clock;
                         import java.util.Map;
                         import javax.annotation.processing.Generated;
                         import org.jspecify.annotations.NullMarked;
@@ -806,6 +859,18 @@ class ValidateAnnotationTest {
                             public static <T> Validator<T> getValidator(Class<T> clazz) {
                                  return HOLDER.getValidator(clazz);
                             }
+
+                            public static void setClock(Clock clock) {
+                                 HOLDER.setClock(clock);
+                            }
+
+                            public static void setInterceptor(ValidationInterceptor interceptor) {
+                                 HOLDER.setInterceptor(interceptor);
+                            }
+
+                            public static boolean removeInterceptor(ValidationInterceptor interceptor) {
+                                 return HOLDER.removeInterceptor(interceptor);
+                            }
                         }
                         """
                     ));
@@ -1,5 +1,6 @@
 package test.collection;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,27 +10,30 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class NestedIterableRecordValidator implements InitializableValidator<NestedIterableRecord> {
-
+    private static final TemplateString SCORES_IS_EMPTY_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+    private static final TemplateString SCORES_ITEM_IS_EMPTY_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+    private static final TemplateString SCORES_ITEM_ITEM_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, NestedIterableRecord root) {
         validation.withField("scores", () -> {
             var scores = root.scores();
             if (scores == null || scores.isEmpty()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+                validation.addError(SCORES_IS_EMPTY_ERROR);
                 return;
             }
             validation.withEach(scores, scoresItem -> {
                 if (scoresItem == null || scoresItem.isEmpty()) {
-                    validation.addError("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+                    validation.addError(SCORES_ITEM_IS_EMPTY_ERROR);
                     return;
                 }
                 validation.withEach(scoresItem, scoresItemItem -> {
                     if (scoresItemItem == null) {
-                        validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                        validation.addError(SCORES_ITEM_ITEM_NOT_NULL_ERROR);
                         return;
                     }
                 });
@@ -1,5 +1,7 @@
 package test.collection;
 
+import io.github.raniagus.javalidation.FieldKeyPart;
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,11 +11,15 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class NestedMapRecordValidator implements InitializableValidator<NestedMapRecord> {
-
+    private static final TemplateString SCORES_KEY_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    private static final TemplateString SCORES_VALUE_IS_EMPTY_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+    private static final TemplateString SCORES_VALUE_KEY_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    private static final TemplateString SCORES_VALUE_VALUE_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, NestedMapRecord root) {
         validation.withField("scores", () -> {
@@ -21,22 +27,22 @@ public class NestedMapRecordValidator implements InitializableValidator<NestedMa
             if (scores == null) return;
             scores.forEach((scoresKey, scoresValue) -> {
                 if (scoresKey == null) {
-                    validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                    validation.addError(SCORES_KEY_NOT_NULL_ERROR);
                     return;
                 }
-                validation.withField(scoresKey, () -> {
+                validation.withField(FieldKeyPart.of(scoresKey), () -> {
                     if (scoresValue == null || scoresValue.isEmpty()) {
-                        validation.addError("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+                        validation.addError(SCORES_VALUE_IS_EMPTY_ERROR);
                         return;
                     }
                     scoresValue.forEach((scoresValueKey, scoresValueValue) -> {
                         if (scoresValueKey == null) {
-                            validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                            validation.addError(SCORES_VALUE_KEY_NOT_NULL_ERROR);
                             return;
                         }
-                        validation.withField(scoresValueKey, () -> {
+                        validation.withField(FieldKeyPart.of(scoresValueKey), () -> {
                             if (scoresValueValue == null) {
-                                validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                                validation.addError(SCORES_VALUE_VALUE_NOT_NULL_ERROR);
                                 return;
                             }
                         });
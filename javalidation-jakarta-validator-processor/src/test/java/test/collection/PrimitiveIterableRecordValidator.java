@@ -1,5 +1,6 @@
 package test.collection;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,25 +10,27 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class PrimitiveIterableRecordValidator implements InitializableValidator<PrimitiveIterableRecord> {
-
+    private static final TemplateString TAGS_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    private static final TemplateString TAGS_ITEM_SIZE_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Size.message", 3, 10);
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, PrimitiveIterableRecord root) {
         validation.withField("tags", () -> {
             var tags = root.tags();
             if (tags == null) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                validation.addError(TAGS_NOT_NULL_ERROR);
                 return;
             }
             validation.withEach(tags, tagsItem -> {
                 if (tagsItem == null) return;
                 if (tagsItem.length() < 3 || tagsItem.length() > 10) {
-                    validation.addError("io.github.raniagus.javalidation.constraints.Size.message", 3, 10);
+                    validation.addError(TAGS_ITEM_SIZE_ERROR);
                 }
             });
         });
     }
-}
\ No newline at end of file
+}
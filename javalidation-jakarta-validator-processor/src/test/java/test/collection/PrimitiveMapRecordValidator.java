@@ -1,5 +1,7 @@
 package test.collection;
 
+import io.github.raniagus.javalidation.FieldKeyPart;
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,27 +11,30 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class PrimitiveMapRecordValidator implements InitializableValidator<PrimitiveMapRecord> {
-
+    private static final TemplateString TAGS_IS_EMPTY_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+    private static final TemplateString TAGS_KEY_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    private static final TemplateString TAGS_VALUE_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, PrimitiveMapRecord root) {
         validation.withField("tags", () -> {
             var tags = root.tags();
             if (tags == null || tags.isEmpty()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+                validation.addError(TAGS_IS_EMPTY_ERROR);
                 return;
             }
             tags.forEach((tagsKey, tagsValue) -> {
                 if (tagsKey == null) {
-                    validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                    validation.addError(TAGS_KEY_NOT_NULL_ERROR);
                     return;
                 }
-                validation.withField(tagsKey, () -> {
+                validation.withField(FieldKeyPart.of(tagsKey), () -> {
                     if (tagsValue == null) {
-                        validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                        validation.addError(TAGS_VALUE_NOT_NULL_ERROR);
                         return;
                     }
                 });
@@ -1,5 +1,6 @@
 package test.collection;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,17 +10,18 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class ValidatedIterableRecord$PersonValidator implements InitializableValidator<ValidatedIterableRecord.Person> {
-
+    private static final TemplateString NAME_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, ValidatedIterableRecord.Person root) {
         validation.withField("name", () -> {
             var name = root.name();
             if (name == null) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                validation.addError(NAME_NOT_NULL_ERROR);
                 return;
             }
         });
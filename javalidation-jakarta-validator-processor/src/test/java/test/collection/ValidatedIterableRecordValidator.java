@@ -1,5 +1,6 @@
 package test.collection;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.Validator;
@@ -10,24 +11,26 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class ValidatedIterableRecordValidator implements InitializableValidator<ValidatedIterableRecord> {
+    private static final TemplateString FRIENDS_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    private static final TemplateString FRIENDS_ITEM_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
     private Validator<ValidatedIterableRecord.Person> friendsItemValidator;
-
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
         friendsItemValidator = holder.getValidator(ValidatedIterableRecord.Person.class);
     }
-
+    
     @Override
     public void validate(Validation validation, ValidatedIterableRecord root) {
         validation.withField("friends", () -> {
             var friends = root.friends();
             if (friends == null) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                validation.addError(FRIENDS_NOT_NULL_ERROR);
                 return;
             }
             validation.withEach(friends, friendsItem -> {
                 if (friendsItem == null) {
-                    validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                    validation.addError(FRIENDS_ITEM_NOT_NULL_ERROR);
                     return;
                 }
                 friendsItemValidator.validate(validation, friendsItem);
@@ -1,5 +1,7 @@
 package test.collection;
 
+import io.github.raniagus.javalidation.FieldKeyPart;
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.Validator;
@@ -10,29 +12,32 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class ValidatedMapRecordValidator implements InitializableValidator<ValidatedMapRecord> {
+    private static final TemplateString FRIENDS_IS_EMPTY_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+    private static final TemplateString FRIENDS_KEY_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    private static final TemplateString FRIENDS_VALUE_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
     private Validator<ValidatedMapRecord.Person> friendsValueValidator;
-
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
         friendsValueValidator = holder.getValidator(ValidatedMapRecord.Person.class);
     }
-
+    
     @Override
     public void validate(Validation validation, ValidatedMapRecord root) {
         validation.withField("friends", () -> {
             var friends = root.friends();
             if (friends == null || friends.isEmpty()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+                validation.addError(FRIENDS_IS_EMPTY_ERROR);
                 return;
             }
             friends.forEach((friendsKey, friendsValue) -> {
                 if (friendsKey == null) {
-                    validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                    validation.addError(FRIENDS_KEY_NOT_NULL_ERROR);
                     return;
                 }
-                validation.withField(friendsKey, () -> {
+                validation.withField(FieldKeyPart.of(friendsKey), () -> {
                     if (friendsValue == null) {
-                        validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                        validation.addError(FRIENDS_VALUE_NOT_NULL_ERROR);
                         return;
                     }
                     friendsValueValidator.validate(validation, friendsValue);
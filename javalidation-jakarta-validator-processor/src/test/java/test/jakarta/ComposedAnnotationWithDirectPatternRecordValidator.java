@@ -1,36 +1,73 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
-import java.util.regex.Pattern;
 import javax.annotation.processing.Generated;
 import org.jspecify.annotations.NullMarked;
 
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class ComposedAnnotationWithDirectPatternRecordValidator implements InitializableValidator<ComposedAnnotationWithDirectPatternRecord> {
-    private static final Pattern VALUE_PATTERN = Pattern.compile("^[0-9]+$");
-    private static final Pattern VALUE_PATTERN_2 = Pattern.compile("^[a-zA-Z]+$");
-
+    private static final TemplateString VALUE_IS_BLANK_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotBlank.message");
+    private static final TemplateString VALUE_PATTERN_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "^[0-9]+$");
+    private static final TemplateString VALUE_PATTERN_2_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-zA-Z]+$");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, ComposedAnnotationWithDirectPatternRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null || value.isBlank()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotBlank.message");
+                validation.addError(VALUE_IS_BLANK_ERROR);
                 return;
             }
-            if (!VALUE_PATTERN.matcher(value.toString()).matches()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Pattern.message", "^[0-9]+$");
+            if (!matchesValuePattern(value)) {
+                validation.addError(VALUE_PATTERN_ERROR);
             }
-            if (!VALUE_PATTERN_2.matcher(value.toString()).matches()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-zA-Z]+$");
+            if (!matchesValuePattern_2(value)) {
+                validation.addError(VALUE_PATTERN_2_ERROR);
             }
         });
     }
+    
+    private static boolean matchesValuePattern(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        int count0 = 0;
+        while (i < length) {
+            char c = input.charAt(i);
+            if (!(c >= '0' && c <= '9')) {
+                break;
+            }
+            i++;
+            count0++;
+        }
+        if (count0 < 1) {
+            return false;
+        }
+        return i == length;
+    }
+    
+    private static boolean matchesValuePattern_2(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        int count0 = 0;
+        while (i < length) {
+            char c = input.charAt(i);
+            if (!(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z')) {
+                break;
+            }
+            i++;
+            count0++;
+        }
+        if (count0 < 1) {
+            return false;
+        }
+        return i == length;
+    }
 }
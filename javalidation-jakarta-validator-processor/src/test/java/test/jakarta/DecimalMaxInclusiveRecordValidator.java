@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -10,20 +11,21 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class DecimalMaxInclusiveRecordValidator implements InitializableValidator<DecimalMaxInclusiveRecord> {
-
     private static final BigDecimal VALUE_LE_10_5 = new BigDecimal("10.5");
 
+    private static final TemplateString VALUE_LE_10_5_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.DecimalMax.message", "10.5");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, DecimalMaxInclusiveRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
             if (!(value.compareTo(VALUE_LE_10_5) <= 0)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.DecimalMax.message", "10.5");
+                validation.addError(VALUE_LE_10_5_ERROR);
             }
         });
     }
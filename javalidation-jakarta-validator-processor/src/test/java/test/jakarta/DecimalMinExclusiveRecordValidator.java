@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -10,20 +11,21 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class DecimalMinExclusiveRecordValidator implements InitializableValidator<DecimalMinExclusiveRecord> {
-
     private static final BigDecimal VALUE_GT_10_5 = new BigDecimal("10.5");
 
+    private static final TemplateString VALUE_GT_10_5_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.DecimalMin.exclusive.message", "10.5");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, DecimalMinExclusiveRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
             if (!(value.compareTo(VALUE_GT_10_5) > 0)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.DecimalMin.exclusive.message", "10.5");
+                validation.addError(VALUE_GT_10_5_ERROR);
             }
         });
     }
@@ -1,28 +1,29 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.Predicates;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
-import java.math.BigDecimal;
 import javax.annotation.processing.Generated;
 import org.jspecify.annotations.NullMarked;
 
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class DigitsNumberRecordValidator implements InitializableValidator<DigitsNumberRecord> {
-
+    private static final TemplateString VALUE_DIGITS_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Digits.message", 5, 2);
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, DigitsNumberRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
-            if (!Predicates.digits(new BigDecimal(value.toString()), 5, 2)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Digits.message", 5, 2);
+            if (!Predicates.numberDigits(value, 5, 2)) {
+                validation.addError(VALUE_DIGITS_ERROR);
             }
         });
     }
@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.Predicates;
@@ -10,18 +11,19 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class DigitsRecordValidator implements InitializableValidator<DigitsRecord> {
-
+    private static final TemplateString VALUE_DIGITS_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Digits.message", 5, 2);
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, DigitsRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
             if (!Predicates.digits(value, 5, 2)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Digits.message", 5, 2);
+                validation.addError(VALUE_DIGITS_ERROR);
             }
         });
     }
@@ -1,35 +1,55 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
-import java.util.regex.Pattern;
 import javax.annotation.processing.Generated;
 import org.jspecify.annotations.NullMarked;
 
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class DoubleComposedAnnotationRecordValidator implements InitializableValidator<DoubleComposedAnnotationRecord> {
-    private static final Pattern VALUE_PATTERN = Pattern.compile("^[a-zA-Z]+$");
-
+    private static final TemplateString VALUE_IS_BLANK_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotBlank.message");
+    private static final TemplateString VALUE_SIZE_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Size.message", 2, 50);
+    private static final TemplateString VALUE_PATTERN_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-zA-Z]+$");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, DoubleComposedAnnotationRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null || value.isBlank()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotBlank.message");
+                validation.addError(VALUE_IS_BLANK_ERROR);
                 return;
             }
             if (value.length() < 2 || value.length() > 50) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Size.message", 2, 50);
+                validation.addError(VALUE_SIZE_ERROR);
             }
-            if (!VALUE_PATTERN.matcher(value.toString()).matches()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-zA-Z]+$");
+            if (!matchesValuePattern(value)) {
+                validation.addError(VALUE_PATTERN_ERROR);
             }
         });
     }
+    
+    private static boolean matchesValuePattern(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        int count0 = 0;
+        while (i < length) {
+            char c = input.charAt(i);
+            if (!(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z')) {
+                break;
+            }
+            i++;
+            count0++;
+        }
+        if (count0 < 1) {
+            return false;
+        }
+        return i == length;
+    }
 }
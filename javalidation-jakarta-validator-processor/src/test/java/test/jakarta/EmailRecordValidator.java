@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.Predicates;
@@ -10,17 +11,19 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class EmailRecordValidator implements InitializableValidator<EmailRecord> {
+    private static final TemplateString VALUE_EMAIL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Email.message");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, EmailRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
             if (!Predicates.isEmail(value)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Email.message");
+                validation.addError(VALUE_EMAIL_ERROR);
             }
         });
     }
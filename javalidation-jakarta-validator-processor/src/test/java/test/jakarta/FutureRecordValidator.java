@@ -1,8 +1,10 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
+import java.time.Clock;
 import java.time.Instant;
 import javax.annotation.processing.Generated;
 import org.jspecify.annotations.NullMarked;
@@ -10,18 +12,22 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class FutureRecordValidator implements InitializableValidator<FutureRecord> {
-
+    private static final TemplateString VALUE_FUTURE_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Future.message");
+    private Clock validationClock = Clock.systemDefaultZone();
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
+        validationClock = holder.clock();
     }
-
+    
     @Override
     public void validate(Validation validation, FutureRecord root) {
+        Instant validationTime = validation.instant(validationClock);
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
-            if (!value.isAfter(Instant.now())) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Future.message");
+            if (!value.isAfter(validationTime)) {
+                validation.addError(VALUE_FUTURE_ERROR);
             }
         });
     }
@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -10,20 +11,21 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class MaxBigDecimalRecordValidator implements InitializableValidator<MaxBigDecimalRecord> {
-
     private static final BigDecimal VALUE_LE_100 = new BigDecimal("100");
 
+    private static final TemplateString VALUE_LE_100_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Max.message", 100);
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, MaxBigDecimalRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
             if (!(value.compareTo(VALUE_LE_100) <= 0)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Max.message", 100);
+                validation.addError(VALUE_LE_100_ERROR);
             }
         });
     }
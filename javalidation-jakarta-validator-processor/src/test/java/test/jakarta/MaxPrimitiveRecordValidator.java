@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,17 +10,18 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class MaxPrimitiveRecordValidator implements InitializableValidator<MaxPrimitiveRecord> {
-
+    private static final TemplateString VALUE_LE_100_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Max.message", 100);
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, MaxPrimitiveRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (!(value <= 100)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Max.message", 100);
+                validation.addError(VALUE_LE_100_ERROR);
             }
         });
     }
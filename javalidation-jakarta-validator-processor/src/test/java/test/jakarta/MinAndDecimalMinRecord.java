@@ -0,0 +1,8 @@
+package test.jakarta;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+
+public record MinAndDecimalMinRecord(
+        @Min(10) @DecimalMin("10") Integer value
+) {}
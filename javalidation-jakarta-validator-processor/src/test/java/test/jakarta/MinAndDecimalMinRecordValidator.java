@@ -0,0 +1,33 @@
+package test.jakarta;
+
+import io.github.raniagus.javalidation.TemplateString;
+import io.github.raniagus.javalidation.Validation;
+import io.github.raniagus.javalidation.validator.InitializableValidator;
+import io.github.raniagus.javalidation.validator.ValidatorsHolder;
+import javax.annotation.processing.Generated;
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+@Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
+public class MinAndDecimalMinRecordValidator implements InitializableValidator<MinAndDecimalMinRecord> {
+    private static final TemplateString VALUE_GE_10_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Min.message", 10);
+    private static final TemplateString VALUE_GE_10_2_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.DecimalMin.message", "10");
+    
+    @Override
+    public void initialize(ValidatorsHolder holder) {
+    }
+    
+    @Override
+    public void validate(Validation validation, MinAndDecimalMinRecord root) {
+        validation.withField("value", () -> {
+            var value = root.value();
+            if (value == null) return;
+            if (!(value >= 10)) {
+                validation.addError(VALUE_GE_10_ERROR);
+            }
+            if (!(value >= 10)) {
+                validation.addError(VALUE_GE_10_2_ERROR);
+            }
+        });
+    }
+}
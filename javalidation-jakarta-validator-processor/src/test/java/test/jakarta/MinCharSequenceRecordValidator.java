@@ -1,29 +1,31 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
+import io.github.raniagus.javalidation.validator.DecimalBound;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
-import java.math.BigDecimal;
 import javax.annotation.processing.Generated;
 import org.jspecify.annotations.NullMarked;
 
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class MinCharSequenceRecordValidator implements InitializableValidator<MinCharSequenceRecord> {
+    private static final DecimalBound VALUE_GE_10 = DecimalBound.of("10");
 
-    private static final BigDecimal VALUE_GE_10 = new BigDecimal("10");
-
+    private static final TemplateString VALUE_GE_10_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Min.message", 10);
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, MinCharSequenceRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
-            if (!(new BigDecimal(value.toString()).compareTo(VALUE_GE_10) >= 0)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Min.message", 10);
+            if (!(VALUE_GE_10.compare(value) >= 0)) {
+                validation.addError(VALUE_GE_10_ERROR);
             }
         });
     }
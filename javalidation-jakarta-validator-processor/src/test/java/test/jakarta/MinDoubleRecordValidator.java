@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,17 +10,18 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class MinDoubleRecordValidator implements InitializableValidator<MinDoubleRecord> {
-
+    private static final TemplateString VALUE_GE_0_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Min.message", 0);
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, MinDoubleRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (!(value >= 0)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Min.message", 0);
+                validation.addError(VALUE_GE_0_ERROR);
             }
         });
     }
@@ -1,7 +1,9 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
+import io.github.raniagus.javalidation.validator.Predicates;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
 import java.util.regex.Pattern;
 import javax.annotation.processing.Generated;
@@ -10,24 +12,44 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class MultiPatternRecordValidator implements InitializableValidator<MultiPatternRecord> {
-    private static final Pattern VALUE_PATTERN = Pattern.compile("^[a-z]+$");
-    private static final Pattern VALUE_PATTERN_2 = Pattern.compile("^.{3,10}$");
+    private static final TemplateString VALUE_PATTERN_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-z]+$");
+    private static final Pattern VALUE_PATTERN_2 = Predicates.pattern("^.{3,10}$");
 
+    private static final TemplateString VALUE_PATTERN_2_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "^.{3,10}$");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, MultiPatternRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
-            if (!VALUE_PATTERN.matcher(value.toString()).matches()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-z]+$");
+            if (!matchesValuePattern(value)) {
+                validation.addError(VALUE_PATTERN_ERROR);
             }
-            if (!VALUE_PATTERN_2.matcher(value.toString()).matches()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Pattern.message", "^.{3,10}$");
+            if (!VALUE_PATTERN_2.matcher(value).matches()) {
+                validation.addError(VALUE_PATTERN_2_ERROR);
             }
         });
     }
+    
+    private static boolean matchesValuePattern(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        int count0 = 0;
+        while (i < length) {
+            char c = input.charAt(i);
+            if (!(c >= 'a' && c <= 'z')) {
+                break;
+            }
+            i++;
+            count0++;
+        }
+        if (count0 < 1) {
+            return false;
+        }
+        return i == length;
+    }
 }
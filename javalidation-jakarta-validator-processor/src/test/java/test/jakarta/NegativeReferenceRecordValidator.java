@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,18 +10,19 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class NegativeReferenceRecordValidator implements InitializableValidator<NegativeReferenceRecord> {
-
+    private static final TemplateString VALUE_LT_0_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Negative.message");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, NegativeReferenceRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
             if (!(value < 0)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Negative.message");
+                validation.addError(VALUE_LT_0_ERROR);
             }
         });
     }
@@ -0,0 +1,10 @@
+package test.jakarta;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import java.time.Instant;
+
+public record NestedPastAndFutureRecord(
+        @Future Instant startsAt,
+        @Valid PastAndFutureRecord inner
+) {}
@@ -0,0 +1,42 @@
+package test.jakarta;
+
+import io.github.raniagus.javalidation.TemplateString;
+import io.github.raniagus.javalidation.Validation;
+import io.github.raniagus.javalidation.validator.InitializableValidator;
+import io.github.raniagus.javalidation.validator.Validator;
+import io.github.raniagus.javalidation.validator.ValidatorsHolder;
+import java.time.Clock;
+import java.time.Instant;
+import javax.annotation.processing.Generated;
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+@Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
+public class NestedPastAndFutureRecordValidator implements InitializableValidator<NestedPastAndFutureRecord> {
+    private static final TemplateString STARTS_AT_FUTURE_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Future.message");
+    private Validator<PastAndFutureRecord> innerValidator;
+    private Clock validationClock = Clock.systemDefaultZone();
+    
+    @Override
+    public void initialize(ValidatorsHolder holder) {
+        validationClock = holder.clock();
+        innerValidator = holder.getValidator(PastAndFutureRecord.class);
+    }
+    
+    @Override
+    public void validate(Validation validation, NestedPastAndFutureRecord root) {
+        Instant validationTime = validation.instant(validationClock);
+        validation.withField("startsAt", () -> {
+            var startsAt = root.startsAt();
+            if (startsAt == null) return;
+            if (!startsAt.isAfter(validationTime)) {
+                validation.addError(STARTS_AT_FUTURE_ERROR);
+            }
+        });
+        validation.withField("inner", () -> {
+            var inner = root.inner();
+            if (inner == null) return;
+            innerValidator.validate(validation, inner);
+        });
+    }
+}
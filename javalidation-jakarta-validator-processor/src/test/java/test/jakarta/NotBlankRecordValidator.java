@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,17 +10,18 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class NotBlankRecordValidator implements InitializableValidator<NotBlankRecord> {
-
+    private static final TemplateString VALUE_IS_BLANK_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotBlank.message");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, NotBlankRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null || value.isBlank()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotBlank.message");
+                validation.addError(VALUE_IS_BLANK_ERROR);
                 return;
             }
         });
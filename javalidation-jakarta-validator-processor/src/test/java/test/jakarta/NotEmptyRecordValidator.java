@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,17 +10,18 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class NotEmptyRecordValidator implements InitializableValidator<NotEmptyRecord> {
-
+    private static final TemplateString VALUE_IS_EMPTY_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, NotEmptyRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null || value.isEmpty()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotEmpty.message");
+                validation.addError(VALUE_IS_EMPTY_ERROR);
                 return;
             }
         });
@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,21 +10,23 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class NotNullAndSizeRecordValidator implements InitializableValidator<NotNullAndSizeRecord> {
-
+    private static final TemplateString VALUE_NOT_NULL_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.NotNull.message");
+    private static final TemplateString VALUE_SIZE_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Size.message", 3, 10);
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, NotNullAndSizeRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) {
-                validation.addError("io.github.raniagus.javalidation.constraints.NotNull.message");
+                validation.addError(VALUE_NOT_NULL_ERROR);
                 return;
             }
             if (value.length() < 3 || value.length() > 10) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Size.message", 3, 10);
+                validation.addError(VALUE_SIZE_ERROR);
             }
         });
     }
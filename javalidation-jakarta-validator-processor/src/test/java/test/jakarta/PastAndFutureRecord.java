@@ -0,0 +1,12 @@
+package test.jakarta;
+
+import jakarta.validation.constraints.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
+
+public record PastAndFutureRecord(
+        @Past LocalDate birthDate,
+        @Future Instant expiresAt,
+        @PastOrPresent Date createdAt
+) {}
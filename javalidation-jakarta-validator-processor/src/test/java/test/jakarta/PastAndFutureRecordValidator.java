@@ -0,0 +1,51 @@
+package test.jakarta;
+
+import io.github.raniagus.javalidation.TemplateString;
+import io.github.raniagus.javalidation.Validation;
+import io.github.raniagus.javalidation.validator.InitializableValidator;
+import io.github.raniagus.javalidation.validator.ValidatorsHolder;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import javax.annotation.processing.Generated;
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+@Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
+public class PastAndFutureRecordValidator implements InitializableValidator<PastAndFutureRecord> {
+    private static final TemplateString BIRTH_DATE_PAST_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Past.message");
+    private static final TemplateString EXPIRES_AT_FUTURE_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Future.message");
+    private static final TemplateString CREATED_AT_PAST_OR_PRESENT_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.PastOrPresent.message");
+    private Clock validationClock = Clock.systemDefaultZone();
+    
+    @Override
+    public void initialize(ValidatorsHolder holder) {
+        validationClock = holder.clock();
+    }
+    
+    @Override
+    public void validate(Validation validation, PastAndFutureRecord root) {
+        Instant validationTime = validation.instant(validationClock);
+        validation.withField("birthDate", () -> {
+            var birthDate = root.birthDate();
+            if (birthDate == null) return;
+            if (!birthDate.isBefore(LocalDate.ofInstant(validationTime, validationClock.getZone()))) {
+                validation.addError(BIRTH_DATE_PAST_ERROR);
+            }
+        });
+        validation.withField("expiresAt", () -> {
+            var expiresAt = root.expiresAt();
+            if (expiresAt == null) return;
+            if (!expiresAt.isAfter(validationTime)) {
+                validation.addError(EXPIRES_AT_FUTURE_ERROR);
+            }
+        });
+        validation.withField("createdAt", () -> {
+            var createdAt = root.createdAt();
+            if (createdAt == null) return;
+            if (createdAt.getTime() > validationTime.toEpochMilli()) {
+                validation.addError(CREATED_AT_PAST_OR_PRESENT_ERROR);
+            }
+        });
+    }
+}
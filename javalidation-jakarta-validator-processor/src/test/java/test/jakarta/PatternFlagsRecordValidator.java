@@ -1,7 +1,9 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
+import io.github.raniagus.javalidation.validator.Predicates;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
 import java.util.regex.Pattern;
 import javax.annotation.processing.Generated;
@@ -10,19 +12,21 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class PatternFlagsRecordValidator implements InitializableValidator<PatternFlagsRecord> {
-    private static final Pattern VALUE_PATTERN = Pattern.compile("^[a-z]+$", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+    private static final Pattern VALUE_PATTERN = Predicates.pattern("^[a-z]+$", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
 
+    private static final TemplateString VALUE_PATTERN_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-z]+$");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, PatternFlagsRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
-            if (!VALUE_PATTERN.matcher(value.toString()).matches()) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-z]+$");
+            if (!VALUE_PATTERN.matcher(value).matches()) {
+                validation.addError(VALUE_PATTERN_ERROR);
             }
         });
     }
@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,17 +10,18 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class PositivePrimitiveRecordValidator implements InitializableValidator<PositivePrimitiveRecord> {
-
+    private static final TemplateString VALUE_GT_0_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Positive.message");
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, PositivePrimitiveRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (!(value > 0)) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Positive.message");
+                validation.addError(VALUE_GT_0_ERROR);
             }
         });
     }
@@ -0,0 +1,10 @@
+package test.jakarta;
+
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public record SimplePatternRecord(
+        @Pattern(regexp = "^[A-Z]{3}$") String currency,
+        @Pattern(regexp = "^\\d{4,10}$") String accountNumber,
+        @Pattern(regexp = "INV-\\d+") String invoice,
+        List<@Pattern(regexp = "^[a-z_]*$") String> tags) {}
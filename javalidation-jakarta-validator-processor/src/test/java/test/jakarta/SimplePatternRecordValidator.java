@@ -0,0 +1,124 @@
+package test.jakarta;
+
+import io.github.raniagus.javalidation.TemplateString;
+import io.github.raniagus.javalidation.Validation;
+import io.github.raniagus.javalidation.validator.InitializableValidator;
+import io.github.raniagus.javalidation.validator.ValidatorsHolder;
+import javax.annotation.processing.Generated;
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+@Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
+public class SimplePatternRecordValidator implements InitializableValidator<SimplePatternRecord> {
+    private static final TemplateString CURRENCY_PATTERN_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "^[A-Z]{3}$");
+    private static final TemplateString ACCOUNT_NUMBER_PATTERN_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "^\\d{4,10}$");
+    private static final TemplateString INVOICE_PATTERN_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "INV-\\d+");
+    private static final TemplateString TAGS_ITEM_PATTERN_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Pattern.message", "^[a-z_]*$");
+    
+    @Override
+    public void initialize(ValidatorsHolder holder) {
+    }
+    
+    @Override
+    public void validate(Validation validation, SimplePatternRecord root) {
+        validation.withField("currency", () -> {
+            var currency = root.currency();
+            if (currency == null) return;
+            if (!matchesCurrencyPattern(currency)) {
+                validation.addError(CURRENCY_PATTERN_ERROR);
+            }
+        });
+        validation.withField("accountNumber", () -> {
+            var accountNumber = root.accountNumber();
+            if (accountNumber == null) return;
+            if (!matchesAccountNumberPattern(accountNumber)) {
+                validation.addError(ACCOUNT_NUMBER_PATTERN_ERROR);
+            }
+        });
+        validation.withField("invoice", () -> {
+            var invoice = root.invoice();
+            if (invoice == null) return;
+            if (!matchesInvoicePattern(invoice)) {
+                validation.addError(INVOICE_PATTERN_ERROR);
+            }
+        });
+        validation.withField("tags", () -> {
+            var tags = root.tags();
+            if (tags == null) return;
+            validation.withEach(tags, tagsItem -> {
+                if (tagsItem == null) return;
+                if (!matchesTagsItemPattern(tagsItem)) {
+                    validation.addError(TAGS_ITEM_PATTERN_ERROR);
+                }
+            });
+        });
+    }
+    
+    private static boolean matchesCurrencyPattern(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        if (length - i < 3) {
+            return false;
+        }
+        for (int end = i + 3; i < end; i++) {
+            char c = input.charAt(i);
+            if (!(c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+    
+    private static boolean matchesAccountNumberPattern(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        int count0 = 0;
+        while (i < length && count0 < 10) {
+            char c = input.charAt(i);
+            if (!(c >= '0' && c <= '9')) {
+                break;
+            }
+            i++;
+            count0++;
+        }
+        if (count0 < 4) {
+            return false;
+        }
+        return i == length;
+    }
+    
+    private static boolean matchesInvoicePattern(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        if (length - i < 4 || input.charAt(i) != 'I' || input.charAt(i + 1) != 'N' || input.charAt(i + 2) != 'V' || input.charAt(i + 3) != '-') {
+            return false;
+        }
+        i += 4;
+        int count4 = 0;
+        while (i < length) {
+            char c = input.charAt(i);
+            if (!(c >= '0' && c <= '9')) {
+                break;
+            }
+            i++;
+            count4++;
+        }
+        if (count4 < 1) {
+            return false;
+        }
+        return i == length;
+    }
+    
+    private static boolean matchesTagsItemPattern(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        while (i < length) {
+            char c = input.charAt(i);
+            if (!(c == '_' || c >= 'a' && c <= 'z')) {
+                break;
+            }
+            i++;
+        }
+        return i == length;
+    }
+}
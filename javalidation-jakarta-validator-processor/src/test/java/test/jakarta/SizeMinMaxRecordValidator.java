@@ -1,5 +1,6 @@
 package test.jakarta;
 
+import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.validator.InitializableValidator;
 import io.github.raniagus.javalidation.validator.ValidatorsHolder;
@@ -9,18 +10,19 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 @Generated("io.github.raniagus.javalidation.validator.processor.ValidatorProcessor")
 public class SizeMinMaxRecordValidator implements InitializableValidator<SizeMinMaxRecord> {
-
+    private static final TemplateString VALUE_SIZE_ERROR = TemplateString.of("io.github.raniagus.javalidation.constraints.Size.message", 1, 10);
+    
     @Override
     public void initialize(ValidatorsHolder holder) {
     }
-
+    
     @Override
     public void validate(Validation validation, SizeMinMaxRecord root) {
         validation.withField("value", () -> {
             var value = root.value();
             if (value == null) return;
             if (value.length() < 1 || value.length() > 10) {
-                validation.addError("io.github.raniagus.javalidation.constraints.Size.message", 1, 10);
+                validation.addError(VALUE_SIZE_ERROR);
             }
         });
     }
@@ -0,0 +1,212 @@
+package io.github.raniagus.javalidation.validator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * The bound of a numeric constraint on a {@link Number} or {@link CharSequence} field, such as
+ * {@code @Min} or {@code @DecimalMax}.
+ * <p>
+ * Every {@code compare} method returns the same sign as {@code new BigDecimal(value.toString()).compareTo(bound)},
+ * but the bound is decoded once, when the generated validator is loaded, so the common value types are
+ * compared without building a {@code String} or a {@code BigDecimal}:
+ * <ul>
+ *   <li>{@code Long}, {@code Integer}, {@code Short} and {@code Byte} are compared with the floor of the bound.</li>
+ *   <li>{@code Double} and {@code Float} are compared with the nearest {@code double} or {@code float} to the
+ *       bound; only a tie falls back to {@code BigDecimal}.</li>
+ *   <li>Plain decimal strings such as {@code -12.50} are compared digit by digit.</li>
+ * </ul>
+ * Any other value, such as a string in scientific notation, is converted to {@code BigDecimal} as before,
+ * and a malformed one still throws {@link NumberFormatException}. So do {@code NaN} and the infinities,
+ * which have no decimal value: they are never silently accepted or rejected.
+ */
+public final class DecimalBound {
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final BigDecimal value;
+    private final int signum;
+    private final boolean inLongRange;
+    private final long floor;
+    private final boolean integral;
+    private final double doubleValue;
+    private final float floatValue;
+    // Digits of the absolute value, without leading integer or trailing fraction zeros
+    private final String integerDigits;
+    private final String fractionDigits;
+
+    private DecimalBound(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        this.value = value;
+        this.signum = value.signum();
+        this.inLongRange = value.compareTo(LONG_MIN) >= 0 && value.compareTo(LONG_MAX) <= 0;
+        this.floor = inLongRange ? value.setScale(0, RoundingMode.FLOOR).longValueExact() : 0;
+        this.integral = stripped.scale() <= 0;
+        this.doubleValue = value.doubleValue();
+        this.floatValue = value.floatValue();
+        String plain = stripped.abs().toPlainString();
+        int dot = plain.indexOf('.');
+        String integerPart = dot < 0 ? plain : plain.substring(0, dot);
+        this.integerDigits = integerPart.equals("0") ? "" : integerPart;
+        this.fractionDigits = dot < 0 ? "" : plain.substring(dot + 1);
+    }
+
+    /**
+     * Creates a bound from its decimal representation.
+     *
+     * @param value the bound, in any format accepted by {@link BigDecimal#BigDecimal(String)}
+     * @return the decoded bound
+     * @throws NumberFormatException if {@code value} is not a valid decimal
+     */
+    public static DecimalBound of(String value) {
+        return new DecimalBound(new BigDecimal(value));
+    }
+
+    /** Compares {@code value} with this bound, returning a negative number, zero or a positive number. */
+    public int compare(Number value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return compare(value.longValue());
+        }
+        if (value instanceof Double d) {
+            return compare(d.doubleValue());
+        }
+        if (value instanceof Float f) {
+            return compare(f.floatValue());
+        }
+        if (value instanceof BigDecimal d) {
+            return d.compareTo(this.value);
+        }
+        if (value instanceof BigInteger i) {
+            return compare(i);
+        }
+        return new BigDecimal(value.toString()).compareTo(this.value);
+    }
+
+    /** Compares {@code value} with this bound, returning a negative number, zero or a positive number. */
+    public int compare(long value) {
+        if (!inLongRange) {
+            return -signum;
+        }
+        if (value != floor) {
+            return value < floor ? -1 : 1;
+        }
+        return integral ? 0 : -1;
+    }
+
+    /**
+     * Compares the shortest decimal representation of {@code value}, as printed by {@link Double#toString(double)},
+     * with this bound. Rounding to the nearest {@code double} preserves order, so a strict inequality between
+     * {@code value} and the {@code double} nearest to the bound carries over to the decimals.
+     *
+     * @throws NumberFormatException if {@code value} is {@code NaN} or infinite
+     */
+    public int compare(double value) {
+        if (!Double.isFinite(value)) {
+            return new BigDecimal(Double.toString(value)).compareTo(this.value); // throws NumberFormatException
+        }
+        if (value == (long) value && Math.abs(value) < 0x1p53) {
+            return compare((long) value);
+        }
+        if (value != doubleValue) {
+            return value < doubleValue ? -1 : 1;
+        }
+        return BigDecimal.valueOf(value).compareTo(this.value);
+    }
+
+    private int compare(float value) {
+        if (!Float.isFinite(value)) {
+            return new BigDecimal(Float.toString(value)).compareTo(this.value); // throws NumberFormatException
+        }
+        if (value == (long) value && Math.abs(value) < 0x1p24f) {
+            return compare((long) value);
+        }
+        if (value != floatValue) {
+            return value < floatValue ? -1 : 1;
+        }
+        return new BigDecimal(Float.toString(value)).compareTo(this.value);
+    }
+
+    /** Compares {@code value} with this bound, returning a negative number, zero or a positive number. */
+    public int compare(BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            return compare(value.longValue());
+        }
+        return new BigDecimal(value).compareTo(this.value);
+    }
+
+    /**
+     * Compares the decimal number in {@code value} with this bound, returning a negative number, zero or a
+     * positive number. Plain ASCII decimals with an optional sign are compared in place.
+     *
+     * @throws NumberFormatException if {@code value} is not a valid decimal
+     */
+    public int compare(CharSequence value) {
+        int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            i++;
+        }
+        int integerStart = i;
+        while (i < length && isAsciiDigit(value.charAt(i))) {
+            i++;
+        }
+        int integerEnd = i;
+        int fractionStart = i;
+        if (i < length && value.charAt(i) == '.') {
+            fractionStart = ++i;
+            while (i < length && isAsciiDigit(value.charAt(i))) {
+                i++;
+            }
+        }
+        int fractionEnd = i;
+        if (i != length || (integerStart == integerEnd && fractionStart == fractionEnd)) {
+            return new BigDecimal(value.toString()).compareTo(this.value);
+        }
+        while (integerStart < integerEnd && value.charAt(integerStart) == '0') {
+            integerStart++;
+        }
+        while (fractionEnd > fractionStart && value.charAt(fractionEnd - 1) == '0') {
+            fractionEnd--;
+        }
+        int valueSignum = integerStart == integerEnd && fractionStart == fractionEnd ? 0 : negative ? -1 : 1;
+        if (valueSignum != signum || valueSignum == 0) {
+            return Integer.compare(valueSignum, signum);
+        }
+        return valueSignum * compareMagnitude(value, integerStart, integerEnd, fractionStart, fractionEnd);
+    }
+
+    private int compareMagnitude(CharSequence value, int integerStart, int integerEnd, int fractionStart, int fractionEnd) {
+        int integerLength = integerEnd - integerStart;
+        if (integerLength != integerDigits.length()) {
+            return integerLength < integerDigits.length() ? -1 : 1;
+        }
+        for (int i = 0; i < integerLength; i++) {
+            int cmp = Character.compare(value.charAt(integerStart + i), integerDigits.charAt(i));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        int fractionLength = fractionEnd - fractionStart;
+        for (int i = 0; i < Math.min(fractionLength, fractionDigits.length()); i++) {
+            int cmp = Character.compare(value.charAt(fractionStart + i), fractionDigits.charAt(i));
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        // Neither side has trailing zeros, so the longer fraction is the larger one
+        return Integer.compare(fractionLength, fractionDigits.length());
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /** Returns the bound as it was given to {@link #of(String)}, e.g. {@code "10"} or {@code "0.5"}. */
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
@@ -1,23 +1,204 @@
 package io.github.raniagus.javalidation.validator;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 public final class Predicates {
-    private static final Pattern EMAIL_REGEX = Pattern.compile("^[a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*$");
+    private static final ConcurrentHashMap<PatternKey, Pattern> PATTERNS = new ConcurrentHashMap<>();
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final boolean[] EMAIL_LOCAL_CHARS = new boolean[128];
 
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            EMAIL_LOCAL_CHARS[c] = true;
+            EMAIL_LOCAL_CHARS[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            EMAIL_LOCAL_CHARS[c] = true;
+        }
+        for (char c : ".!#$%&'*+/=?^_`{|}~-".toCharArray()) {
+            EMAIL_LOCAL_CHARS[c] = true;
+        }
+    }
+
+    /**
+     * Checks {@code value} against the pattern
+     * {@code [a-zA-Z0-9.!#$%&'*+/=?^_`{|}~-]+@[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?(?:\.[a-zA-Z0-9](?:[a-zA-Z0-9-]{0,61}[a-zA-Z0-9])?)*}
+     * in a single pass, without backtracking: a non-empty local part, then dot-separated domain labels of
+     * 1 to 63 ASCII letters, digits and hyphens that neither start nor end with a hyphen.
+     */
     public static boolean isEmail(CharSequence value) {
-        return EMAIL_REGEX.matcher(value).matches();
+        int length = value.length();
+        int i = 0;
+        while (i < length && isEmailLocalChar(value.charAt(i))) {
+            i++;
+        }
+        if (i == 0 || i == length || value.charAt(i) != '@') {
+            return false;
+        }
+        int labelLength = 0;
+        char previous = '@';
+        for (i++; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0 || previous == '-') {
+                    return false;
+                }
+                labelLength = 0;
+            } else if (isAsciiLetterOrDigit(c) || (c == '-' && labelLength > 0)) {
+                if (++labelLength > MAX_LABEL_LENGTH) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+            previous = c;
+        }
+        return labelLength > 0 && previous != '-';
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return c < EMAIL_LOCAL_CHARS.length && EMAIL_LOCAL_CHARS[c];
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns the compiled form of {@code regex}, shared by every generated validator that declares the same
+     * expression with the same flags. Patterns come from annotation values, so the cache is bounded by the
+     * number of distinct {@code @Pattern} declarations.
+     */
+    public static Pattern pattern(String regex, int flags) {
+        return PATTERNS.computeIfAbsent(new PatternKey(regex, flags), key -> Pattern.compile(key.regex(), key.flags()));
+    }
+
+    /** Same as {@link #pattern(String, int)} without flags. */
+    public static Pattern pattern(String regex) {
+        return pattern(regex, 0);
+    }
+
+    private record PatternKey(String regex, int flags) {
     }
 
     public static Predicate<CharSequence> digits(int integer, int fraction) {
-        Pattern regex = Pattern.compile("^-?\\d{1,%d}(\\.\\d{1,%d})?$".formatted(integer, fraction));
-        return value -> regex.matcher(value).matches();
+        return value -> digits(value, integer, fraction);
+    }
+
+    /**
+     * Checks {@code value} against the pattern {@code -?\d{1,integer}(\.\d{1,fraction})?} by scanning its
+     * characters once, without compiling a regex or allocating a {@code Matcher}.
+     */
+    public static boolean digits(CharSequence value, int integer, int fraction) {
+        int length = value.length();
+        int i = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+        int integerStart = i;
+        while (i < length && isAsciiDigit(value.charAt(i))) {
+            i++;
+        }
+        int integerDigits = i - integerStart;
+        if (integerDigits == 0 || integerDigits > integer) {
+            return false;
+        }
+        if (i == length) {
+            return true;
+        }
+        if (value.charAt(i) != '.') {
+            return false;
+        }
+        int fractionStart = ++i;
+        while (i < length && isAsciiDigit(value.charAt(i))) {
+            i++;
+        }
+        int fractionDigits = i - fractionStart;
+        return i == length && fractionDigits > 0 && fractionDigits <= fraction;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Checks that {@code value} has at most {@code integer} digits; integral values have no fraction
+     * digits. Same result as {@link #digits(BigDecimal, int, int)} on {@code BigDecimal.valueOf(value)}.
+     */
+    public static boolean digits(long value, int integer, int fraction) {
+        return integerDigits(value) <= integer && 0 <= fraction;
+    }
+
+    private static int integerDigits(long value) {
+        // Count on the negative magnitude, which also covers Long.MIN_VALUE
+        long magnitude = value < 0 ? value : -value;
+        int count = 1;
+        for (long bound = -10; count < 19 && magnitude <= bound; bound *= 10) {
+            count++;
+        }
+        return count;
     }
 
+    /**
+     * Same result as {@link #digits(BigDecimal, int, int)} on {@code BigDecimal.valueOf(value)}. Integral
+     * values below 2<sup>53</sup>, whose shortest decimal form is the integer itself, are checked without
+     * allocating; NaN and infinities never match.
+     */
+    public static boolean digits(double value, int integer, int fraction) {
+        if (value == (long) value && Math.abs(value) < 0x1p53) {
+            return digits((long) value, integer, fraction);
+        }
+        if (!Double.isFinite(value)) {
+            return false;
+        }
+        return digits(BigDecimal.valueOf(value), integer, fraction);
+    }
+
+    /**
+     * Same result as {@link #digits(BigDecimal, int, int)} on {@code new BigDecimal(value)}, without
+     * allocating when the value fits in a {@code long}.
+     */
+    public static boolean digits(BigInteger value, int integer, int fraction) {
+        if (value.bitLength() < Long.SIZE) {
+            return digits(value.longValue(), integer, fraction);
+        }
+        return new BigDecimal(value).precision() <= integer && 0 <= fraction;
+    }
+
+    /**
+     * Checks that {@code value}, ignoring trailing fraction zeros, has at most {@code integer} integer
+     * digits and {@code fraction} fraction digits. The integer digit count is the same with or without
+     * trailing zeros, so {@code stripTrailingZeros()} is only called when the declared scale is too large.
+     */
     public static boolean digits(BigDecimal value, int integer, int fraction) {
-        BigDecimal normalized = value.stripTrailingZeros();
-        return normalized.precision() - normalized.scale() <= integer && Math.max(0, normalized.scale()) <= fraction;
+        if (value.signum() == 0) {
+            return 1 <= integer && 0 <= fraction;
+        }
+        if (value.precision() - value.scale() > integer) {
+            return false;
+        }
+        return Math.max(0, value.scale()) <= fraction
+                || Math.max(0, value.stripTrailingZeros().scale()) <= fraction;
+    }
+
+    /**
+     * Same result as {@link #digits(BigDecimal, int, int)} on {@code new BigDecimal(value.toString())},
+     * dispatching the standard {@link Number} subtypes to the specialized overloads.
+     */
+    public static boolean numberDigits(Number value, int integer, int fraction) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return digits(value.longValue(), integer, fraction);
+        }
+        if (value instanceof Double d) {
+            return digits(d.doubleValue(), integer, fraction);
+        }
+        if (value instanceof BigDecimal d) {
+            return digits(d, integer, fraction);
+        }
+        if (value instanceof BigInteger i) {
+            return digits(i, integer, fraction);
+        }
+        return digits(new BigDecimal(value.toString()), integer, fraction);
     }
 }
@@ -0,0 +1,25 @@
+package io.github.raniagus.javalidation.validator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event timing a top-level {@code Validators.validate} call, nested validators included. Disabled by
+ * default.
+ */
+@Name("io.github.raniagus.javalidation.Validate")
+@Label("Validate")
+@Category("Javalidation")
+@Description("An object was validated with its generated validator")
+@Enabled(false)
+final class ValidateEvent extends Event {
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Error Count")
+    int errorCount;
+}
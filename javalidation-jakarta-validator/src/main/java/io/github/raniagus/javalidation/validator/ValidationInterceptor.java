@@ -0,0 +1,32 @@
+package io.github.raniagus.javalidation.validator;
+
+import io.github.raniagus.javalidation.ValidationErrors;
+
+/**
+ * Wraps every top-level {@link ValidatorsHolder#validate(Object)} call, nested validators included, e.g. to
+ * time it or count its errors.
+ * <p>
+ * Install one with {@link ValidatorsHolder#setInterceptor(ValidationInterceptor)}, which the generated
+ * {@code Validators} class exposes as {@code Validators.setInterceptor}. It runs on the validating thread,
+ * so it should be cheap, and it must return what {@code validator} returns.
+ */
+public interface ValidationInterceptor {
+    /** Calls the validator and nothing else. */
+    ValidationInterceptor NONE = new ValidationInterceptor() {
+        @Override
+        public <T> ValidationErrors validate(T instance, Validator<T> validator) {
+            return validator.validate(instance);
+        }
+    };
+
+    /**
+     * Validates {@code instance}, typically by calling {@code validator.validate(instance)} between
+     * recording a start and an end.
+     *
+     * @param instance  the object being validated
+     * @param validator the generated validator of its class
+     * @param <T>       the type of the object
+     * @return the errors returned by {@code validator}
+     */
+    <T> ValidationErrors validate(T instance, Validator<T> validator);
+}
@@ -1,8 +1,11 @@
 package io.github.raniagus.javalidation.validator;
 
 import io.github.raniagus.javalidation.ValidationErrors;
+import java.time.Clock;
 
 public final class Validators {
+    private static final System.Logger LOGGER = System.getLogger(Validators.class.getName());
+
     private Validators() {}
 
     public static boolean hasValidator(Class<?> clazz) {
@@ -15,6 +18,26 @@ public final class Validators {
         return validator.validate(instance);
     }
 
+    // Settings have nothing to apply to without a generated registry; validate and getValidator still throw
+    public static void setClock(Clock clock) {
+        warnNoRegistry("setClock");
+    }
+
+    public static void setInterceptor(ValidationInterceptor interceptor) {
+        warnNoRegistry("setInterceptor");
+    }
+
+    public static boolean removeInterceptor(ValidationInterceptor interceptor) {
+        warnNoRegistry("removeInterceptor");
+        return false;
+    }
+
+    private static void warnNoRegistry(String method) {
+        LOGGER.log(System.Logger.Level.WARNING,
+                "Validators.{0} ignored: no generated mapper registry found. Is the annotation processor enabled?",
+                method);
+    }
+
     public static <T> Validator<T> getValidator(Class<T> type) {
         throw new IllegalStateException(
                 "No generated mapper registry found for " + type.getName() +
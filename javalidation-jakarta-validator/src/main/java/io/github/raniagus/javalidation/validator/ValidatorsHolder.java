@@ -1,14 +1,30 @@
 package io.github.raniagus.javalidation.validator;
 
 import io.github.raniagus.javalidation.ValidationErrors;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class ValidatorsHolder {
     private final Map<Class<?>, InitializableValidator<?>> validators;
+    private final HolderClock clock;
+    private final AtomicReference<ValidationInterceptor> interceptor = new AtomicReference<>(ValidationInterceptor.NONE);
 
     public ValidatorsHolder(Map<Class<?>, InitializableValidator<?>> validators) {
+        this(validators, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a holder whose validators check {@code @Past}, {@code @Future} and their variants against
+     * {@code clock}, e.g. a {@link Clock#fixed fixed} clock in tests.
+     */
+    public ValidatorsHolder(Map<Class<?>, InitializableValidator<?>> validators, Clock clock) {
         this.validators = new HashMap<>(validators);
+        this.clock = new HolderClock(Objects.requireNonNull(clock));
     }
 
     public void initialize() {
@@ -17,14 +33,59 @@ public class ValidatorsHolder {
         }
     }
 
+    /**
+     * Returns the clock that temporal constraints are checked against. It follows {@link #setClock(Clock)},
+     * so validators may keep it. Each {@link io.github.raniagus.javalidation.Validation} reads it at most once,
+     * through {@link io.github.raniagus.javalidation.Validation#instant(Clock)}.
+     */
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * Replaces the clock that temporal constraints are checked against, including by validators that were
+     * already initialized. The generated {@code Validators} class exposes this as {@code Validators.setClock}.
+     */
+    public void setClock(Clock clock) {
+        this.clock.delegate = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Wraps every later {@link #validate(Object)} call with {@code interceptor}, e.g. to record metrics.
+     * The generated {@code Validators} class exposes this as {@code Validators.setInterceptor}; pass
+     * {@link ValidationInterceptor#NONE} to remove it.
+     */
+    public void setInterceptor(ValidationInterceptor interceptor) {
+        this.interceptor.set(Objects.requireNonNull(interceptor));
+    }
+
+    /**
+     * Restores {@link ValidationInterceptor#NONE} if {@code interceptor} is still the installed one, so an
+     * owner that was replaced in the meantime does not remove its successor. The generated {@code Validators}
+     * class exposes this as {@code Validators.removeInterceptor}.
+     *
+     * @return {@code true} if {@code interceptor} was installed and has been removed
+     */
+    public boolean removeInterceptor(ValidationInterceptor interceptor) {
+        return this.interceptor.compareAndSet(Objects.requireNonNull(interceptor), ValidationInterceptor.NONE);
+    }
+
     public boolean hasValidator(Class<?> clazz) {
         return validators.containsKey(clazz);
     }
 
     @SuppressWarnings("unchecked")
     public <T> ValidationErrors validate(T instance) {
+        ValidateEvent event = new ValidateEvent();
+        event.begin();
         Validator<T> validator = getValidator((Class<T>) instance.getClass());
-        return validator.validate(instance);
+        ValidationErrors errors = interceptor.get().validate(instance, validator);
+        if (event.shouldCommit()) {
+            event.type = instance.getClass();
+            event.errorCount = errors.count();
+            event.commit();
+        }
+        return errors;
     }
 
     @SuppressWarnings("unchecked")
@@ -36,4 +97,33 @@ public class ValidatorsHolder {
         }
         return (Validator<T>) validators.get(clazz);
     }
+
+    /** The holder's clock, handed to validators once and retargeted by {@link #setClock(Clock)}. */
+    private static final class HolderClock extends Clock {
+        private volatile Clock delegate;
+
+        HolderClock(Clock delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return delegate.getZone();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return delegate.withZone(zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return delegate.instant();
+        }
+
+        @Override
+        public long millis() {
+            return delegate.millis();
+        }
+    }
 }
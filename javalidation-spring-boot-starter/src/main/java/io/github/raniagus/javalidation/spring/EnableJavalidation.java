@@ -21,6 +21,7 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
  *   <li>{@link JavalidationAutoConfiguration} - Core formatters and MessageSource integration</li>
  *   <li>{@link JavalidationJacksonAutoConfiguration} - Jackson serializers for Result, ValidationErrors, etc.</li>
  *   <li>{@link JavalidationValidatorAutoConfiguration} - Spring MVC validator integration</li>
+ *   <li>{@link JavalidationMetricsAutoConfiguration} - Micrometer metrics, when Micrometer is on the classpath</li>
  * </ul>
  *
  * <p>Example usage in a test:
@@ -46,6 +47,7 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
         JavalidationAutoConfiguration.class,
         JavalidationJacksonAutoConfiguration.class,
         JavalidationValidatorAutoConfiguration.class,
+        JavalidationMetricsAutoConfiguration.class,
 })
 public @interface EnableJavalidation {
 }
@@ -3,6 +3,7 @@ package io.github.raniagus.javalidation.spring;
 import static io.github.raniagus.javalidation.spring.JavalidationProperties.PREFIX;
 
 import io.github.raniagus.javalidation.format.BracketNotationFormatter;
+import io.github.raniagus.javalidation.format.CachingFieldKeyFormatter;
 import io.github.raniagus.javalidation.format.DotNotationFormatter;
 import io.github.raniagus.javalidation.format.FieldKeyFormatter;
 import io.github.raniagus.javalidation.format.PropertyPathNotationFormatter;
@@ -28,20 +29,25 @@ public class JavalidationAutoConfiguration {
 
     @Bean
     @ConditionalOnProperty(prefix = PREFIX, name = "key-notation", havingValue = "property_path", matchIfMissing = true)
-    public FieldKeyFormatter propertyPathNotationFieldKeyFormatter() {
-        return new PropertyPathNotationFormatter();
+    public FieldKeyFormatter propertyPathNotationFieldKeyFormatter(JavalidationProperties properties) {
+        return withCache(new PropertyPathNotationFormatter(), properties);
     }
 
     @Bean
     @ConditionalOnProperty(prefix = PREFIX, name = "key-notation", havingValue = "dots")
-    public FieldKeyFormatter dotNotationFieldKeyFormatter() {
-        return new DotNotationFormatter();
+    public FieldKeyFormatter dotNotationFieldKeyFormatter(JavalidationProperties properties) {
+        return withCache(new DotNotationFormatter(), properties);
     }
 
     @Bean
     @ConditionalOnProperty(prefix = PREFIX, name = "key-notation", havingValue = "brackets")
-    public FieldKeyFormatter bracketNotationFieldKeyFormatter() {
-        return new BracketNotationFormatter();
+    public FieldKeyFormatter bracketNotationFieldKeyFormatter(JavalidationProperties properties) {
+        return withCache(new BracketNotationFormatter(), properties);
+    }
+
+    private static FieldKeyFormatter withCache(FieldKeyFormatter formatter, JavalidationProperties properties) {
+        int size = properties.getKeyCacheSize();
+        return size > 0 ? new CachingFieldKeyFormatter(formatter, size) : formatter;
     }
 
     // -- TemplateString formatting --
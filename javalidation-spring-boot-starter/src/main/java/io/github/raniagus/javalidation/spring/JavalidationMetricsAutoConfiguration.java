@@ -0,0 +1,47 @@
+package io.github.raniagus.javalidation.spring;
+
+import io.github.raniagus.javalidation.format.CachingFieldKeyFormatter;
+import io.github.raniagus.javalidation.format.FieldKeyFormatter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@AutoConfiguration(after = JavalidationAutoConfiguration.class, before = JavalidationValidatorAutoConfiguration.class)
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+public class JavalidationMetricsAutoConfiguration {
+    @Bean
+    public MeterBinder javalidationKeyCacheMetrics(FieldKeyFormatter fieldKeyFormatter) {
+        return registry -> {
+            if (fieldKeyFormatter instanceof CachingFieldKeyFormatter cache) {
+                Gauge.builder("javalidation.key.cache.size", cache, CachingFieldKeyFormatter::size)
+                        .description("Number of formatted field keys currently cached")
+                        .register(registry);
+                FunctionCounter.builder("javalidation.key.cache.gets", cache, CachingFieldKeyFormatter::hitCount)
+                        .description("Formatted field key lookups, by whether the cache had them")
+                        .tag("result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("javalidation.key.cache.gets", cache, CachingFieldKeyFormatter::missCount)
+                        .description("Formatted field key lookups, by whether the cache had them")
+                        .tag("result", "miss")
+                        .register(registry);
+            }
+        };
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.github.raniagus.javalidation.validator.Validators")
+    static class ValidatorMetricsConfiguration {
+        // Installed on Validators itself, so calls from application code are measured as well as those from
+        // Spring MVC; until a registry binds it, validation pays nothing for metrics
+        @Bean
+        public MeterBinder javalidationValidationMetrics(FieldKeyFormatter fieldKeyFormatter,
+                                                         JavalidationProperties properties) {
+            return new ValidationMetricsBinder(fieldKeyFormatter, properties.getMetricsMaxTagValues());
+        }
+    }
+}
@@ -21,6 +21,13 @@ public class JavalidationProperties {
      */
     private KeyNotation keyNotation = KeyNotation.PROPERTY_PATH;
 
+    /**
+     * The maximum number of formatted field keys to cache, see
+     * {@link io.github.raniagus.javalidation.format.CachingFieldKeyFormatter}. Set to 0 to disable caching.
+     * Defaults to 1024.
+     */
+    private int keyCacheSize = 1024;
+
     /**
      * Whether to use {@link org.springframework.context.MessageSource} to resolve error messages. When false,
      * the default formatter with {@link java.text.MessageFormat#format(String, Object...)} is used.
@@ -36,6 +43,13 @@ public class JavalidationProperties {
      */
     private boolean flattenErrors = false;
 
+    /**
+     * The maximum number of distinct message codes, and of distinct field paths, that get their own error
+     * counter when Micrometer metrics are enabled; further values are counted under {@code other}.
+     * Defaults to 100.
+     */
+    private int metricsMaxTagValues = 100;
+
     public KeyNotation getKeyNotation() {
         return keyNotation;
     }
@@ -44,6 +58,14 @@ public class JavalidationProperties {
         this.keyNotation = keyNotation;
     }
 
+    public int getKeyCacheSize() {
+        return keyCacheSize;
+    }
+
+    public void setKeyCacheSize(int keyCacheSize) {
+        this.keyCacheSize = keyCacheSize;
+    }
+
     public boolean isUseMessageSource() {
         return useMessageSource;
     }
@@ -59,4 +81,12 @@ public class JavalidationProperties {
     public void setFlattenErrors(boolean flattenErrors) {
         this.flattenErrors = flattenErrors;
     }
+
+    public int getMetricsMaxTagValues() {
+        return metricsMaxTagValues;
+    }
+
+    public void setMetricsMaxTagValues(int metricsMaxTagValues) {
+        this.metricsMaxTagValues = metricsMaxTagValues;
+    }
 }
@@ -1,9 +1,11 @@
 package io.github.raniagus.javalidation.spring;
 
+import io.github.raniagus.javalidation.FieldKey;
 import io.github.raniagus.javalidation.TemplateString;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.ValidationErrors;
 import io.github.raniagus.javalidation.format.FieldKeyFormatter;
+import io.github.raniagus.javalidation.format.FieldKeyParser;
 import io.github.raniagus.javalidation.format.TemplateStringFormatter;
 import io.github.raniagus.javalidation.validator.Validators;
 import java.util.Objects;
@@ -13,6 +15,8 @@ import org.springframework.validation.ObjectError;
 import org.springframework.validation.Validator;
 
 public class JavalidationSpringValidator implements Validator {
+    private static final FieldKeyParser FIELD_PARSER = FieldKeyParser.getDefault();
+
     private final FieldKeyFormatter fieldKeyFormatter;
     private final TemplateStringFormatter templateStringFormatter;
 
@@ -53,6 +57,17 @@ public class JavalidationSpringValidator implements Validator {
         }
     }
 
+    /**
+     * Converts Spring {@link Errors} to {@link ValidationErrors}.
+     * <p>
+     * Field paths are parsed as property-path notation, which is what Spring uses, so
+     * {@code "items[0].price"} becomes {@code FieldKey.of("items", 0, "price")}. Paths that are not
+     * valid property-path notation, such as map entries ({@code "map[key]"}), are kept as a single
+     * field name.
+     *
+     * @param errors the Spring errors
+     * @return the equivalent validation errors
+     */
     public static ValidationErrors toValidationErrors(Errors errors) {
         Validation validation = Validation.create();
         for (ObjectError error : errors.getGlobalErrors()) {
@@ -63,8 +78,13 @@ public class JavalidationSpringValidator implements Validator {
         for (FieldError error : errors.getFieldErrors()) {
             String code = error.getCode() != null ? error.getCode() : Objects.toString(error.getDefaultMessage());
             Object[] args = error.getArguments() != null ? error.getArguments() : new Object[0];
-            validation.addErrorAt(error.getField(), code, args);
+            validation.addErrorAt(toFieldKey(error.getField()), code, args);
         }
         return validation.finish();
     }
+
+    private static FieldKey toFieldKey(String field) {
+        FieldKey key = FIELD_PARSER.tryParse(field);
+        return key != null ? key : FieldKey.of(field);
+    }
 }
@@ -5,6 +5,7 @@ import io.github.raniagus.javalidation.format.TemplateStringFormatter;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.validation.Validator;
@@ -18,6 +19,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class JavalidationValidatorAutoConfiguration {
     @Bean
     @Primary
+    @ConditionalOnMissingBean(JavalidationSpringValidator.class)
     public JavalidationSpringValidator javalidationSpringValidator(FieldKeyFormatter fieldKeyFormatter, TemplateStringFormatter templateStringFormatter) {
         return new JavalidationSpringValidator(fieldKeyFormatter, templateStringFormatter);
     }
@@ -0,0 +1,47 @@
+package io.github.raniagus.javalidation.spring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counters of one meter name, one per value of a single tag, where the tag values come from application
+ * data. At most {@code maxTagValues} distinct values get their own counter; later ones are all counted
+ * under {@link #OTHER}, so that a stream of unexpected codes or field paths cannot flood the registry.
+ */
+final class LimitedTagCounters {
+    static final String OTHER = "other";
+
+    private final MeterRegistry registry;
+    private final String name;
+    private final String tagKey;
+    private final int maxTagValues;
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    LimitedTagCounters(MeterRegistry registry, String name, String tagKey, int maxTagValues) {
+        this.registry = registry;
+        this.name = name;
+        this.tagKey = tagKey;
+        this.maxTagValues = maxTagValues;
+    }
+
+    void increment(String tagValue, double amount) {
+        Counter counter = counters.get(tagValue);
+        if (counter == null) {
+            counter = register(tagValue);
+        }
+        counter.increment(amount);
+    }
+
+    private Counter register(String tagValue) {
+        // Racing threads may each add one value past the limit, which is harmless
+        if (counters.size() >= maxTagValues) {
+            return counters.computeIfAbsent(OTHER, this::counter);
+        }
+        return counters.computeIfAbsent(tagValue, this::counter);
+    }
+
+    private Counter counter(String tagValue) {
+        return Counter.builder(name).tag(tagKey, tagValue).register(registry);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.raniagus.javalidation.spring;
+
+import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.FieldKeyPart;
+import io.github.raniagus.javalidation.TemplateString;
+import io.github.raniagus.javalidation.ValidationErrors;
+import io.github.raniagus.javalidation.format.FieldKeyFormatter;
+import io.github.raniagus.javalidation.validator.ValidationInterceptor;
+import io.github.raniagus.javalidation.validator.Validator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ValidationInterceptor} that records Micrometer metrics for every {@code Validators.validate} call,
+ * whether it comes from Spring MVC or from application code:
+ * <ul>
+ *   <li>{@code javalidation.validation}: a timer tagged with the validated {@code type} and the
+ *       {@code outcome}, either {@code valid} or {@code invalid}</li>
+ *   <li>{@code javalidation.validation.errors}: the number of errors, tagged with their message {@code code}</li>
+ *   <li>{@code javalidation.validation.field.errors}: the number of field errors, tagged with the formatted
+ *       {@code field} path without its indexes, so {@code items[0].price} and {@code items[1].price} are both
+ *       counted under {@code items.price}</li>
+ * </ul>
+ * Codes and paths come from application data, so each error counter keeps at most {@code maxTagValues}
+ * distinct tag values and counts the rest under {@code other}.
+ */
+public class ValidationMetrics implements ValidationInterceptor {
+    private final FieldKeyFormatter fieldKeyFormatter;
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<Class<?>, TypeTimers> timers = new ConcurrentHashMap<>();
+    private final LimitedTagCounters codeCounters;
+    private final LimitedTagCounters fieldCounters;
+
+    public ValidationMetrics(FieldKeyFormatter fieldKeyFormatter, MeterRegistry registry, int maxTagValues) {
+        this.fieldKeyFormatter = fieldKeyFormatter;
+        this.registry = registry;
+        this.codeCounters = new LimitedTagCounters(registry, "javalidation.validation.errors", "code", maxTagValues);
+        this.fieldCounters = new LimitedTagCounters(registry, "javalidation.validation.field.errors", "field", maxTagValues);
+    }
+
+    @Override
+    public <T> ValidationErrors validate(T instance, Validator<T> validator) {
+        Timer.Sample sample = Timer.start(registry);
+        ValidationErrors validationErrors = validator.validate(instance);
+        record(sample, instance.getClass(), validationErrors);
+        return validationErrors;
+    }
+
+    void record(Timer.Sample sample, Class<?> type, ValidationErrors validationErrors) {
+        TypeTimers typeTimers = timers.computeIfAbsent(type, this::timersFor);
+        if (validationErrors.isEmpty()) {
+            sample.stop(typeTimers.valid());
+            return;
+        }
+        sample.stop(typeTimers.invalid());
+        for (TemplateString error : validationErrors.rootErrors()) {
+            codeCounters.increment(error.message(), 1);
+        }
+        for (Map.Entry<FieldKey, List<TemplateString>> entry : validationErrors.fieldErrors().entrySet()) {
+            FieldKey field = withoutIndexes(entry.getKey());
+            // An error on a bare list element has no named path left to tag
+            if (field.size() > 0) {
+                fieldCounters.increment(fieldKeyFormatter.format(field), entry.getValue().size());
+            }
+            for (TemplateString error : entry.getValue()) {
+                codeCounters.increment(error.message(), 1);
+            }
+        }
+    }
+
+    // Indexes grow with the data, so keeping them would spend the tag limit on a single list
+    static FieldKey withoutIndexes(FieldKey key) {
+        for (int i = 0; i < key.size(); i++) {
+            if (key.isIndex(i)) {
+                return FieldKey.of(Arrays.stream(key.parts())
+                        .filter(FieldKeyPart.StringKey.class::isInstance)
+                        .toArray(FieldKeyPart[]::new));
+            }
+        }
+        return key;
+    }
+
+    private TypeTimers timersFor(Class<?> type) {
+        return new TypeTimers(timer(type, "valid"), timer(type, "invalid"));
+    }
+
+    private Timer timer(Class<?> type, String outcome) {
+        return Timer.builder("javalidation.validation")
+                .description("Time spent validating an object with its generated validator")
+                .tag("type", type.getName())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record TypeTimers(Timer valid, Timer invalid) {
+    }
+}
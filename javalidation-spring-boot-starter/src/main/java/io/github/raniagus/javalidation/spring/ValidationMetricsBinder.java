@@ -0,0 +1,42 @@
+package io.github.raniagus.javalidation.spring;
+
+import io.github.raniagus.javalidation.format.FieldKeyFormatter;
+import io.github.raniagus.javalidation.validator.Validators;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Installs a {@link ValidationMetrics} interceptor on {@link Validators} once a registry is bound, and
+ * removes it when the application context closes.
+ * <p>
+ * {@code Validators} is process-wide, so with several contexts the last one bound wins. Closing a context
+ * only removes the interceptor it installed, never one that a later context put in its place.
+ */
+final class ValidationMetricsBinder implements MeterBinder, DisposableBean {
+    private final FieldKeyFormatter fieldKeyFormatter;
+    private final int maxTagValues;
+    private volatile @Nullable ValidationMetrics installed;
+
+    ValidationMetricsBinder(FieldKeyFormatter fieldKeyFormatter, int maxTagValues) {
+        this.fieldKeyFormatter = fieldKeyFormatter;
+        this.maxTagValues = maxTagValues;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ValidationMetrics metrics = new ValidationMetrics(fieldKeyFormatter, registry, maxTagValues);
+        Validators.setInterceptor(metrics);
+        installed = metrics;
+    }
+
+    @Override
+    public void destroy() {
+        ValidationMetrics metrics = installed;
+        if (metrics != null) {
+            Validators.removeInterceptor(metrics);
+            installed = null;
+        }
+    }
+}
@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.format.CachingFieldKeyFormatter;
 import io.github.raniagus.javalidation.format.FieldKeyFormatter;
+import io.github.raniagus.javalidation.format.PropertyPathNotationFormatter;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -71,4 +73,25 @@ class FieldKeyFormatterAutoConfigurationTest extends AutoConfigurationTest {
                     """);
         }
     }
+
+    static class KeyCacheUnsetTest extends ContextTest {
+        @Autowired
+        private FieldKeyFormatter formatter;
+
+        @Test
+        void givenKeyCacheSizeUnset_whenStartup_thenCachesFormattedKeys() {
+            assertThat(formatter).isInstanceOf(CachingFieldKeyFormatter.class);
+        }
+    }
+
+    @TestPropertySource(properties = "io.github.raniagus.javalidation.key-cache-size=0")
+    static class KeyCacheDisabledTest extends KeyNotationUnsetTest {
+        @Autowired
+        private FieldKeyFormatter formatter;
+
+        @Test
+        void givenKeyCacheSizeZero_whenStartup_thenDoesNotCache() {
+            assertThat(formatter).isInstanceOf(PropertyPathNotationFormatter.class);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package io.github.raniagus.javalidation.spring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.format.FieldKeyFormatter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+class JavalidationMetricsAutoConfigurationTest extends AutoConfigurationTest {
+    @SpringBootTest(classes = TestApplication.class)
+    static class RegistryUnsetTest {
+        @Autowired
+        private JavalidationSpringValidator validator;
+
+        @Test
+        void givenNoMeterRegistry_whenStartup_thenUsesPlainValidator() {
+            assertThat(validator).isExactlyInstanceOf(JavalidationSpringValidator.class);
+        }
+    }
+
+    @SpringBootTest(classes = {TestApplication.class, RegistrySetTest.MeterRegistryConfiguration.class})
+    static class RegistrySetTest {
+        @Configuration(proxyBeanMethods = false)
+        static class MeterRegistryConfiguration {
+            @Bean
+            MeterRegistry meterRegistry() {
+                return new SimpleMeterRegistry();
+            }
+        }
+
+        @Autowired
+        private JavalidationSpringValidator validator;
+
+        @Autowired
+        private MeterBinder javalidationKeyCacheMetrics;
+
+        @Autowired
+        private MeterBinder javalidationValidationMetrics;
+
+        @Autowired
+        private FieldKeyFormatter formatter;
+
+        @Test
+        void givenMeterRegistry_whenStartup_thenKeepsPlainValidatorAndRegistersBinder() {
+            assertThat(validator).isExactlyInstanceOf(JavalidationSpringValidator.class);
+            assertThat(javalidationValidationMetrics).isNotNull();
+        }
+
+        @Test
+        void givenValidationBinder_whenContextCloses_thenRemovesItsInterceptor() {
+            // Spring calls destroy() on a DisposableBean when the context closes
+            assertThat(javalidationValidationMetrics).isInstanceOf(DisposableBean.class);
+        }
+
+        @Test
+        void givenCachingFormatter_whenBindTo_thenRegistersCacheMeters() {
+            MeterRegistry registry = new SimpleMeterRegistry();
+            javalidationKeyCacheMetrics.bindTo(registry);
+
+            formatter.format(FieldKey.of("user", "email"));
+            formatter.format(FieldKey.of("user", "email"));
+
+            assertThat(registry.get("javalidation.key.cache.size").gauge().value()).isPositive();
+            assertThat(registry.get("javalidation.key.cache.gets").tag("result", "hit").functionCounter().count()).isPositive();
+            assertThat(registry.get("javalidation.key.cache.gets").tag("result", "miss").functionCounter().count()).isPositive();
+        }
+    }
+}
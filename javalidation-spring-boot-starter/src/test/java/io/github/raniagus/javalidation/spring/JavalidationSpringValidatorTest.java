@@ -2,10 +2,16 @@ package io.github.raniagus.javalidation.spring;
 
 import static io.github.raniagus.javalidation.assertj.JavalidationAssertions.assertThat;
 import static io.github.raniagus.javalidation.spring.JavalidationSpringValidator.toValidationErrors;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.raniagus.javalidation.FieldKey;
 import io.github.raniagus.javalidation.Validation;
+import java.util.HashMap;
 import org.junit.jupiter.api.Test;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
 import org.springframework.validation.SimpleErrors;
 
 class JavalidationSpringValidatorTest {
@@ -44,4 +50,14 @@ class JavalidationSpringValidatorTest {
                 .hasRootError("greeting.message", "World", 42)
                 .hasFieldError("name", "size.message", 3, 20);
     }
+
+    @Test
+    void givenNestedFieldErrors_whenToValidationErrors_thenParsesPropertyPaths() {
+        BindingResult errors = new MapBindingResult(new HashMap<>(), "value");
+        errors.addError(new FieldError("value", "items[0].price", "positive.message"));
+        errors.addError(new FieldError("value", "map[key]", "invalid.message"));
+
+        assertThat(toValidationErrors(errors).fieldErrors())
+                .containsOnlyKeys(FieldKey.of("items", 0, "price"), FieldKey.of("map[key]"));
+    }
 }
@@ -0,0 +1,88 @@
+package io.github.raniagus.javalidation.spring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.Validation;
+import io.github.raniagus.javalidation.ValidationErrors;
+import io.github.raniagus.javalidation.format.FieldKeyFormatter;
+import io.github.raniagus.javalidation.validator.Validator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class ValidationMetricsTest {
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ValidationMetrics metrics = new ValidationMetrics(FieldKeyFormatter.getDefault(), registry, 2);
+
+    @Test
+    void givenValidAndInvalidObjects_whenRecord_thenTimesByTypeAndOutcome() {
+        Validation validation = Validation.create();
+        validation.addErrorAt("name", "name.required");
+
+        metrics.record(Timer.start(registry), String.class, ValidationErrors.empty());
+        metrics.record(Timer.start(registry), String.class, ValidationErrors.empty());
+        metrics.record(Timer.start(registry), String.class, validation.finish());
+
+        assertThat(registry.get("javalidation.validation").tags("type", "java.lang.String", "outcome", "valid").timer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("javalidation.validation").tags("type", "java.lang.String", "outcome", "invalid").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenErrors_whenRecord_thenCountsByCodeAndField() {
+        Validation validation = Validation.create();
+        validation.addError("root.error");
+        validation.addErrorAt(FieldKey.of("items", 0, "price"), "positive");
+        validation.addErrorAt(FieldKey.of("items", 0, "price"), "max");
+
+        metrics.record(Timer.start(registry), String.class, validation.finish());
+
+        assertThat(registry.get("javalidation.validation.errors").tag("code", "root.error").counter().count()).isEqualTo(1);
+        assertThat(registry.get("javalidation.validation.errors").tag("code", "positive").counter().count()).isEqualTo(1);
+        assertThat(registry.get("javalidation.validation.field.errors").tag("field", "items.price").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void givenErrorsAtSeveralIndexes_whenRecord_thenCountsThemUnderOneField() {
+        Validation validation = Validation.create();
+        validation.addErrorAt(FieldKey.of("items", 0, "price"), "positive");
+        validation.addErrorAt(FieldKey.of("items", 1, "price"), "positive");
+        validation.addErrorAt(FieldKey.of(2), "invalid");
+
+        metrics.record(Timer.start(registry), String.class, validation.finish());
+
+        assertThat(registry.get("javalidation.validation.field.errors").counters()).hasSize(1);
+        assertThat(registry.get("javalidation.validation.field.errors").tag("field", "items.price").counter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("javalidation.validation.errors").tag("code", "invalid").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenValidator_whenValidate_thenReturnsItsErrorsAndTimesIt() {
+        ValidationErrors errors = ValidationErrors.of("root.error");
+        Validator<String> validator = (validation, value) -> validation.addAll(errors);
+
+        assertThat(metrics.validate("value", validator)).isEqualTo(errors);
+        assertThat(registry.get("javalidation.validation").tags("type", "java.lang.String", "outcome", "invalid").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenMoreTagValuesThanLimit_whenRecord_thenCountsTheRestAsOther() {
+        Validation validation = Validation.create();
+        validation.addErrorAt("a", "code");
+        validation.addErrorAt("b", "code");
+        validation.addErrorAt("c", "code");
+        validation.addErrorAt("d", "code");
+
+        metrics.record(Timer.start(registry), String.class, validation.finish());
+
+        assertThat(registry.get("javalidation.validation.field.errors").counters()).hasSize(3);
+        assertThat(registry.get("javalidation.validation.field.errors").tag("field", "other").counter().count())
+                .isEqualTo(2);
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.raniagus.javalidation;
+
+import io.github.raniagus.javalidation.combiner.AsyncResultCombiner2;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Result} that is computed asynchronously.
+ * <p>
+ * This is the asynchronous counterpart of {@link Result#and(Result)}: independent results are
+ * computed concurrently on an {@link Executor}, and combined with the same error accumulation as
+ * the synchronous {@link io.github.raniagus.javalidation.combiner.ResultCombiner2 ResultCombiner2}
+ * chain. Unless another executor is supplied, every task runs on its own virtual thread.
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * AsyncResult<Person> person = AsyncResult.supply(() -> validateName(name))
+ *     .and(() -> validateAge(age))                          // runs concurrently with validateName
+ *     .andUsing(r -> r.first(), n -> checkNameIsFree(n))   // waits only for validateName
+ *     .combine((n, a, free) -> new Person(n, a));
+ *
+ * Result<Person> result = person.join();
+ * }</pre>
+ * <p>
+ * As with {@link Result#of(Supplier)}, a {@link JavalidationException} thrown by a supplier or
+ * completing a stage is converted to {@link Result.Err}. Any other exception completes the
+ * underlying future exceptionally and propagates from {@link #join()}.
+ *
+ * @param <T> the type of the success value, may be {@link Nullable}
+ * @see AsyncResultCombiner2
+ */
+public final class AsyncResult<T extends @Nullable Object> {
+    private static final Executor VIRTUAL_THREADS = Thread::startVirtualThread;
+
+    private final CompletableFuture<Result<T>> future;
+    private final Executor executor;
+
+    private AsyncResult(CompletableFuture<Result<T>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    /**
+     * Computes a result on a new virtual thread.
+     *
+     * @param supplier computes the result
+     * @param <T> the type of the success value
+     * @return an async result completed with the supplied result
+     */
+    public static <T extends @Nullable Object> AsyncResult<T> supply(Supplier<Result<T>> supplier) {
+        return supply(supplier, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Computes a result on the given executor.
+     *
+     * @param supplier computes the result
+     * @param executor runs the supplier and every step chained from the returned result
+     * @param <T> the type of the success value
+     * @return an async result completed with the supplied result
+     */
+    public static <T extends @Nullable Object> AsyncResult<T> supply(Supplier<Result<T>> supplier, Executor executor) {
+        return of(CompletableFuture.supplyAsync(supplier, executor), executor);
+    }
+
+    /**
+     * Wraps a stage computed elsewhere, chaining further steps on virtual threads.
+     *
+     * @param stage the stage to wrap
+     * @param <T> the type of the success value
+     * @return an async result completed with the stage's result
+     */
+    public static <T extends @Nullable Object> AsyncResult<T> of(CompletionStage<Result<T>> stage) {
+        return of(stage, VIRTUAL_THREADS);
+    }
+
+    /**
+     * Wraps a stage computed elsewhere, chaining further steps on the given executor.
+     *
+     * @param stage    the stage to wrap
+     * @param executor runs every step chained from the returned result
+     * @param <T> the type of the success value
+     * @return an async result completed with the stage's result
+     */
+    public static <T extends @Nullable Object> AsyncResult<T> of(CompletionStage<Result<T>> stage, Executor executor) {
+        return new AsyncResult<>(stage.toCompletableFuture().handle(AsyncResult::recover), executor);
+    }
+
+    /**
+     * Wraps an already computed result, chaining further steps on virtual threads.
+     *
+     * @param result the result
+     * @param <T> the type of the success value
+     * @return an already completed async result
+     */
+    public static <T extends @Nullable Object> AsyncResult<T> completed(Result<T> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(result), VIRTUAL_THREADS);
+    }
+
+    private static <T extends @Nullable Object> Result<T> recover(@Nullable Result<T> result, @Nullable Throwable failure) {
+        if (failure == null) {
+            return result;
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (cause instanceof JavalidationException e) {
+            ExceptionCaughtEvent.emit("AsyncResult", e);
+            return Result.error(e.getErrors());
+        }
+        throw failure instanceof CompletionException ce ? ce : new CompletionException(failure);
+    }
+
+    /**
+     * Returns the executor that runs the steps chained from this result.
+     *
+     * @return the executor
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Returns a future completed with this result. Completing the returned future does not affect
+     * this result.
+     *
+     * @return a new future completed with this result
+     */
+    public CompletableFuture<Result<T>> toCompletableFuture() {
+        return future.copy();
+    }
+
+    /**
+     * Waits for this result to complete.
+     *
+     * @return the result
+     * @throws CompletionException if the computation threw an exception other than {@link JavalidationException}
+     */
+    public Result<T> join() {
+        return future.join();
+    }
+
+    /**
+     * Chains another result, computed concurrently with this one on this result's executor.
+     *
+     * @param result supplies the next result
+     * @param <U> the type of the next result's success value
+     * @return an {@link AsyncResultCombiner2} that can be chained with more results or terminated with {@code combine()}
+     */
+    public <U extends @Nullable Object> AsyncResultCombiner2<T, U> and(Supplier<Result<U>> result) {
+        return new AsyncResultCombiner2<>(this, supply(result, executor));
+    }
+
+    /**
+     * Chains another async result, computed independently of this one.
+     *
+     * @param result the next result
+     * @param <U> the type of the next result's success value
+     * @return an {@link AsyncResultCombiner2} that can be chained with more results or terminated with {@code combine()}
+     */
+    public <U extends @Nullable Object> AsyncResultCombiner2<T, U> and(AsyncResult<U> result) {
+        return new AsyncResultCombiner2<>(this, result);
+    }
+
+    /**
+     * Chains another result computed from this result's success value, once it completes.
+     * <p>
+     * The function is only called if this result is {@link Result.Ok}. Otherwise it is skipped and
+     * the existing errors are preserved by the final {@code combine()}.
+     *
+     * @param result supplies the next result using this result's success value
+     * @param <U> the type of the next result's success value
+     * @return an {@link AsyncResultCombiner2} that can be chained with more results or terminated with {@code combine()}
+     */
+    public <U extends @Nullable Object> AsyncResultCombiner2<T, U> and(Function<T, Result<U>> result) {
+        return new AsyncResultCombiner2<>(this, result);
+    }
+}
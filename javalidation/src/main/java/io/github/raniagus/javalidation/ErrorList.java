@@ -0,0 +1,88 @@
+package io.github.raniagus.javalidation;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Compact storage for the errors of a single field (or the root) while a {@link Validation} is being built.
+ * <p>
+ * Most fields fail with exactly one error, so lists start as an immutable {@link List#of(Object)} singleton
+ * and are only replaced with an array-backed {@code ErrorList} once a second error arrives. Use
+ * {@link #append(List, TemplateString)} and {@link #appendAll(List, List)}, which return the list to store
+ * back: either the same {@code ErrorList} grown in place, or a new one.
+ * <p>
+ * Every list handed out is unmodifiable through the {@link List} interface; only {@link Validation} grows
+ * an {@code ErrorList}, and only while it owns it. Each list records the {@code version} of the builder
+ * that created it; once {@link Validation#finish()} hands the list over to a {@link ValidationErrors} and
+ * bumps the version, the next append copies the list instead of growing it in place.
+ */
+final class ErrorList extends AbstractList<TemplateString> implements RandomAccess {
+    private static final int MIN_CAPACITY = 4;
+
+    private final int version;
+    private TemplateString[] elements;
+    private int size;
+
+    private ErrorList(List<TemplateString> errors, int extraCapacity, int version) {
+        this.version = version;
+        this.elements = errors.toArray(new TemplateString[Math.max(errors.size() + extraCapacity, MIN_CAPACITY)]);
+        this.size = errors.size();
+    }
+
+    /**
+     * Returns a list with {@code error} appended to {@code errors}, growing {@code errors} in place if it
+     * is an {@code ErrorList} of the given {@code version}.
+     */
+    static List<TemplateString> append(List<TemplateString> errors, TemplateString error, int version) {
+        if (errors.isEmpty()) {
+            return List.of(error);
+        }
+        ErrorList list = errors instanceof ErrorList el && el.version == version ? el : new ErrorList(errors, 1, version);
+        list.add0(error);
+        return list;
+    }
+
+    /**
+     * Returns a list with all {@code newErrors} appended to {@code errors}, growing {@code errors} in place
+     * if it is an {@code ErrorList} of the given {@code version}. {@code newErrors} is never stored directly,
+     * since it may still be growing in another {@link Validation}.
+     */
+    static List<TemplateString> appendAll(List<TemplateString> errors, List<TemplateString> newErrors, int version) {
+        if (newErrors.isEmpty()) {
+            return errors;
+        }
+        if (errors.isEmpty() && newErrors.size() == 1) {
+            return List.of(newErrors.getFirst());
+        }
+        int count = newErrors.size();
+        ErrorList list = errors instanceof ErrorList el && el.version == version ? el : new ErrorList(errors, count, version);
+        Iterator<TemplateString> it = newErrors.iterator();
+        while (count-- > 0) { // bounded, so appending a list to itself terminates
+            list.add0(it.next());
+        }
+        return list;
+    }
+
+    private void add0(TemplateString error) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size + (size >> 1));
+        }
+        elements[size++] = error;
+    }
+
+    @Override
+    public TemplateString get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.raniagus.javalidation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a {@link JavalidationException} caught by {@link Result#of(java.util.function.Supplier)},
+ * {@link Result#flatMap} or another {@link Result} operation and converted into an {@link Result.Err}.
+ * Disabled by default.
+ */
+@Name("io.github.raniagus.javalidation.ExceptionCaught")
+@Label("Validation Exception Caught")
+@Category("Javalidation")
+@Description("A JavalidationException was converted into an Err result")
+@Enabled(false)
+final class ExceptionCaughtEvent extends Event {
+    @Label("Operation")
+    @Description("The Result operation that caught the exception, e.g. Result.flatMap")
+    String operation;
+
+    @Label("Error Count")
+    int errorCount;
+
+    static void emit(String operation, JavalidationException exception) {
+        ExceptionCaughtEvent event = new ExceptionCaughtEvent();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.errorCount = exception.getErrors().count();
+            event.commit();
+        }
+    }
+}
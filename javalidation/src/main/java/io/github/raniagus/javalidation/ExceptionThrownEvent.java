@@ -0,0 +1,34 @@
+package io.github.raniagus.javalidation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for every {@link JavalidationException} created, usually to be thrown as control flow. The
+ * stack trace shows where it came from; a matching {@link ExceptionCaughtEvent} shows whether the
+ * {@link Result} API turned it back into an {@link Result.Err}.
+ * <p>
+ * Disabled by default; enable it with e.g. {@code jcmd <pid> JFR.start settings=custom.jfc} or a
+ * {@code RecordingStream}.
+ */
+@Name("io.github.raniagus.javalidation.ExceptionThrown")
+@Label("Validation Exception Thrown")
+@Category("Javalidation")
+@Description("A JavalidationException was created")
+@Enabled(false)
+final class ExceptionThrownEvent extends Event {
+    @Label("Error Count")
+    int errorCount;
+
+    static void emit(ValidationErrors errors) {
+        ExceptionThrownEvent event = new ExceptionThrownEvent();
+        if (event.shouldCommit()) {
+            event.errorCount = errors.count();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.raniagus.javalidation;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An unmodifiable view of the {@link ValidationErrors#fieldErrors()} map that also knows how many errors
+ * its lists hold in total.
+ * <p>
+ * {@link ValidationErrors} is a two-component record and cannot cache its count in a field, so
+ * {@link Validation}, {@link ValidationErrors#mergeWith(ValidationErrors)} and
+ * {@link ValidationErrors#withPrefix(Object...)} wrap the maps they build in a {@code FieldErrorMap} with the
+ * total they already tracked, and {@link ValidationErrors#count()} reads it back in O(1). Equality and
+ * hashing are those of any other {@link Map}.
+ */
+final class FieldErrorMap extends AbstractMap<FieldKey, List<TemplateString>> {
+    private final Map<FieldKey, List<TemplateString>> delegate;
+    private final int errorCount;
+
+    private FieldErrorMap(Map<FieldKey, List<TemplateString>> delegate, int errorCount) {
+        this.delegate = Collections.unmodifiableMap(delegate);
+        this.errorCount = errorCount;
+    }
+
+    /**
+     * Wraps {@code fieldErrors}, whose lists must hold exactly {@code errorCount} errors in total.
+     * The map is not copied, so the caller must not modify it afterward.
+     */
+    static Map<FieldKey, List<TemplateString>> of(Map<FieldKey, List<TemplateString>> fieldErrors, int errorCount) {
+        return fieldErrors.isEmpty() ? Map.of() : new FieldErrorMap(fieldErrors, errorCount);
+    }
+
+    /** Returns the total number of errors in {@code fieldErrors}, in O(1) if it is a {@code FieldErrorMap}. */
+    static int errorCount(Map<FieldKey, List<TemplateString>> fieldErrors) {
+        if (fieldErrors instanceof FieldErrorMap map) {
+            return map.errorCount;
+        }
+        int count = 0;
+        for (List<TemplateString> errors : fieldErrors.values()) {
+            count += errors.size();
+        }
+        return count;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public @Nullable List<TemplateString> get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public Set<Entry<FieldKey, List<TemplateString>>> entrySet() {
+        return delegate.entrySet();
+    }
+}
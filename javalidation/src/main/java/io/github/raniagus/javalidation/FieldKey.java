@@ -1,7 +1,11 @@
 package io.github.raniagus.javalidation;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Represents the path to a field in a validated object, composed of one or more {@link FieldKeyPart} segments.
@@ -20,23 +24,104 @@ import java.util.Collection;
  * <p>
  * Comparison is lexicographic: segments are compared element-by-element, with {@link FieldKeyPart.StringKey}
  * considered less than {@link FieldKeyPart.IntKey} at the same position.
+ * <p>
+ * Segments are stored packed into a single {@code long[]}: indexes by value, and field names by an interned
+ * id, so a key holds no per-segment objects and equal segments usually compare as equal codes.
+ * {@link #parts()} materializes the segments on first use; formatters should prefer {@link #size()},
+ * {@link #isIndex(int)}, {@link #name(int)} and {@link #index(int)}, which never allocate.
+ * <p>
+ * Only names that come from code are interned: those passed to {@link #of(String...)}, and the field names
+ * given to {@link Validation} and {@link ValidationErrors}, as generated validators do. Names built from
+ * {@link FieldKeyPart}s, such as parsed paths and map keys given to
+ * {@link Validation#withField(FieldKeyPart, Runnable)}, reuse an existing id but never add one, so request
+ * data cannot fill the process-wide table. Equality and hashing depend only on the segments, never on whether
+ * a name is interned.
+ * <p>
+ * A key may share its arrays with the key it was extended from: appending a segment claims the parent's next
+ * free slot when there is one, so a chain of nested scopes grows one array instead of copying every ancestor.
  *
- * @param parts the ordered segments that form this field path
  * @see FieldKeyPart
  * @see ValidationErrors
  */
-public record FieldKey(FieldKeyPart[] parts) implements Comparable<FieldKey> {
+public final class FieldKey implements Comparable<FieldKey> {
+    // Segment encoding: high 32 bits hold the kind, low 32 bits the interned name id or the index
+    private static final long NAME = 0L;
+    private static final long INDEX = 1L << 32;
+    private static final long UNINTERNED_NAME = 2L << 32;
+    private static final long KIND_MASK = 0xFFFFFFFF00000000L;
+    // Marks a slot past the end of every key that shares the array; never a valid segment code
+    private static final long FREE = -1L;
+    private static final VarHandle CODES = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // Segments live in codes[0, size); later slots are FREE or belong to longer keys sharing the array
+    private final long[] codes;
+    // Names that are not interned, at their segment position; null when every name is interned
+    private final String @Nullable [] names;
+    private final int size;
+    // Computed from the segments on first use; a benign race, since it is always the same value
+    private int hash;
+    // Materialized by parts() on first use; volatile so that no thread sees the array before its elements
+    private volatile FieldKeyPart @Nullable [] parts;
+
+    /**
+     * Creates a {@code FieldKey} from the given segments. Names are not interned.
+     *
+     * @param parts the ordered segments that form this field path
+     */
+    public FieldKey(FieldKeyPart[] parts) {
+        this(parts, false);
+    }
+
+    private FieldKey(FieldKeyPart[] parts, boolean intern) {
+        long[] codes = new long[parts.length];
+        String @Nullable [] names = null;
+        for (int i = 0; i < parts.length; i++) {
+            switch (parts[i]) {
+                case FieldKeyPart.IntKey(int index) -> codes[i] = encodeIndex(index);
+                case FieldKeyPart.StringKey(String name) -> {
+                    codes[i] = encodeName(name, intern);
+                    if (codes[i] == UNINTERNED_NAME) {
+                        names = withName(names, parts.length, i, name);
+                    }
+                }
+            }
+        }
+        this.codes = codes;
+        this.names = names;
+        this.size = parts.length;
+    }
+
+    private FieldKey(long[] codes, String @Nullable [] names) {
+        this(codes, names, codes.length);
+    }
+
+    /** Shares the first {@code size} slots of {@code codes} and {@code names}, which must no longer change. */
+    private FieldKey(long[] codes, String @Nullable [] names, int size) {
+        this.codes = codes;
+        this.names = names;
+        this.size = size;
+    }
 
     /**
      * Creates a {@code FieldKey} from one or more string segments.
      * <p>
      * Example: {@code FieldKey.of("user", "address")} produces a key for the path {@code "user.address"}.
+     * <p>
+     * The names are interned, so pass names defined in code, not request data.
      *
      * @param path the string segments
      * @return a new {@code FieldKey}
      */
     public static FieldKey of(String... path) {
-        return new FieldKey(FieldKeyPart.ofPath(path));
+        long[] codes = new long[path.length];
+        String @Nullable [] names = null;
+        for (int i = 0; i < path.length; i++) {
+            codes[i] = encodeName(path[i], true);
+            if (codes[i] == UNINTERNED_NAME) {
+                names = withName(names, path.length, i, path[i]);
+            }
+        }
+        return new FieldKey(codes, names);
     }
 
     /**
@@ -48,7 +133,11 @@ public record FieldKey(FieldKeyPart[] parts) implements Comparable<FieldKey> {
      * @return a new {@code FieldKey}
      */
     public static FieldKey of(Number... path) {
-        return new FieldKey(FieldKeyPart.ofPath(path));
+        long[] codes = new long[path.length];
+        for (int i = 0; i < path.length; i++) {
+            codes[i] = encodeIndex(path[i].intValue());
+        }
+        return new FieldKey(codes, null);
     }
 
     /**
@@ -93,6 +182,109 @@ public record FieldKey(FieldKeyPart[] parts) implements Comparable<FieldKey> {
         return new FieldKey(newKey);
     }
 
+    private static long encodeIndex(int index) {
+        return INDEX | Integer.toUnsignedLong(index);
+    }
+
+    private static long encodeName(String name, boolean intern) {
+        int id = intern ? FieldNames.idOf(name) : FieldNames.existingIdOf(name);
+        return id >= 0 ? NAME | id : UNINTERNED_NAME;
+    }
+
+    private static String[] withName(String @Nullable [] names, int length, int position, String name) {
+        String[] result = names != null ? names : new String[length];
+        result[position] = name;
+        return result;
+    }
+
+    /**
+     * Returns the segments of this key.
+     * <p>
+     * The array is materialized on the first call and returned by every later call, so it must not be modified.
+     *
+     * @return the ordered segments that form this field path
+     */
+    public FieldKeyPart[] parts() {
+        FieldKeyPart[] result = parts;
+        if (result == null) {
+            result = new FieldKeyPart[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = isIndex(i) ? new FieldKeyPart.IntKey(index(i)) : new FieldKeyPart.StringKey(name(i));
+            }
+            parts = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of segments in this key.
+     *
+     * @return the number of segments
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the segment at {@code position} is an index ({@link FieldKeyPart.IntKey}).
+     *
+     * @param position the 0-based segment position
+     * @return {@code true} for an index segment, {@code false} for a field name segment
+     * @throws IndexOutOfBoundsException if {@code position} is out of range
+     */
+    public boolean isIndex(int position) {
+        return (codes[Objects.checkIndex(position, size)] & KIND_MASK) == INDEX;
+    }
+
+    /**
+     * Returns the field name at {@code position}.
+     *
+     * @param position the 0-based segment position
+     * @return the field name
+     * @throws IllegalStateException if the segment is an index
+     * @throws IndexOutOfBoundsException if {@code position} is out of range
+     */
+    public String name(int position) {
+        long code = codes[Objects.checkIndex(position, size)];
+        long kind = code & KIND_MASK;
+        if (kind == NAME) {
+            return FieldNames.name((int) code);
+        } else if (kind == UNINTERNED_NAME) {
+            return names[position];
+        }
+        throw new IllegalStateException("Segment " + position + " is an index");
+    }
+
+    /**
+     * Returns the index at {@code position}.
+     *
+     * @param position the 0-based segment position
+     * @return the index
+     * @throws IllegalStateException if the segment is a field name
+     * @throws IndexOutOfBoundsException if {@code position} is out of range
+     */
+    public int index(int position) {
+        if (!isIndex(position)) {
+            throw new IllegalStateException("Segment " + position + " is a field name");
+        }
+        return (int) codes[position];
+    }
+
+    /**
+     * Returns a key made of the first {@code length} segments of this key.
+     *
+     * @param length the number of leading segments to keep
+     * @return this key if {@code length} equals {@link #size()}, otherwise a new {@code FieldKey}
+     * @throws IndexOutOfBoundsException if {@code length} is negative or greater than {@link #size()}
+     */
+    public FieldKey prefix(int length) {
+        if (length == size) {
+            return this;
+        }
+        Objects.checkFromToIndex(0, length, size);
+        return new FieldKey(codes, names, length);
+    }
+
     /**
      * Returns a new {@code FieldKey} with the given segments prepended to this key's parts.
      *
@@ -100,37 +292,139 @@ public record FieldKey(FieldKeyPart[] parts) implements Comparable<FieldKey> {
      * @return a new {@code FieldKey} with the prefix prepended
      */
     public FieldKey withPrefix(FieldKeyPart... prefix) {
-        FieldKeyPart[] newKey = Arrays.copyOf(prefix, prefix.length + parts.length);
-        System.arraycopy(parts, 0, newKey, prefix.length, parts.length);
-        return new FieldKey(newKey);
+        return withPrefix(new FieldKey(prefix));
     }
 
+    /** Returns a new {@code FieldKey} with the segments of {@code prefix} prepended to this key's parts. */
+    FieldKey withPrefix(FieldKey prefix) {
+        return concat(prefix, this);
+    }
+
+    /**
+     * Returns a new {@code FieldKey} with {@code part} appended to this key's parts, interning its name if asked.
+     * <p>
+     * The new key shares this key's arrays when the slot after this key is free, or already holds the same
+     * segment; the slot is claimed atomically, so concurrent callers never overwrite each other. Otherwise the
+     * segments are copied into arrays with spare slots, so that keys appended to the new one can share it.
+     */
+    FieldKey withSuffix(FieldKeyPart part, boolean intern) {
+        long code;
+        @Nullable String name = null;
+        switch (part) {
+            case FieldKeyPart.IntKey(int index) -> code = encodeIndex(index);
+            case FieldKeyPart.StringKey(String n) -> {
+                code = encodeName(n, intern);
+                name = n;
+            }
+        }
+        boolean uninterned = code == UNINTERNED_NAME;
+        if (size < codes.length && (!uninterned || names != null)) {
+            long witness = (long) CODES.compareAndExchange(codes, size, FREE, code);
+            if (witness == FREE) {
+                if (uninterned) {
+                    names[size] = name;
+                }
+                return new FieldKey(codes, names, size + 1);
+            } else if (witness == code && !uninterned) {
+                return new FieldKey(codes, names, size + 1);
+            }
+        }
+
+        int capacity = size + 1 + Math.max(1, (size + 1) >> 1);
+        long[] newCodes = Arrays.copyOf(codes, capacity);
+        Arrays.fill(newCodes, size, capacity, FREE);
+        newCodes[size] = code;
+        String @Nullable [] newNames = names != null || uninterned ? new String[capacity] : null;
+        if (names != null) {
+            System.arraycopy(names, 0, newNames, 0, size);
+        }
+        if (uninterned) {
+            newNames[size] = name;
+        }
+        return new FieldKey(newCodes, newNames, size + 1);
+    }
+
+    private static FieldKey concat(FieldKey first, FieldKey second) {
+        long[] codes = Arrays.copyOf(first.codes, first.size + second.size);
+        System.arraycopy(second.codes, 0, codes, first.size, second.size);
+        String @Nullable [] names = null;
+        if (first.names != null || second.names != null) {
+            names = new String[codes.length];
+            if (first.names != null) {
+                System.arraycopy(first.names, 0, names, 0, first.size);
+            }
+            if (second.names != null) {
+                System.arraycopy(second.names, 0, names, first.size, second.size);
+            }
+        }
+        return new FieldKey(codes, names);
+    }
+
+    @Override
     public int compareTo(FieldKey other) {
-        int minLength = Math.min(parts.length, other.parts.length);
+        int minLength = Math.min(size, other.size);
         for (int i = 0; i < minLength; i++) {
-            int cmp = parts[i].compareTo(other.parts[i]);
+            long code = codes[i];
+            long otherCode = other.codes[i];
+            if (code == otherCode && code != UNINTERNED_NAME) {
+                continue;
+            }
+            boolean index = (code & KIND_MASK) == INDEX;
+            boolean otherIndex = (otherCode & KIND_MASK) == INDEX;
+            int cmp;
+            if (index != otherIndex) {
+                cmp = index ? 1 : -1; // StringKey is considered less than IntKey
+            } else if (index) {
+                cmp = Integer.compare((int) code, (int) otherCode);
+            } else {
+                cmp = name(i).compareTo(other.name(i));
+            }
             if (cmp != 0) {
                 return cmp;
             }
         }
-        return Integer.compare(parts.length, other.parts.length);
+        return Integer.compare(size, other.size);
     }
 
     @Override
     public String toString() {
         return "FieldKey{" +
-                "parts=" + Arrays.toString(parts) +
+                "parts=" + Arrays.toString(parts()) +
                 '}';
     }
 
     @Override
     public boolean equals(Object o) {
-        if (!(o instanceof FieldKey(FieldKeyPart[] key1))) return false;
-        return Arrays.equals(parts(), key1);
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FieldKey other) || size != other.size || hashCode() != other.hashCode()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            long code = codes[i];
+            long otherCode = other.codes[i];
+            if (code == otherCode && code != UNINTERNED_NAME) {
+                continue;
+            }
+            // A name may be interned in one key and not in the other, so differing name codes compare by name
+            if ((code & KIND_MASK) == INDEX || (otherCode & KIND_MASK) == INDEX || !name(i).equals(other.name(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(parts());
+        int h = hash;
+        if (h == 0) {
+            h = 1;
+            for (int i = 0; i < size; i++) {
+                h = 31 * h + (isIndex(i) ? Integer.hashCode(index(i)) : name(i).hashCode());
+            }
+            hash = h;
+        }
+        return h;
     }
 }
@@ -0,0 +1,91 @@
+package io.github.raniagus.javalidation;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A process-wide table of interned field names, used by {@link FieldKey} to encode string segments
+ * as small integer ids.
+ * <p>
+ * The table only grows, so a name keeps its id for the lifetime of the class loader. Only names that
+ * come from code are added with {@link #idOf(String)}; names from data, such as map keys and parsed
+ * paths, only look up an existing id with {@link #existingIdOf(String)}. As a safety net against
+ * applications that pass data as field names anyway, at most {@link #MAX_NAMES} names of up to
+ * {@link #MAX_NAME_LENGTH} characters are interned. A name without an id is stored by {@link FieldKey}
+ * as a plain string, and keys compare equal regardless of how their names are stored.
+ */
+final class FieldNames {
+    static final int MAX_NAMES = 1 << 16;
+    static final int MAX_NAME_LENGTH = 128;
+
+    private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[256];
+    private static int size;
+
+    private FieldNames() {
+    }
+
+    /**
+     * Returns the id of {@code name}, interning it if needed.
+     *
+     * @param name the field name
+     * @return the id of {@code name}, or {@code -1} if it is not interned
+     */
+    static int idOf(String name) {
+        Integer id = IDS.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            return -1;
+        }
+        return register(name);
+    }
+
+    /**
+     * Returns the id of {@code name} if it is already interned, without interning it.
+     *
+     * @param name the field name
+     * @return the id of {@code name}, or {@code -1} if it is not interned
+     */
+    static int existingIdOf(String name) {
+        Integer id = IDS.get(name);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the name with the given id.
+     *
+     * @param id an id returned by {@link #idOf(String)}
+     * @return the interned name
+     */
+    static String name(int id) {
+        String[] current = names;
+        @Nullable String name = id < current.length ? current[id] : null;
+        // A key may have been published to this thread through a data race; fall back to the lock
+        return name != null ? name : nameLocked(id);
+    }
+
+    private static synchronized String nameLocked(int id) {
+        return names[id];
+    }
+
+    private static synchronized int register(String name) {
+        Integer id = IDS.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (size == MAX_NAMES) {
+            return -1;
+        }
+        String[] current = names;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = name;
+        names = current;
+        IDS.put(name, size);
+        return size++;
+    }
+}
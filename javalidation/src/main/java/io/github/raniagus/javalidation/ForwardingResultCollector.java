@@ -0,0 +1,96 @@
+package io.github.raniagus.javalidation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link ResultCollector} that forwards success values to a sink as they arrive and keeps the
+ * errors of only the first {@code sampleSize} failed elements, while still counting all of them.
+ * <p>
+ * Failed elements are sampled one by one, so {@link #combine} takes only as many of the other
+ * collector's elements as still fit. The sample of a parallel stream is therefore the same as that
+ * of a sequential one: the first {@code sampleSize} failed elements in encounter order.
+ * <p>
+ * Instances are created by {@link ResultCollector#forEachValid(Consumer, int)}.
+ *
+ * @param <T> the type of the success values
+ * @see PartitionSummary
+ */
+public class ForwardingResultCollector<T extends @Nullable Object> implements ResultCollector<T, PartitionSummary, ForwardingResultCollector<T>> {
+    private final Consumer<? super T> sink;
+    private final int sampleSize;
+    // Errors of the first failed elements, one entry per element, at most sampleSize entries
+    private final List<Sample> samples = new ArrayList<>();
+    private long validCount;
+    private long invalidCount;
+
+    ForwardingResultCollector(Consumer<? super T> sink, int sampleSize) {
+        this.sink = sink;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public void add(Result<T> result) {
+        switch (result) {
+            case Result.Ok<T>(T value) -> forward(value);
+            case Result.Err<T>(ValidationErrors errors) -> {
+                invalidCount++;
+                sample(PrefixStack.empty(), errors);
+            }
+        }
+    }
+
+    @Override
+    public void add(Result<T> result, PrefixStack prefix) {
+        switch (result) {
+            case Result.Ok<T>(T value) -> forward(value);
+            case Result.Err<T>(ValidationErrors errors) -> {
+                invalidCount++;
+                sample(prefix, errors);
+            }
+        }
+    }
+
+    private void forward(T value) {
+        sink.accept(value);
+        validCount++;
+    }
+
+    private void sample(PrefixStack prefix, ValidationErrors errors) {
+        if (samples.size() < sampleSize) {
+            samples.add(new Sample(prefix, errors));
+        }
+    }
+
+    @Override
+    public ForwardingResultCollector<T> combine(ForwardingResultCollector<T> other) {
+        int room = sampleSize - samples.size();
+        if (room > 0) {
+            samples.addAll(other.samples.subList(0, Math.min(room, other.samples.size())));
+        }
+        validCount += other.validCount;
+        invalidCount += other.invalidCount;
+        return this;
+    }
+
+    @Override
+    public PartitionSummary finish() {
+        Validation validation = Validation.create();
+        for (Sample sample : samples) {
+            if (sample.prefix().isEmpty()) {
+                validation.addAll(sample.errors());
+            } else {
+                validation.addAllAt(sample.prefix().toFieldKey(), sample.errors());
+            }
+        }
+        PartitionSummary summary = new PartitionSummary(validCount, invalidCount, validation.finish(), sampleSize);
+        if (ValidationListeners.ENABLED) {
+            ValidationListeners.LISTENER.onCollectorFinish(this, summary);
+        }
+        return summary;
+    }
+
+    private record Sample(PrefixStack prefix, ValidationErrors errors) {}
+}
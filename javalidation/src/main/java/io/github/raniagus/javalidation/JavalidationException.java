@@ -48,11 +48,13 @@ public class JavalidationException extends RuntimeException {
     public JavalidationException(ValidationErrors errors) {
         super(buildMessage(errors));
         this.errors = errors;
+        ExceptionThrownEvent.emit(errors);
     }
 
     private JavalidationException(ValidationErrors errors, JavalidationException cause) {
         super(buildMessage(errors), cause);
         this.errors = errors;
+        ExceptionThrownEvent.emit(errors);
     }
 
     /**
@@ -0,0 +1,37 @@
+package io.github.raniagus.javalidation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a {@link Validation#finish()} that produced at least {@link #MIN_ERROR_COUNT} errors,
+ * which usually points at a request that fails every element of a large collection. Disabled by default.
+ */
+@Name("io.github.raniagus.javalidation.LargeReport")
+@Label("Large Validation Report")
+@Category("Javalidation")
+@Description("A validation finished with many errors")
+@Enabled(false)
+final class LargeReportEvent extends Event {
+    static final int MIN_ERROR_COUNT = 100;
+
+    @Label("Error Count")
+    int errorCount;
+
+    @Label("Field Count")
+    @Description("The number of distinct fields with errors")
+    int fieldCount;
+
+    static void emit(int errorCount, int fieldCount) {
+        LargeReportEvent event = new LargeReportEvent();
+        if (event.shouldCommit()) {
+            event.errorCount = errorCount;
+            event.fieldCount = fieldCount;
+            event.commit();
+        }
+    }
+}
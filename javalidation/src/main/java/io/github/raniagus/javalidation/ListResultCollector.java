@@ -1,19 +1,22 @@
 package io.github.raniagus.javalidation;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.jspecify.annotations.Nullable;
 
 public abstract class ListResultCollector<T extends @Nullable Object, R, SELF extends ResultCollector<T, R, SELF>> implements ResultCollector<T, R, SELF> {
     protected final List<T> values;
-    protected final Validation validation = Validation.create();
+    protected final Validation validation;
 
     ListResultCollector() {
         this.values = new ArrayList<>();
+        this.validation = Validation.create();
     }
 
     ListResultCollector(int initialCapacity) {
         this.values = new ArrayList<>(initialCapacity);
+        this.validation = Validation.create();
     }
 
     @Override
@@ -36,7 +39,19 @@ public abstract class ListResultCollector<T extends @Nullable Object, R, SELF ex
 
     @Override
     public R finish() {
-        return finish(values, validation);
+        R result = finish(values, validation);
+        if (ValidationListeners.ENABLED) {
+            ValidationListeners.LISTENER.onCollectorFinish(this, result);
+        }
+        return result;
+    }
+
+    /**
+     * Hands the accumulated values over as an unmodifiable view, without copying them. This is safe
+     * because a collector is discarded after {@link #finish()}.
+     */
+    protected List<T> valuesView() {
+        return Collections.unmodifiableList(values);
     }
 
     protected abstract R finish(List<T> values, Validation validation);
@@ -59,7 +74,7 @@ public abstract class ListResultCollector<T extends @Nullable Object, R, SELF ex
 
         @Override
         protected List<T> finish(List<T> values, Validation validation) {
-            return validation.checkAndGet(() -> List.copyOf(values));
+            return validation.checkAndGet(() -> valuesView());
         }
     }
 
@@ -81,7 +96,7 @@ public abstract class ListResultCollector<T extends @Nullable Object, R, SELF ex
 
         @Override
         protected Result<List<T>> finish(List<T> values, Validation validation) {
-            return validation.asResult(() -> List.copyOf(values));
+            return validation.asResult(() -> valuesView());
         }
     }
 
@@ -103,7 +118,7 @@ public abstract class ListResultCollector<T extends @Nullable Object, R, SELF ex
 
         @Override
         protected PartialResult<List<T>> finish(List<T> values, Validation validation) {
-            return new PartialResult<>(List.copyOf(values), validation.finish());
+            return new PartialResult<>(valuesView(), validation.finish());
         }
     }
 }
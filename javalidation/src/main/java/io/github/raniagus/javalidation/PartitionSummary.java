@@ -0,0 +1,30 @@
+package io.github.raniagus.javalidation;
+
+/**
+ * The outcome of a streaming partition, where valid values were forwarded to a sink instead of
+ * being collected.
+ * <p>
+ * The counts cover every element of the stream, while {@link #errors()} may hold only a sample of
+ * the failed elements; use {@link #isSampled()} to tell the two apart.
+ *
+ * @param validCount   the number of {@link Result.Ok} elements forwarded to the sink
+ * @param invalidCount the number of {@link Result.Err} elements
+ * @param errors       the errors of the first failed elements, up to {@code sampleSize} of them
+ * @param sampleSize   the sample size the collector was created with, {@link Integer#MAX_VALUE} if unbounded
+ * @see ResultCollector#forEachValid(java.util.function.Consumer)
+ */
+public record PartitionSummary(long validCount, long invalidCount, ValidationErrors errors, int sampleSize) {
+    public boolean hasErrors() {
+        return invalidCount > 0;
+    }
+
+    /**
+     * Returns {@code true} if some failed elements are counted in {@link #invalidCount()} but their
+     * errors were left out of {@link #errors()}.
+     *
+     * @return whether {@link #errors()} is only a sample
+     */
+    public boolean isSampled() {
+        return invalidCount > sampleSize;
+    }
+}
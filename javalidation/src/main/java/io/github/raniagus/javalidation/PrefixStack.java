@@ -1,8 +1,14 @@
 package io.github.raniagus.javalidation;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * An immutable cons-list of {@link FieldKeyPart} segments used to accumulate field-path prefixes
- * as they flow through a chain of {@link ResultCollectorWrapper} instances.
+ * as they flow through a chain of {@link ResultCollectorWrapper} instances, and to track the
+ * current {@link Validation#withField(String, Runnable) withField} scope of a {@link Validation}.
+ * <p>
+ * Because nodes are immutable, entering a scope is a single {@code prepend} and leaving it just
+ * restores the parent node; sibling scopes share their parent's nodes.
  *
  * <h2>Structure</h2>
  * <pre>
@@ -32,16 +38,18 @@ package io.github.raniagus.javalidation;
  *   <li>{@code WithPrefix("order")} creates {@code PrefixStack.of("order")} → {@code Cons(StringKey("order"), EMPTY, 1)}</li>
  *   <li>{@code WithPrefix("items")} prepends: {@code Cons(StringKey("items"), Cons(StringKey("order"), EMPTY, 1), 2)}</li>
  *   <li>{@code WithIndex} prepends: {@code Cons(IntKey(i), Cons(StringKey("items"), …, 2), 3)}</li>
- *   <li>The leaf collector calls {@link #toFieldKey()}, which allocates an array of {@link #size()}
- *       and fills it from the last index toward 0 — producing
- *       {@code [StringKey("order"), StringKey("items"), IntKey(i)]} in outermost-first order,
- *       then wraps it in a {@link FieldKey}.</li>
+ *   <li>The leaf collector calls {@link #toFieldKey()}, which appends {@code IntKey(i)} to the
+ *       memoized key of the shared {@code "items"} node — producing
+ *       {@code [StringKey("order"), StringKey("items"), IntKey(i)]} in outermost-first order.</li>
  * </ol>
  *
- * <h2>Why {@code size} is stored in {@code Cons}</h2>
- * {@link #toFieldKey()} is called once per stream element (N elements → N calls, each on a fresh
- * instance). Storing {@code size} eliminates the counting traversal on every one of those N calls,
- * halving the total traversal work from N×2D to N×D (where D is wrapper depth).
+ * <h2>Why {@code toFieldKey} is memoized in {@code Cons}</h2>
+ * {@link #toFieldKey()} is called once per failing stream element, and once per error added inside a
+ * {@link Validation} scope. Most of those calls share all but the head node, so each {@code Cons}
+ * caches its key: a fresh node appends its head to its tail's key instead of walking the whole chain,
+ * and a shared node costs nothing after the first call. Appending shares the tail key's array when its
+ * next slot is free, so the first child of each node, and so a whole chain of nested scopes, copies
+ * nothing; only later siblings copy their tail's segments.
  *
  * @see ResultCollectorWrapper
  * @see FieldKeyPart
@@ -53,10 +61,17 @@ public sealed interface PrefixStack {
 
     /** The empty terminus of every {@code PrefixStack} chain. */
     record Empty() implements PrefixStack {
+        private static final FieldKey FIELD_KEY = FieldKey.of(new FieldKeyPart[0]);
+
         @Override
         public int size() {
             return 0;
         }
+
+        @Override
+        public FieldKey toFieldKey() {
+            return FIELD_KEY;
+        }
     }
 
     /**
@@ -66,7 +81,64 @@ public sealed interface PrefixStack {
      * {@link #prepend(FieldKeyPart)}, {@link #prepend(String)}, {@link #prepend(int)},
      * {@link #of(FieldKeyPart)}, {@link #of(String)}, and {@link #of(int)}.
      */
-    record Cons(FieldKeyPart head, PrefixStack tail, int size) implements PrefixStack {}
+    final class Cons implements PrefixStack {
+        private final FieldKeyPart head;
+        private final PrefixStack tail;
+        private final int size;
+        // false for segments that come from data, such as map keys, whose names must not be interned
+        private final boolean internHead;
+        // Memoized by toFieldKey(); a benign race, since FieldKey is immutable
+        private @Nullable FieldKey fieldKey;
+
+        public Cons(FieldKeyPart head, PrefixStack tail, int size) {
+            this(head, tail, size, true);
+        }
+
+        Cons(FieldKeyPart head, PrefixStack tail, int size, boolean internHead) {
+            this.head = head;
+            this.tail = tail;
+            this.size = size;
+            this.internHead = internHead;
+        }
+
+        public FieldKeyPart head() {
+            return head;
+        }
+
+        public PrefixStack tail() {
+            return tail;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public FieldKey toFieldKey() {
+            FieldKey key = fieldKey;
+            if (key == null) {
+                key = tail.toFieldKey().withSuffix(head, internHead);
+                fieldKey = key;
+            }
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Cons c && size == c.size && head.equals(c.head) && tail.equals(c.tail);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * head.hashCode() + tail.hashCode()) + size;
+        }
+
+        @Override
+        public String toString() {
+            return "Cons[head=" + head + ", tail=" + tail + ", size=" + size + "]";
+        }
+    }
 
     /** Returns the number of segments in this stack. O(1). */
     int size();
@@ -151,19 +223,13 @@ public sealed interface PrefixStack {
      * Converts this stack to a {@link FieldKey} in outermost-first segment order.
      * <p>
      * Because the cons-list is built innermost-first (the outermost wrapper's segment sits deepest
-     * in the tail chain), this method allocates an array of {@link #size()} and fills it from the
-     * last index toward index 0. The result is wrapped in a {@link FieldKey} ready for use in
-     * {@link Validation#addAllAt(FieldKey, ValidationErrors)}.
+     * in the tail chain), the key of a {@link Cons} is its tail's key with {@code head} appended.
+     * Each node computes its key once, from its tail's memoized key, and returns the same instance
+     * afterward; nodes shared by many elements (a common wrapper prefix, or the current scope of a
+     * {@link Validation}) never rebuild it.
      *
      * @return a {@link FieldKey} with segments in outermost-first order, or an empty-array
      *         {@link FieldKey} if this stack is {@link Empty}
      */
-    default FieldKey toFieldKey() {
-        FieldKeyPart[] arr = new FieldKeyPart[size()];
-        int i = size() - 1;
-        for (PrefixStack s = this; s instanceof Cons c; s = c.tail()) {
-            arr[i--] = c.head();
-        }
-        return FieldKey.of(arr);
-    }
+    FieldKey toFieldKey();
 }
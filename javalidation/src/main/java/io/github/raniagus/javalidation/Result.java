@@ -1,6 +1,15 @@
 package io.github.raniagus.javalidation;
 
+import io.github.raniagus.javalidation.combiner.ConcurrentResults;
+import io.github.raniagus.javalidation.combiner.ResultCombiner10;
 import io.github.raniagus.javalidation.combiner.ResultCombiner2;
+import io.github.raniagus.javalidation.combiner.ResultCombiner3;
+import io.github.raniagus.javalidation.combiner.ResultCombiner4;
+import io.github.raniagus.javalidation.combiner.ResultCombiner5;
+import io.github.raniagus.javalidation.combiner.ResultCombiner6;
+import io.github.raniagus.javalidation.combiner.ResultCombiner7;
+import io.github.raniagus.javalidation.combiner.ResultCombiner8;
+import io.github.raniagus.javalidation.combiner.ResultCombiner9;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -262,6 +271,83 @@ public sealed interface Result<T extends @Nullable Object> {
         return new ResultCombiner2<>(this, result);
     }
 
+    /**
+     * Evaluates independent result suppliers concurrently, each on its own virtual thread, and
+     * combines them like {@link #and(Result)}.
+     * <p>
+     * Blocks until every supplier completes. A {@link JavalidationException} thrown by a supplier is
+     * converted to {@link Err} for that slot; any other exception cancels the suppliers still running
+     * and is rethrown. Use {@link ConcurrentResults} to configure the executor or a timeout.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * Result<Person> person = Result.combineConcurrently(
+     *         () -> validateName(name),
+     *         () -> validateEmailIsFree(email)
+     *     )
+     *     .combine((n, e) -> new Person(n, e));
+     * }</pre>
+     *
+     * @param result1 supplies the first result
+     * @param result2 supplies the second result
+     * @param <T1> the type of the first result's success value
+     * @param <T2> the type of the second result's success value
+     * @return a {@link ResultCombiner2} that can be chained with more results or terminated with {@code combine()}
+     * @see ConcurrentResults
+     */
+    static <T1 extends @Nullable Object, T2 extends @Nullable Object> ResultCombiner2<T1, T2> combineConcurrently(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2) {
+        return ConcurrentResults.create().supply(result1, result2);
+    }
+
+    /** Like {@link #combineConcurrently(Supplier, Supplier)}, but evaluating 3 suppliers. */
+    static <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object> ResultCombiner3<T1, T2, T3> combineConcurrently(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3) {
+        return ConcurrentResults.create().supply(result1, result2, result3);
+    }
+
+    /** Like {@link #combineConcurrently(Supplier, Supplier)}, but evaluating 4 suppliers. */
+    static <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object> ResultCombiner4<T1, T2, T3, T4> combineConcurrently(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4) {
+        return ConcurrentResults.create().supply(result1, result2, result3, result4);
+    }
+
+    /** Like {@link #combineConcurrently(Supplier, Supplier)}, but evaluating 5 suppliers. */
+    static <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object> ResultCombiner5<T1, T2, T3, T4, T5> combineConcurrently(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5) {
+        return ConcurrentResults.create().supply(result1, result2, result3, result4, result5);
+    }
+
+    /** Like {@link #combineConcurrently(Supplier, Supplier)}, but evaluating 6 suppliers. */
+    static <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object> ResultCombiner6<T1, T2, T3, T4, T5, T6> combineConcurrently(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6) {
+        return ConcurrentResults.create().supply(result1, result2, result3, result4, result5, result6);
+    }
+
+    /** Like {@link #combineConcurrently(Supplier, Supplier)}, but evaluating 7 suppliers. */
+    static <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object> ResultCombiner7<T1, T2, T3, T4, T5, T6, T7> combineConcurrently(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6, Supplier<Result<T7>> result7) {
+        return ConcurrentResults.create().supply(result1, result2, result3, result4, result5, result6, result7);
+    }
+
+    /** Like {@link #combineConcurrently(Supplier, Supplier)}, but evaluating 8 suppliers. */
+    static <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object, T8 extends @Nullable Object> ResultCombiner8<T1, T2, T3, T4, T5, T6, T7, T8> combineConcurrently(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6, Supplier<Result<T7>> result7, Supplier<Result<T8>> result8) {
+        return ConcurrentResults.create().supply(result1, result2, result3, result4, result5, result6, result7, result8);
+    }
+
+    /** Like {@link #combineConcurrently(Supplier, Supplier)}, but evaluating 9 suppliers. */
+    static <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object, T8 extends @Nullable Object, T9 extends @Nullable Object> ResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9> combineConcurrently(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6, Supplier<Result<T7>> result7, Supplier<Result<T8>> result8, Supplier<Result<T9>> result9) {
+        return ConcurrentResults.create().supply(result1, result2, result3, result4, result5, result6, result7, result8, result9);
+    }
+
+    /** Like {@link #combineConcurrently(Supplier, Supplier)}, but evaluating 10 suppliers. */
+    static <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object, T8 extends @Nullable Object, T9 extends @Nullable Object, T10 extends @Nullable Object> ResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> combineConcurrently(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6, Supplier<Result<T7>> result7, Supplier<Result<T8>> result8, Supplier<Result<T9>> result9, Supplier<Result<T10>> result10) {
+        return ConcurrentResults.create().supply(result1, result2, result3, result4, result5, result6, result7, result8, result9, result10);
+    }
+
     /**
      * Provides a fallback result if this result is an error (lazy evaluation).
      * <p>
@@ -384,6 +470,7 @@ public sealed interface Result<T extends @Nullable Object> {
                 case Err<T>(ValidationErrors errors) -> mapper.apply(errors);
             };
         } catch (JavalidationException e) {
+            ExceptionCaughtEvent.emit("Result.flatMapErr", e);
             return new Err<>(e.getErrors());
         }
     }
@@ -447,6 +534,7 @@ public sealed interface Result<T extends @Nullable Object> {
             }
             return this;
         } catch (JavalidationException e) {
+            ExceptionCaughtEvent.emit("Result.peek", e);
             return new Err<>(e.getErrors());
         }
     }
@@ -478,6 +566,7 @@ public sealed interface Result<T extends @Nullable Object> {
             }
             return this;
         } catch (JavalidationException e) {
+            ExceptionCaughtEvent.emit("Result.peekErr", e);
             return new Err<>(e.getErrors());
         }
     }
@@ -520,6 +609,7 @@ public sealed interface Result<T extends @Nullable Object> {
                 case Err<T>(ValidationErrors errors) -> new Err<>(errors);
             };
         } catch (JavalidationException e) {
+            ExceptionCaughtEvent.emit("Result.flatMap", e);
             return new Err<>(e.getErrors());
         }
     }
@@ -705,6 +795,7 @@ public sealed interface Result<T extends @Nullable Object> {
         try {
             return new Ok<>(supplier.get());
         } catch (JavalidationException e) {
+            ExceptionCaughtEvent.emit("Result.of", e);
             return new Err<>(e.getErrors());
         }
     }
@@ -733,6 +824,7 @@ public sealed interface Result<T extends @Nullable Object> {
             runnable.run();
             return new Ok<>(null);
         } catch (JavalidationException e) {
+            ExceptionCaughtEvent.emit("Result.of", e);
             return new Err<>(e.getErrors());
         }
     }
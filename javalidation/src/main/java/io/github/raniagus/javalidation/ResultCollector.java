@@ -1,6 +1,7 @@
 package io.github.raniagus.javalidation;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collector;
 import org.jspecify.annotations.Nullable;
 
@@ -12,6 +13,7 @@ import org.jspecify.annotations.Nullable;
  *   <li>{@link #toListOrThrow()} - Collects into a {@link List}, throwing on errors</li>
  *   <li>{@link #toResultList()} - Collects into a {@link Result} of {@link List}</li>
  *   <li>{@link #toPartialResult()} - Collects valid items and errors separately</li>
+ *   <li>{@link #forEachValid(Consumer)} - Forwards valid items to a sink and collects only errors</li>
  * </ul>
  * <p>
  * By default, collectors do not automatically index errors. Use the {@link #withIndex(Collector)} wrapper
@@ -85,7 +87,7 @@ public interface ResultCollector<T extends @Nullable Object, R, SELF extends Res
      * @see #withIndex(Collector)
      * @see #withPrefix(String, Collector)
      */
-    static <T extends @Nullable Object, R, C extends ListResultCollector<T, R, C>> Collector<Result<T>, ResultCollectorWrapper.WithIndex<T, R, C>, R> withIndex(
+    static <T extends @Nullable Object, R, C extends ResultCollector<T, R, C>> Collector<Result<T>, ResultCollectorWrapper.WithIndex<T, R, C>, R> withIndex(
             Collector<Result<T>, C, R> collector
     ) {
         return Collector.of(
@@ -522,4 +524,62 @@ public interface ResultCollector<T extends @Nullable Object, R, SELF extends Res
                 ListResultCollector.ToPartialResult::combine,
                 ListResultCollector.ToPartialResult::finish);
     }
+
+    /**
+     * Returns a {@link Collector} that forwards success values to {@code sink} as they arrive and
+     * collects only the errors.
+     * <p>
+     * Unlike {@link #toPartialResult()}, no success value is retained, so memory depends only on the
+     * number of errors. The returned {@link PartitionSummary} counts the forwarded and failed elements.
+     * For parallel streams, {@code sink} must be thread-safe.
+     * <p>
+     * <strong>Example:</strong>
+     * <pre>{@code
+     * PartitionSummary summary = Files.lines(path)
+     *     .map(this::parseRow)
+     *     .collect(withIndex(forEachValid(writer::write)));
+     *
+     * log.info("Imported {} rows, {} invalid", summary.validCount(), summary.invalidCount());
+     * }</pre>
+     *
+     * @param sink receives every success value
+     * @param <T>  the type of the success values
+     * @return a collector that forwards success values and produces a {@link PartitionSummary}
+     * @see #forEachValid(Consumer, int)
+     * @see #withIndex(Collector)
+     */
+    static <T extends @Nullable Object> Collector<Result<T>, ForwardingResultCollector<T>, PartitionSummary> forEachValid(
+            Consumer<? super T> sink
+    ) {
+        return forEachValid(sink, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a {@link Collector} that forwards success values to {@code sink} as they arrive and
+     * keeps the errors of only the first {@code sampleSize} failed elements.
+     * <p>
+     * Failed elements beyond the sample are still counted in {@link PartitionSummary#invalidCount()},
+     * so memory stays bounded no matter how many elements fail. A {@code sampleSize} of {@code 0}
+     * keeps only the counts.
+     *
+     * @param sink       receives every success value
+     * @param sampleSize the maximum number of failed elements whose errors are kept
+     * @param <T>        the type of the success values
+     * @return a collector that forwards success values and produces a {@link PartitionSummary}
+     * @throws IllegalArgumentException if {@code sampleSize} is negative
+     * @see #forEachValid(Consumer)
+     */
+    static <T extends @Nullable Object> Collector<Result<T>, ForwardingResultCollector<T>, PartitionSummary> forEachValid(
+            Consumer<? super T> sink,
+            int sampleSize
+    ) {
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("sampleSize must not be negative");
+        }
+        return Collector.of(
+                () -> new ForwardingResultCollector<>(sink, sampleSize),
+                ForwardingResultCollector::add,
+                ForwardingResultCollector::combine,
+                ForwardingResultCollector::finish);
+    }
 }
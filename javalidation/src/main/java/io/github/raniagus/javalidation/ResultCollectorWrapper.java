@@ -54,25 +54,34 @@ public abstract class ResultCollectorWrapper<T extends @Nullable Object, R, C ex
 
     public static class WithPrefix<T extends @Nullable Object, R, C extends ResultCollector<T, R, C>> extends ResultCollectorWrapper<T, R, C, WithPrefix<T, R, C>> {
         private final FieldKeyPart prefix;
+        // The same node is reused for consecutive elements, so its memoized FieldKey is built once
+        private PrefixStack lastIncoming = PrefixStack.empty();
+        private PrefixStack lastStack;
 
         public WithPrefix(C collector, FieldKeyPart prefix) {
             super(collector);
             this.prefix = prefix;
+            this.lastStack = PrefixStack.of(prefix);
         }
 
         public WithPrefix(Collector<Result<T>, C, R> collector, FieldKeyPart prefix) {
             super(collector);
             this.prefix = prefix;
+            this.lastStack = PrefixStack.of(prefix);
         }
 
         @Override
         public void add(Result<T> result) {
-            resultCollector.add(result, PrefixStack.of(prefix));
+            add(result, PrefixStack.empty());
         }
 
         @Override
         public void add(Result<T> result, PrefixStack incoming) {
-            resultCollector.add(result, incoming.prepend(prefix));
+            if (incoming != lastIncoming) {
+                lastIncoming = incoming;
+                lastStack = incoming.prepend(prefix);
+            }
+            resultCollector.add(result, lastStack);
         }
 
         @Override
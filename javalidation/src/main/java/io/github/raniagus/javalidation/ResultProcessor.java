@@ -0,0 +1,320 @@
+package io.github.raniagus.javalidation;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Flow.Processor} that validates an unbounded stream of {@link Result}s incrementally.
+ * <p>
+ * This is the streaming counterpart of {@link ResultCollector#withIndex(java.util.stream.Collector)
+ * withIndex}{@code (}{@link ResultCollector#toPartialResult() toPartialResult()}{@code )}:
+ * <ul>
+ *   <li>Every {@link Result.Ok} is forwarded downstream as soon as it arrives.</li>
+ *   <li>Errors are prefixed with the element's 0-based index ({@code [0]}, {@code [1]}, etc.) and
+ *       accumulated into a window, which is forwarded as a single {@link Result.Err} once it holds
+ *       {@code maxBatchSize} failed elements, once {@code maxDelay} has passed since its first error,
+ *       or when the upstream terminates.</li>
+ * </ul>
+ * <p>
+ * The processor never requests more elements from upstream than its subscriber has requested, so
+ * backpressure is propagated and memory stays bounded by {@code maxBatchSize} no matter how long the
+ * stream runs. Upstream errors are forwarded after the pending window. Only one subscriber is
+ * supported.
+ * <p>
+ * Indices are {@code int} field-key segments, so on a stream of more than {@link Integer#MAX_VALUE}
+ * elements they wrap around to negative values.
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * ResultProcessor<Order> processor = ResultProcessor.create(100, Duration.ofSeconds(1));
+ * ordersPublisher.subscribe(processor);   // Flow.Publisher<Result<Order>>
+ * processor.subscribe(subscriber);        // receives Ok(order) and windowed Err(errors)
+ * }</pre>
+ *
+ * @param <T> the type of the success values
+ * @see ResultCollector
+ */
+public final class ResultProcessor<T extends @Nullable Object> implements Flow.Processor<Result<T>, Result<T>> {
+    private final int maxBatchSize;
+    private final @Nullable Duration maxDelay;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Queue<Result<T>> queue = new ArrayDeque<>();
+
+    private Flow.@Nullable Subscription upstream;
+    private Flow.@Nullable Subscriber<? super Result<T>> downstream;
+    private long demand;
+    private long upstreamPending;
+    // Wraps around after Integer.MAX_VALUE elements, as documented on the class
+    private int index;
+    private Validation batch = Validation.create();
+    private int batchSize;
+    private int batchGeneration;
+    private boolean upstreamDone;
+    private @Nullable Throwable failure;
+    private boolean cancelled;
+    private boolean terminated;
+
+    private ResultProcessor(int maxBatchSize, @Nullable Duration maxDelay) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        if (maxDelay != null && (maxDelay.isNegative() || maxDelay.isZero())) {
+            throw new IllegalArgumentException("maxDelay must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Creates a processor that forwards errors in windows of up to {@code maxBatchSize} failed elements.
+     *
+     * @param maxBatchSize the number of failed elements that closes a window
+     * @param <T> the type of the success values
+     * @return a new processor
+     * @throws IllegalArgumentException if {@code maxBatchSize} is not positive
+     */
+    public static <T extends @Nullable Object> ResultProcessor<T> create(int maxBatchSize) {
+        return new ResultProcessor<>(maxBatchSize, null);
+    }
+
+    /**
+     * Creates a processor that forwards errors in windows of up to {@code maxBatchSize} failed elements,
+     * or after {@code maxDelay} has passed since the first error of the window, whichever comes first.
+     *
+     * @param maxBatchSize the number of failed elements that closes a window
+     * @param maxDelay     the maximum time an error is held back
+     * @param <T> the type of the success values
+     * @return a new processor
+     * @throws IllegalArgumentException if {@code maxBatchSize} or {@code maxDelay} is not positive
+     */
+    public static <T extends @Nullable Object> ResultProcessor<T> create(int maxBatchSize, Duration maxDelay) {
+        return new ResultProcessor<>(maxBatchSize, Objects.requireNonNull(maxDelay));
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Result<T>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        boolean accepted;
+        synchronized (this) {
+            accepted = downstream == null;
+            if (accepted) {
+                downstream = subscriber;
+            }
+        }
+        if (!accepted) {
+            rejectSubscriber(subscriber);
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        drain();
+    }
+
+    private static void rejectSubscriber(Flow.Subscriber<?> subscriber) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(new IllegalStateException("ResultProcessor supports a single subscriber"));
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        boolean accepted;
+        synchronized (this) {
+            accepted = upstream == null && !cancelled && !upstreamDone;
+            if (accepted) {
+                upstream = subscription;
+            }
+        }
+        if (!accepted) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(Result<T> item) {
+        Objects.requireNonNull(item);
+        synchronized (this) {
+            if (cancelled || upstreamDone) {
+                return;
+            }
+            upstreamPending--;
+            int itemIndex = index++;
+            if (item instanceof Result.Err<T>(ValidationErrors errors)) {
+                batch.addAllAt(FieldKey.of(itemIndex), errors);
+                if (++batchSize >= maxBatchSize) {
+                    closeBatch();
+                } else if (batchSize == 1 && maxDelay != null) {
+                    scheduleFlush(maxDelay, batchGeneration);
+                }
+            } else {
+                queue.add(item);
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        synchronized (this) {
+            failure = throwable;
+            terminateUpstream();
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            terminateUpstream();
+        }
+        drain();
+    }
+
+    private void terminateUpstream() {
+        upstreamDone = true;
+        if (batchSize > 0) {
+            closeBatch();
+        }
+    }
+
+    private void scheduleFlush(Duration delay, int generation) {
+        CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            synchronized (this) {
+                if (generation != batchGeneration || batchSize == 0) {
+                    return;
+                }
+                closeBatch();
+            }
+            drain();
+        });
+    }
+
+    private void closeBatch() {
+        queue.add(Result.error(batch.finish()));
+        batch = Validation.create();
+        batchSize = 0;
+        batchGeneration++;
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            while (true) {
+                Flow.@Nullable Subscriber<? super Result<T>> subscriber;
+                Flow.@Nullable Subscription subscription;
+                Result<T> next = null;
+                long request = 0;
+                boolean terminate = false;
+                synchronized (this) {
+                    subscriber = downstream;
+                    subscription = upstream;
+                    if (subscriber == null || cancelled || terminated) {
+                        break;
+                    }
+                    if (demand > 0 && !queue.isEmpty()) {
+                        next = queue.poll();
+                        if (demand != Long.MAX_VALUE) {
+                            demand--;
+                        }
+                    } else if (queue.isEmpty() && upstreamDone) {
+                        terminated = true;
+                        terminate = true;
+                    } else if (subscription != null && !upstreamDone) {
+                        long wanted = demand - queue.size() - upstreamPending;
+                        if (wanted > 0) {
+                            upstreamPending += wanted;
+                            request = wanted;
+                        }
+                    }
+                }
+                if (next != null) {
+                    subscriber.onNext(next);
+                } else if (terminate) {
+                    Throwable error = failure;
+                    if (error == null) {
+                        subscriber.onComplete();
+                    } else {
+                        subscriber.onError(error);
+                    }
+                } else if (request > 0) {
+                    Objects.requireNonNull(subscription).request(request);
+                } else {
+                    break;
+                }
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                rejectRequest(n);
+                return;
+            }
+            synchronized (ResultProcessor.this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            drain();
+        }
+
+        // Reactive Streams rule 3.9: fail the subscriber, but through drain() so onError is not
+        // signalled concurrently with an onNext in progress
+        private void rejectRequest(long n) {
+            Flow.@Nullable Subscription subscription;
+            synchronized (ResultProcessor.this) {
+                if (cancelled || terminated) {
+                    return;
+                }
+                failure = new IllegalArgumentException("non-positive request: " + n);
+                upstreamDone = true;
+                queue.clear();
+                batch = Validation.create();
+                batchSize = 0;
+                batchGeneration++;
+                subscription = upstream;
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            Flow.@Nullable Subscription subscription;
+            synchronized (ResultProcessor.this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                queue.clear();
+                batch = Validation.create();
+                batchSize = 0;
+                subscription = upstream;
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+}
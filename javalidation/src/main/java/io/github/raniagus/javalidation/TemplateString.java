@@ -35,14 +35,18 @@ import java.util.Objects;
  * @see io.github.raniagus.javalidation.ValidationErrors
  */
 public record TemplateString(String message, Object[] args) {
+    private static final Object[] EMPTY_ARGS = {};
+
     /**
      * Compact constructor that creates a defensive copy of the arguments array.
      * <p>
      * This ensures the {@code TemplateString} is truly immutable even if the caller
-     * retains a reference to the original array.
+     * retains a reference to the original array. Empty arrays cannot be mutated, so all
+     * no-argument instances share a single empty array instead, which also lets the JIT
+     * discard the empty varargs array created at the call site.
      */
     public TemplateString {
-        args = Arrays.copyOf(args, args.length);
+        args = args.length == 0 ? EMPTY_ARGS : Arrays.copyOf(args, args.length);
     }
 
     /**
@@ -1,8 +1,7 @@
 package io.github.raniagus.javalidation;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,11 +68,30 @@ import org.jspecify.annotations.Nullable;
  * @see JavalidationException
  */
 public class Validation {
-    private final Deque<FieldKeyPart> prefix = new ArrayDeque<>();
-    private final List<TemplateString> rootErrors = new ArrayList<>();
-    private final Map<FieldKey, List<TemplateString>> fieldErrors = new HashMap<>();
+    // Current withField/withEach scope, innermost segment first; restored on exit instead of popped
+    private PrefixStack prefix = PrefixStack.empty();
+    private List<TemplateString> rootErrors = List.of();
+    // Starts as the shared empty map; ownedFieldErrors() allocates a HashMap on the first field error
+    private Map<FieldKey, List<TemplateString>> fieldErrors = Map.of();
+    private final int expectedFields;
+    private int count;
+    // Incremented by finish(): error lists created before that belong to a ValidationErrors snapshot
+    private int version;
+    private boolean fieldErrorsShared = true;
+    // Read from a clock by the first instant(Clock) call, then shared by every later one
+    private @Nullable Instant instant;
 
-    private Validation() {}
+    private Validation(int expectedFields) {
+        this.expectedFields = expectedFields;
+    }
+
+    // Called by the factories once the instance is fully constructed, so listeners never see it escape early
+    private static Validation started(Validation validation) {
+        if (ValidationListeners.ENABLED) {
+            ValidationListeners.LISTENER.onStart(validation);
+        }
+        return validation;
+    }
 
     /**
      * Adds a root-level validation error.
@@ -93,11 +111,41 @@ public class Validation {
      */
     public Validation addError(String message, Object... args) {
         Objects.requireNonNull(message);
+        return addError(new TemplateString(message, args));
+    }
+
+    /**
+     * Adds a prebuilt root-level validation error.
+     * <p>
+     * Behaves like {@link #addError(String, Object...)}, but reuses the given {@link TemplateString}
+     * instead of creating a new one. Since {@code TemplateString} is immutable, an error whose
+     * arguments are known in advance can be stored in a constant and added without allocating:
+     * <pre>{@code
+     * private static final TemplateString TOO_YOUNG = TemplateString.of("Must be at least {0}", 18);
+     *
+     * validation.withField("age", () -> {
+     *     if (user.age() < 18) {
+     *         validation.addError(TOO_YOUNG);
+     *     }
+     * });
+     * }</pre>
+     * An uncast {@code addError(null)} resolves to this overload rather than the varargs one; both throw
+     * {@link NullPointerException}, so existing code keeps compiling and failing the same way.
+     *
+     * @param error the error to add (must not be null)
+     * @return this validation for method chaining
+     * @throws NullPointerException if error is null
+     */
+    public Validation addError(TemplateString error) {
+        Objects.requireNonNull(error);
         if (prefix.isEmpty()) {
-            rootErrors.add(new TemplateString(message, args));
+            rootErrors = ErrorList.append(rootErrors, error, version);
+            count++;
+            if (ValidationListeners.ENABLED) {
+                ValidationListeners.LISTENER.onErrorAdded(this, null, error);
+            }
         } else {
-            fieldErrors.computeIfAbsent(FieldKey.of(prefix), k -> new ArrayList<>(1))
-                    .add(new TemplateString(message, args));
+            appendFieldError(prefix.toFieldKey(), error);
         }
         return this;
     }
@@ -105,13 +153,54 @@ public class Validation {
     private void addRootErrors(List<TemplateString> messages) {
         Objects.requireNonNull(messages);
         if (prefix.isEmpty()) {
-            rootErrors.addAll(messages);
-        } else {
-            fieldErrors.computeIfAbsent(FieldKey.of(prefix), k -> new ArrayList<>(messages.size()))
-                    .addAll(messages);
+            count += messages.size();
+            rootErrors = ErrorList.appendAll(rootErrors, messages, version);
+            if (ValidationListeners.ENABLED) {
+                messages.forEach(error -> ValidationListeners.LISTENER.onErrorAdded(this, null, error));
+            }
+        } else if (!messages.isEmpty()) {
+            appendFieldErrors(prefix.toFieldKey(), messages);
         }
     }
 
+    private void appendFieldError(FieldKey key, TemplateString error) {
+        Map<FieldKey, List<TemplateString>> fieldErrors = ownedFieldErrors();
+        List<TemplateString> errors = fieldErrors.putIfAbsent(key, List.of(error));
+        count++;
+        if (ValidationListeners.ENABLED) {
+            ValidationListeners.LISTENER.onErrorAdded(this, key, error);
+        }
+        if (errors != null) {
+            List<TemplateString> appended = ErrorList.append(errors, error, version);
+            if (appended != errors) {
+                fieldErrors.put(key, appended);
+            }
+        }
+    }
+
+    private void appendFieldErrors(FieldKey key, List<TemplateString> messages) {
+        Map<FieldKey, List<TemplateString>> fieldErrors = ownedFieldErrors();
+        List<TemplateString> errors = fieldErrors.getOrDefault(key, List.of());
+        count += messages.size();
+        if (ValidationListeners.ENABLED) {
+            messages.forEach(error -> ValidationListeners.LISTENER.onErrorAdded(this, key, error));
+        }
+        List<TemplateString> appended = ErrorList.appendAll(errors, messages, version);
+        if (appended != errors) {
+            fieldErrors.put(key, appended);
+        }
+    }
+
+    private Map<FieldKey, List<TemplateString>> ownedFieldErrors() {
+        if (fieldErrorsShared) {
+            Map<FieldKey, List<TemplateString>> owned = HashMap.newHashMap(Math.max(fieldErrors.size(), expectedFields));
+            owned.putAll(fieldErrors);
+            fieldErrors = owned;
+            fieldErrorsShared = false;
+        }
+        return fieldErrors;
+    }
+
     /**
      * Adds a field-specific validation error.
      * <p>
@@ -158,9 +247,32 @@ public class Validation {
         return addErrorAt(new FieldKeyPart.IntKey(field.intValue()), message, args);
     }
 
+    /**
+     * Adds a validation error at a nested field path.
+     * <p>
+     * Useful when the path was parsed from another representation, e.g. with a
+     * {@link io.github.raniagus.javalidation.format.FieldKeyParser FieldKeyParser}:
+     * <pre>{@code
+     * validation.addErrorAt(FieldKey.of("items", 0, "price"), "Must be positive");
+     * }</pre>
+     *
+     * @param field the field path (must not be null)
+     * @param message the error message template (must not be null)
+     * @param args optional arguments for the message template
+     * @return this validation for method chaining
+     * @throws NullPointerException if field or message is null
+     * @see #addErrorAt(String, String, Object...)
+     */
+    public Validation addErrorAt(FieldKey field, String message, Object... args) {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(message);
+        FieldKey key = prefix.isEmpty() ? field : field.withPrefix(prefix.toFieldKey());
+        appendFieldError(key, new TemplateString(message, args));
+        return this;
+    }
+
     private Validation addErrorAt(FieldKeyPart field, String message, Object... args) {
-        fieldErrors.computeIfAbsent(FieldKey.of(prefix, field), k -> new ArrayList<>(1))
-                .add(new TemplateString(message, args));
+        appendFieldError(prefix.prepend(field).toFieldKey(), new TemplateString(message, args));
         return this;
     }
 
@@ -168,10 +280,8 @@ public class Validation {
         Objects.requireNonNull(field);
         Objects.requireNonNull(messages);
         if (!messages.isEmpty()) {
-            FieldKey key = prefix.isEmpty() ? field : field.withPrefix(prefix.toArray(FieldKeyPart[]::new));
-            fieldErrors
-                    .computeIfAbsent(key, k -> new ArrayList<>(messages.size()))
-                    .addAll(messages);
+            FieldKey key = prefix.isEmpty() ? field : field.withPrefix(prefix.toFieldKey());
+            appendFieldErrors(key, messages);
         }
     }
 
@@ -224,7 +334,7 @@ public class Validation {
     public Validation withField(String field, Runnable runnable) {
         Objects.requireNonNull(field);
         Objects.requireNonNull(runnable);
-        return withField(new FieldKeyPart.StringKey(field), runnable);
+        return withScope(prefix.prepend(field), runnable);
     }
 
     /**
@@ -242,15 +352,35 @@ public class Validation {
     public Validation withField(Number field, Runnable runnable) {
         Objects.requireNonNull(field);
         Objects.requireNonNull(runnable);
-        return withField(new FieldKeyPart.IntKey(field.intValue()), runnable);
+        return withScope(prefix.prepend(field.intValue()), runnable);
+    }
+
+    /**
+     * Validates a nested element by executing validation logic within a scope named after the given segment.
+     * <p>
+     * Behaves like {@link #withField(String, Runnable)} or {@link #withField(Number, Runnable)}, except that
+     * the segment is treated as data, like every {@link FieldKeyPart}: a {@link FieldKeyPart.StringKey} name
+     * is not added to the process-wide table of interned names (see {@link FieldKey}). Generated validators use
+     * this method for map keys, via {@link FieldKeyPart#of(Object)}.
+     *
+     * @param field the segment to use as prefix (must not be null)
+     * @param runnable the validation logic to execute within the field context (must not be null)
+     * @return this validation for method chaining
+     * @throws NullPointerException if field or runnable is null
+     */
+    public Validation withField(FieldKeyPart field, Runnable runnable) {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(runnable);
+        return withScope(new PrefixStack.Cons(field, prefix, prefix.size() + 1, false), runnable);
     }
 
-    private Validation withField(FieldKeyPart field, Runnable runnable) {
-        prefix.add(field);
+    private Validation withScope(PrefixStack scope, Runnable runnable) {
+        PrefixStack parent = prefix;
+        prefix = scope;
         try {
             runnable.run();
         } finally {
-            prefix.removeLast();
+            prefix = parent;
         }
         return this;
     }
@@ -324,13 +454,14 @@ public class Validation {
     public <T extends @Nullable Object> Validation withEach(Iterable<T> items, BiConsumer<T, Integer> consumer) {
         Objects.requireNonNull(items);
         Objects.requireNonNull(consumer);
+        PrefixStack parent = prefix;
         int index = 0;
         for (T item : items) {
-            prefix.add(new FieldKeyPart.IntKey(index));
+            prefix = parent.prepend(index);
             try {
                 consumer.accept(item, index++);
             } finally {
-                prefix.removeLast();
+                prefix = parent;
             }
         }
         return this;
@@ -421,17 +552,43 @@ public class Validation {
             addFieldErrors(prefix, errors.rootErrors());
         }
         for (Map.Entry<FieldKey, List<TemplateString>> entry : errors.fieldErrors().entrySet()) {
-            addFieldErrors(entry.getKey().withPrefix(prefix.parts()), entry.getValue());
+            addFieldErrors(entry.getKey().withPrefix(prefix), entry.getValue());
         }
         return this;
     }
 
+    /**
+     * Returns the instant this validation checks time-based constraints against.
+     * <p>
+     * The first call reads {@code clock}; every later call returns that same instant, whatever clock it is
+     * given. Validators that share this {@code Validation}, such as a record validator and the validators of
+     * its nested records, therefore see a single snapshot, even across a midnight boundary. Generated
+     * validators call this method for {@code @Past}, {@code @Future} and their variants.
+     *
+     * @param clock the clock to read if no instant has been taken yet (must not be null)
+     * @return the instant of this validation
+     * @throws NullPointerException if clock is null
+     */
+    public Instant instant(Clock clock) {
+        Objects.requireNonNull(clock);
+        Instant current = instant;
+        if (current == null) {
+            current = clock.instant();
+            instant = current;
+        }
+        return current;
+    }
+
     /**
      * Converts this mutable validation into an immutable {@link ValidationErrors}.
      * <p>
-     * This is a terminal operation. The returned {@link ValidationErrors} holds direct references
-     * to this builder's internal collections; do not mutate this {@code Validation} after calling
-     * {@code finish()}.
+     * The returned {@link ValidationErrors} is an immutable snapshot of the errors accumulated so far.
+     * Ownership of the internal collections is handed over without copying them; if this
+     * {@code Validation} is used again afterward, it switches to fresh storage on its next change,
+     * leaving the snapshot untouched. The snapshot can therefore be shared across threads freely.
+     * <p>
+     * The error lists are unmodifiable. Since most fields fail with a single error, each list is
+     * stored as a singleton until a second error is added to the same field.
      * <p>
      * Example:
      * <pre>{@code
@@ -441,10 +598,20 @@ public class Validation {
      * }
      * }</pre>
      *
-     * @return a {@link ValidationErrors} view of the current errors
+     * @return a {@link ValidationErrors} snapshot of the current errors
      */
     public ValidationErrors finish() {
-        return new ValidationErrors(rootErrors, fieldErrors);
+        version++;
+        fieldErrorsShared = true;
+        Map<FieldKey, List<TemplateString>> snapshot = FieldErrorMap.of(fieldErrors, count - rootErrors.size());
+        if (count >= LargeReportEvent.MIN_ERROR_COUNT) {
+            LargeReportEvent.emit(count, fieldErrors.size());
+        }
+        ValidationErrors errors = new ValidationErrors(rootErrors, snapshot);
+        if (ValidationListeners.ENABLED) {
+            ValidationListeners.LISTENER.onFinish(this, errors);
+        }
+        return errors;
     }
 
     /**
@@ -556,6 +723,23 @@ public class Validation {
      * @return a new empty validation
      */
     public static Validation create() {
-        return new Validation();
+        return started(new Validation(0));
+    }
+
+    /**
+     * Creates a new empty {@code Validation} instance, sized for the given number of fields with errors.
+     * <p>
+     * The hint only pre-sizes the field error map, which is allocated when the first field error is
+     * added, so a validation that ends up without field errors costs nothing extra.
+     *
+     * @param expectedFields the expected number of distinct fields with errors (performance hint)
+     * @return a new empty validation
+     * @throws IllegalArgumentException if {@code expectedFields} is negative
+     */
+    public static Validation create(int expectedFields) {
+        if (expectedFields < 0) {
+            throw new IllegalArgumentException("expectedFields must not be negative");
+        }
+        return started(new Validation(expectedFields));
     }
 }
@@ -27,6 +27,9 @@ public class ValidationCollector<T extends @Nullable Object> implements ResultCo
 
     @Override
     public Validation finish() {
+        if (ValidationListeners.ENABLED) {
+            ValidationListeners.LISTENER.onCollectorFinish(this, validation);
+        }
         return validation;
     }
 }
@@ -14,7 +14,8 @@ import java.util.stream.Stream;
  *   <li><b>Field errors</b>: Validation failures associated with specific field names</li>
  * </ul>
  * <p>
- * This record is effectively immutable. See {@link Validation#finish()} for usage contract.
+ * This record is effectively immutable, and instances returned by {@link Validation#finish()} can be
+ * shared across threads without copying.
  * <p>
  * Errors are stored as {@link TemplateString} instances, which defer formatting until serialization
  * time. This enables internationalization support where error messages can be formatted differently
@@ -107,7 +108,7 @@ public record ValidationErrors(
      * @see #at(Number, String, Object...)
      */
     public static ValidationErrors at(String field, String message, Object... args) {
-        return at(FieldKey.of(new FieldKeyPart.StringKey(field)), message, args);
+        return at(FieldKey.of(field), message, args);
     }
 
     /**
@@ -166,7 +167,10 @@ public record ValidationErrors(
     public ValidationErrors mergeWith(ValidationErrors other) {
         return new ValidationErrors(
                 mergeErrors(rootErrors, other.rootErrors),
-                mergeFieldErrors(fieldErrors, other.fieldErrors)
+                FieldErrorMap.of(
+                        mergeFieldErrors(fieldErrors, other.fieldErrors),
+                        FieldErrorMap.errorCount(fieldErrors) + FieldErrorMap.errorCount(other.fieldErrors)
+                )
         );
     }
 
@@ -233,7 +237,7 @@ public record ValidationErrors(
         for (Map.Entry<FieldKey, List<TemplateString>> entry : fieldErrors.entrySet()) {
             prefixedFieldErrors.put(entry.getKey().withPrefix(prefix), entry.getValue());
         }
-        return new ValidationErrors(List.of(), prefixedFieldErrors);
+        return new ValidationErrors(List.of(), FieldErrorMap.of(prefixedFieldErrors, count()));
     }
 
     /**
@@ -269,18 +273,35 @@ public record ValidationErrors(
     }
 
     /**
-     * Returns the total number of errors (root and field).
+     * Returns the total number of errors (root and field). O(1) for errors built by {@link Validation},
+     * {@link #mergeWith(ValidationErrors)} or {@code withPrefix}; otherwise the field error lists are summed.
      * <p>
      * Example:
      * <pre>{@code
-     * logger.warn("Validation failed with {} errors", errors.errorCount());
+     * logger.warn("Validation failed with {} errors", errors.count());
      * }</pre>
      *
      * @return the total number of errors
      */
     public int count() {
-        return rootErrors.size() + fieldErrors.values().stream()
-                .mapToInt(List::size)
-                .sum();
+        return rootErrors.size() + FieldErrorMap.errorCount(fieldErrors);
+    }
+
+    /**
+     * Returns the number of errors for a single field, or {@code 0} if the field has none. O(1).
+     * <p>
+     * Only errors registered at exactly this key are counted, not those of nested fields.
+     * <p>
+     * Example:
+     * <pre>{@code
+     * int emailErrors = errors.count(FieldKey.of("email"));
+     * }</pre>
+     *
+     * @param field the field key
+     * @return the number of errors for the field
+     */
+    public int count(FieldKey field) {
+        List<TemplateString> errors = fieldErrors.get(field);
+        return errors == null ? 0 : errors.size();
     }
 }
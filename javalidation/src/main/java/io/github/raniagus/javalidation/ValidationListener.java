@@ -0,0 +1,63 @@
+package io.github.raniagus.javalidation;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Observes validations as they run, e.g. to feed metrics, sampling or tracing adapters.
+ * <p>
+ * Implementations are discovered once, when {@link Validation} is first loaded, with
+ * {@link java.util.ServiceLoader}: list the implementing class in
+ * {@code META-INF/services/io.github.raniagus.javalidation.ValidationListener}. When no listener is
+ * found, the hooks are guarded by a {@code static final} flag that the JIT folds away, so validation
+ * pays nothing for them. When several are found, each is called in discovery order. A listener that
+ * cannot be loaded is logged through {@link System.Logger} and skipped.
+ * <p>
+ * Callbacks run synchronously on the validating thread, so they should be cheap and must not throw.
+ * All methods do nothing by default.
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * public class ErrorCountingListener implements ValidationListener {
+ *     static final LongAdder ERRORS = new LongAdder();
+ *
+ *     @Override
+ *     public void onErrorAdded(Validation validation, @Nullable FieldKey field, TemplateString error) {
+ *         ERRORS.increment();
+ *     }
+ * }
+ * }</pre>
+ */
+public interface ValidationListener {
+    /**
+     * Called when a {@link Validation} is created.
+     *
+     * @param validation the new validation
+     */
+    default void onStart(Validation validation) {}
+
+    /**
+     * Called for every error added to a validation, including each error merged by
+     * {@link Validation#addAll(ValidationErrors)} and similar methods.
+     *
+     * @param validation the validation the error was added to
+     * @param field      the full path of the error, or {@code null} for a root error
+     * @param error      the error
+     */
+    default void onErrorAdded(Validation validation, @Nullable FieldKey field, TemplateString error) {}
+
+    /**
+     * Called when {@link Validation#finish()} takes a snapshot of the errors.
+     *
+     * @param validation the validation
+     * @param errors     the snapshot returned to the caller
+     */
+    default void onFinish(Validation validation, ValidationErrors errors) {}
+
+    /**
+     * Called when one of the built-in {@link ResultCollector}s produces its result, at the end of a stream.
+     *
+     * @param collector the collector
+     * @param result    what its {@code finish()} method returns
+     */
+    default void onCollectorFinish(ResultCollector<?, ?, ?> collector, Object result) {}
+}
@@ -0,0 +1,87 @@
+package io.github.raniagus.javalidation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The {@link ValidationListener}s found on the class path. Both fields are constants, so with no listener
+ * every {@code if (ValidationListeners.ENABLED)} hook is dead code after JIT compilation.
+ */
+final class ValidationListeners {
+    private static final System.Logger LOGGER = System.getLogger(ValidationListeners.class.getName());
+    private static final int MAX_FAILURES = 16;
+
+    static final ValidationListener LISTENER = of(ServiceLoader.load(ValidationListener.class));
+    static final boolean ENABLED = LISTENER != NoOp.INSTANCE;
+
+    private ValidationListeners() {
+    }
+
+    /**
+     * Combines the listeners that {@code found} yields. A listener that fails to load is logged and skipped,
+     * as {@link ServiceLoader} lets the iteration go on after an error, so a bad service entry can never
+     * prevent {@link Validation} from loading.
+     */
+    static ValidationListener of(Iterable<ValidationListener> found) {
+        List<ValidationListener> listeners = new ArrayList<>();
+        Iterator<ValidationListener> iterator = found.iterator();
+        int failures = 0;
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                listeners.add(iterator.next());
+            } catch (ServiceConfigurationError e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Skipping a ValidationListener that could not be loaded", e);
+                // An iterator that keeps failing on the same entry would otherwise never end
+                if (++failures >= MAX_FAILURES) {
+                    break;
+                }
+            }
+        }
+        return switch (listeners.size()) {
+            case 0 -> NoOp.INSTANCE;
+            case 1 -> listeners.getFirst();
+            default -> new Composite(List.copyOf(listeners));
+        };
+    }
+
+    enum NoOp implements ValidationListener {
+        INSTANCE
+    }
+
+    record Composite(List<ValidationListener> listeners) implements ValidationListener {
+        @Override
+        public void onStart(Validation validation) {
+            for (ValidationListener listener : listeners) {
+                listener.onStart(validation);
+            }
+        }
+
+        @Override
+        public void onErrorAdded(Validation validation, @Nullable FieldKey field, TemplateString error) {
+            for (ValidationListener listener : listeners) {
+                listener.onErrorAdded(validation, field, error);
+            }
+        }
+
+        @Override
+        public void onFinish(Validation validation, ValidationErrors errors) {
+            for (ValidationListener listener : listeners) {
+                listener.onFinish(validation, errors);
+            }
+        }
+
+        @Override
+        public void onCollectorFinish(ResultCollector<?, ?, ?> collector, Object result) {
+            for (ValidationListener listener : listeners) {
+                listener.onCollectorFinish(collector, result);
+            }
+        }
+    }
+}
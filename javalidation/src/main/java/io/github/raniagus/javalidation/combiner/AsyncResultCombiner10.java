@@ -0,0 +1,148 @@
+package io.github.raniagus.javalidation.combiner;
+
+import io.github.raniagus.javalidation.AsyncResult;
+import io.github.raniagus.javalidation.Result;
+import io.github.raniagus.javalidation.function.DecaFunction;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Combines 10 {@link AsyncResult}s, the asynchronous counterpart of {@link ResultCombiner10}.
+ * <p>
+ * Independent results are computed concurrently on the executor of the first {@link AsyncResult}.
+ * Dependent steps wait, without blocking a thread, only for the results they use, and
+ * {@code combine()} accumulates errors exactly like {@link ResultCombiner10#combine}.
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * AsyncResult<Person> person = AsyncResult.supply(() -> validateName(name))
+ *     .and(() -> validateAge(age))
+ *     .and(() -> validateEmail(email))
+ *     .and(() -> validateAddress(address))
+ *     .and(() -> validatePhone(phone))
+ *     .and(() -> validatePassword(password))
+ *     .and(() -> validateRole(role))
+ *     .and(() -> validateIsAdmin(isAdmin))
+ *     .and(() -> validateIsPremium(isPremium))
+ *     .and(() -> validateIsBanned(isBanned))
+ *     .combine((v1, v2, v3, v4, v5, v6, v7, v8, v9, v10) -> new Person(v1, v2, v3, v4, v5, v6, v7, v8, v9, v10));
+ * }</pre>
+ *
+ * @param <T1> the type of the first result's success value
+ * @param <T2> the type of the second result's success value
+ * @param <T3> the type of the third result's success value
+ * @param <T4> the type of the fourth result's success value
+ * @param <T5> the type of the fifth result's success value
+ * @param <T6> the type of the sixth result's success value
+ * @param <T7> the type of the seventh result's success value
+ * @param <T8> the type of the eighth result's success value
+ * @param <T9> the type of the ninth result's success value
+ * @param <T10> the type of the tenth result's success value
+ * @see AsyncResult#and(Supplier)
+ */
+public final class AsyncResultCombiner10<T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object, T8 extends @Nullable Object, T9 extends @Nullable Object, T10 extends @Nullable Object> {
+    private final Executor executor;
+    private final CompletableFuture<ResultSlot<T1>> result1;
+    private final CompletableFuture<ResultSlot<T2>> result2;
+    private final CompletableFuture<ResultSlot<T3>> result3;
+    private final CompletableFuture<ResultSlot<T4>> result4;
+    private final CompletableFuture<ResultSlot<T5>> result5;
+    private final CompletableFuture<ResultSlot<T6>> result6;
+    private final CompletableFuture<ResultSlot<T7>> result7;
+    private final CompletableFuture<ResultSlot<T8>> result8;
+    private final CompletableFuture<ResultSlot<T9>> result9;
+    private final CompletableFuture<ResultSlot<T10>> result10;
+
+    AsyncResultCombiner10(Executor executor, CompletableFuture<ResultSlot<T1>> result1, CompletableFuture<ResultSlot<T2>> result2, CompletableFuture<ResultSlot<T3>> result3, CompletableFuture<ResultSlot<T4>> result4, CompletableFuture<ResultSlot<T5>> result5, CompletableFuture<ResultSlot<T6>> result6, CompletableFuture<ResultSlot<T7>> result7, CompletableFuture<ResultSlot<T8>> result8, CompletableFuture<ResultSlot<T9>> result9, CompletableFuture<ResultSlot<T10>> result10) {
+        this.executor = executor;
+        this.result1 = result1;
+        this.result2 = result2;
+        this.result3 = result3;
+        this.result4 = result4;
+        this.result5 = result5;
+        this.result6 = result6;
+        this.result7 = result7;
+        this.result8 = result8;
+        this.result9 = result9;
+        this.result10 = result10;
+    }
+
+    public AsyncResult<T1> first() {
+        return AsyncResult.of(result1.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T2> second() {
+        return AsyncResult.of(result2.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T3> third() {
+        return AsyncResult.of(result3.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T4> fourth() {
+        return AsyncResult.of(result4.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T5> fifth() {
+        return AsyncResult.of(result5.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T6> sixth() {
+        return AsyncResult.of(result6.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T7> seventh() {
+        return AsyncResult.of(result7.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T8> eighth() {
+        return AsyncResult.of(result8.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T9> ninth() {
+        return AsyncResult.of(result9.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T10> tenth() {
+        return AsyncResult.of(result10.thenApply(ResultSlot::toResult), executor);
+    }
+
+    /**
+     * Combines the 10 results by applying the success function once all complete, if all are {@link Result.Ok}.
+     * <p>
+     * If any result is {@link Result.Err}, all errors are accumulated and no success function is called.
+     *
+     * @param onSuccess function to apply to all success values
+     * @param <R> the type of the combined result
+     * @return an async result completed with {@link Result.Ok} if all results succeed, otherwise {@link Result.Err}
+     */
+    public <R extends @Nullable Object> AsyncResult<R> combine(DecaFunction<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, R> onSuccess) {
+        return ResultSlot.combineAsync(
+                () -> onSuccess.apply(
+                        result1.join().value(),
+                        result2.join().value(),
+                        result3.join().value(),
+                        result4.join().value(),
+                        result5.join().value(),
+                        result6.join().value(),
+                        result7.join().value(),
+                        result8.join().value(),
+                        result9.join().value(),
+                        result10.join().value()
+                ),
+                executor,
+                result1, result2, result3, result4, result5, result6, result7, result8, result9, result10
+        );
+    }
+
+    /**
+     * Returns the last success value once all results complete, if all are {@link Result.Ok}, otherwise accumulates all errors.
+     *
+     * @return an async result completed with the tenth value if all results succeed, otherwise {@link Result.Err}
+     */
+    public AsyncResult<T10> getLast() {
+        return ResultSlot.combineAsync(() -> result10.join().value(), executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, result10);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.raniagus.javalidation.combiner;
+
+import io.github.raniagus.javalidation.AsyncResult;
+import io.github.raniagus.javalidation.Result;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Combines two {@link AsyncResult}s, the asynchronous counterpart of {@link ResultCombiner2}.
+ * <p>
+ * Independent results are computed concurrently on the executor of the first {@link AsyncResult}.
+ * Dependent steps wait, without blocking a thread, only for the results they use, and
+ * {@code combine()} accumulates errors exactly like {@link ResultCombiner2#combine}.
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * AsyncResult<Person> person = AsyncResult.supply(() -> validateName(name))
+ *     .and(() -> validateAge(age))
+ *     .combine((v1, v2) -> new Person(v1, v2));
+ * }</pre>
+ *
+ * @param <T1> the type of the first result's success value
+ * @param <T2> the type of the second result's success value
+ * @see AsyncResult#and(Supplier)
+ */
+public final class AsyncResultCombiner2<T1 extends @Nullable Object, T2 extends @Nullable Object> {
+    private final Executor executor;
+    private final CompletableFuture<ResultSlot<T1>> result1;
+    private final CompletableFuture<ResultSlot<T2>> result2;
+
+    public AsyncResultCombiner2(AsyncResult<T1> result1, AsyncResult<T2> result2) {
+        this(result1.executor(), ResultSlot.ofAsync(result1), ResultSlot.ofAsync(result2));
+    }
+
+    public AsyncResultCombiner2(AsyncResult<T1> result1, Function<T1, Result<T2>> result2) {
+        CompletableFuture<ResultSlot<T1>> slot1 = ResultSlot.ofAsync(result1);
+        this.executor = result1.executor();
+        this.result1 = slot1;
+        this.result2 = ResultSlot.fromAsync(() -> result2.apply(slot1.join().value()), executor, slot1);
+    }
+
+    AsyncResultCombiner2(Executor executor, CompletableFuture<ResultSlot<T1>> result1, CompletableFuture<ResultSlot<T2>> result2) {
+        this.executor = executor;
+        this.result1 = result1;
+        this.result2 = result2;
+    }
+
+    public AsyncResult<T1> first() {
+        return AsyncResult.of(result1.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T2> second() {
+        return AsyncResult.of(result2.thenApply(ResultSlot::toResult), executor);
+    }
+
+    /**
+     * Chains another result, computed concurrently with the previous ones, producing an {@link AsyncResultCombiner3}.
+     *
+     * @param result3 supplies the next result
+     * @param <T3> the type of the next result's success value
+     * @return a combiner for 3 results
+     */
+    public <T3 extends @Nullable Object> AsyncResultCombiner3<T1, T2, T3> and(Supplier<Result<T3>> result3) {
+        return new AsyncResultCombiner3<>(executor, result1, result2, ResultSlot.fromAsync(result3, executor));
+    }
+
+    /**
+     * Chains another async result, computed independently of the previous ones, producing an {@link AsyncResultCombiner3}.
+     *
+     * @param result3 the next result to combine
+     * @param <T3> the type of the next result's success value
+     * @return a combiner for 3 results
+     */
+    public <T3 extends @Nullable Object> AsyncResultCombiner3<T1, T2, T3> and(AsyncResult<T3> result3) {
+        return new AsyncResultCombiner3<>(executor, result1, result2, ResultSlot.ofAsync(result3));
+    }
+
+    /**
+     * Chains another result computed from the previous success values, once all of them complete.
+     * <p>
+     * The function is only called if all previous results are {@link Result.Ok}. If any previous
+     * result is {@link Result.Err}, the function is skipped and existing errors are preserved by
+     * the final {@code combine()}.
+     *
+     * @param result3 supplies the next result using the previous success values
+     * @param <T3> the type of the next result's success value
+     * @return a combiner for 3 results
+     */
+    public <T3 extends @Nullable Object> AsyncResultCombiner3<T1, T2, T3> and(BiFunction<T1, T2, Result<T3>> result3) {
+        return new AsyncResultCombiner3<>(executor, result1, result2, ResultSlot.fromAsync(() -> result3.apply(
+                result1.join().value(),
+                result2.join().value()
+        ), executor, result1, result2));
+    }
+
+    /**
+     * Chains another result computed from a selected prior result, once that result completes.
+     * <p>
+     * The projector receives this combiner and returns the specific prior {@link AsyncResult} to depend on.
+     * The function is only called if that result is {@link Result.Ok}, and does not wait for any other
+     * result. Any prior results not selected by the projector still contribute their errors independently
+     * through their own slots.
+     *
+     * @param projector selects which prior result to depend on
+     * @param fn        supplies the next result using the selected success value
+     * @param <X>       the type of the selected result's success value
+     * @param <T3>      the type of the next result's success value
+     * @return a combiner for 3 results
+     */
+    public <X extends @Nullable Object, T3 extends @Nullable Object> AsyncResultCombiner3<T1, T2, T3> andUsing(
+            Function<AsyncResultCombiner2<T1, T2>, AsyncResult<X>> projector,
+            Function<X, Result<T3>> fn) {
+        CompletableFuture<ResultSlot<X>> projected = ResultSlot.ofAsync(projector.apply(this));
+        return new AsyncResultCombiner3<>(executor, result1, result2, ResultSlot.fromAsync(
+                () -> fn.apply(projected.join().value()), executor, projected));
+    }
+
+    /**
+     * Combines the two results by applying the success function once all complete, if all are {@link Result.Ok}.
+     * <p>
+     * If any result is {@link Result.Err}, all errors are accumulated and no success function is called.
+     *
+     * @param onSuccess function to apply to all success values
+     * @param <R> the type of the combined result
+     * @return an async result completed with {@link Result.Ok} if all results succeed, otherwise {@link Result.Err}
+     */
+    public <R extends @Nullable Object> AsyncResult<R> combine(BiFunction<T1, T2, R> onSuccess) {
+        return ResultSlot.combineAsync(
+                () -> onSuccess.apply(
+                        result1.join().value(),
+                        result2.join().value()
+                ),
+                executor,
+                result1, result2
+        );
+    }
+
+    /**
+     * Returns the last success value once all results complete, if all are {@link Result.Ok}, otherwise accumulates all errors.
+     *
+     * @return an async result completed with the second value if all results succeed, otherwise {@link Result.Err}
+     */
+    public AsyncResult<T2> getLast() {
+        return ResultSlot.combineAsync(() -> result2.join().value(), executor, result1, result2);
+    }
+}
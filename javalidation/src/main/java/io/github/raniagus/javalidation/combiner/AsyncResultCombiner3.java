@@ -0,0 +1,163 @@
+package io.github.raniagus.javalidation.combiner;
+
+import io.github.raniagus.javalidation.AsyncResult;
+import io.github.raniagus.javalidation.Result;
+import io.github.raniagus.javalidation.function.TriFunction;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Combines 3 {@link AsyncResult}s, the asynchronous counterpart of {@link ResultCombiner3}.
+ * <p>
+ * Independent results are computed concurrently on the executor of the first {@link AsyncResult}.
+ * Dependent steps wait, without blocking a thread, only for the results they use, and
+ * {@code combine()} accumulates errors exactly like {@link ResultCombiner3#combine}.
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * AsyncResult<Person> person = AsyncResult.supply(() -> validateName(name))
+ *     .and(() -> validateAge(age))
+ *     .and(() -> validateEmail(email))
+ *     .combine((v1, v2, v3) -> new Person(v1, v2, v3));
+ * }</pre>
+ *
+ * @param <T1> the type of the first result's success value
+ * @param <T2> the type of the second result's success value
+ * @param <T3> the type of the third result's success value
+ * @see AsyncResult#and(Supplier)
+ */
+public final class AsyncResultCombiner3<T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object> {
+    private final Executor executor;
+    private final CompletableFuture<ResultSlot<T1>> result1;
+    private final CompletableFuture<ResultSlot<T2>> result2;
+    private final CompletableFuture<ResultSlot<T3>> result3;
+
+    AsyncResultCombiner3(Executor executor, CompletableFuture<ResultSlot<T1>> result1, CompletableFuture<ResultSlot<T2>> result2, CompletableFuture<ResultSlot<T3>> result3) {
+        this.executor = executor;
+        this.result1 = result1;
+        this.result2 = result2;
+        this.result3 = result3;
+    }
+
+    public AsyncResult<T1> first() {
+        return AsyncResult.of(result1.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T2> second() {
+        return AsyncResult.of(result2.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T3> third() {
+        return AsyncResult.of(result3.thenApply(ResultSlot::toResult), executor);
+    }
+
+    /**
+     * Chains another result, computed concurrently with the previous ones, producing an {@link AsyncResultCombiner4}.
+     *
+     * @param result4 supplies the next result
+     * @param <T4> the type of the next result's success value
+     * @return a combiner for 4 results
+     */
+    public <T4 extends @Nullable Object> AsyncResultCombiner4<T1, T2, T3, T4> and(Supplier<Result<T4>> result4) {
+        return new AsyncResultCombiner4<>(executor, result1, result2, result3, ResultSlot.fromAsync(result4, executor));
+    }
+
+    /**
+     * Chains another async result, computed independently of the previous ones, producing an {@link AsyncResultCombiner4}.
+     *
+     * @param result4 the next result to combine
+     * @param <T4> the type of the next result's success value
+     * @return a combiner for 4 results
+     */
+    public <T4 extends @Nullable Object> AsyncResultCombiner4<T1, T2, T3, T4> and(AsyncResult<T4> result4) {
+        return new AsyncResultCombiner4<>(executor, result1, result2, result3, ResultSlot.ofAsync(result4));
+    }
+
+    /**
+     * Chains another result computed from the previous success values, once all of them complete.
+     * <p>
+     * The function is only called if all previous results are {@link Result.Ok}. If any previous
+     * result is {@link Result.Err}, the function is skipped and existing errors are preserved by
+     * the final {@code combine()}.
+     *
+     * @param result4 supplies the next result using the previous success values
+     * @param <T4> the type of the next result's success value
+     * @return a combiner for 4 results
+     */
+    public <T4 extends @Nullable Object> AsyncResultCombiner4<T1, T2, T3, T4> and(TriFunction<T1, T2, T3, Result<T4>> result4) {
+        return new AsyncResultCombiner4<>(executor, result1, result2, result3, ResultSlot.fromAsync(() -> result4.apply(
+                result1.join().value(),
+                result2.join().value(),
+                result3.join().value()
+        ), executor, result1, result2, result3));
+    }
+
+    /**
+     * Chains another result computed from a selected prior result, once that result completes.
+     * <p>
+     * The projector receives this combiner and returns the specific prior {@link AsyncResult} to depend on.
+     * The function is only called if that result is {@link Result.Ok}, and does not wait for any other
+     * result. Any prior results not selected by the projector still contribute their errors independently
+     * through their own slots.
+     *
+     * @param projector selects which prior result to depend on
+     * @param fn        supplies the next result using the selected success value
+     * @param <X>       the type of the selected result's success value
+     * @param <T4>      the type of the next result's success value
+     * @return a combiner for 4 results
+     */
+    public <X extends @Nullable Object, T4 extends @Nullable Object> AsyncResultCombiner4<T1, T2, T3, T4> andUsing(
+            Function<AsyncResultCombiner3<T1, T2, T3>, AsyncResult<X>> projector,
+            Function<X, Result<T4>> fn) {
+        CompletableFuture<ResultSlot<X>> projected = ResultSlot.ofAsync(projector.apply(this));
+        return new AsyncResultCombiner4<>(executor, result1, result2, result3, ResultSlot.fromAsync(
+                () -> fn.apply(projected.join().value()), executor, projected));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 2 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, T4 extends @Nullable Object> AsyncResultCombiner4<T1, T2, T3, T4> andUsing(
+            Function<AsyncResultCombiner3<T1, T2, T3>, AsyncResultCombiner2<X, Y>> projector,
+            BiFunction<X, Y, Result<T4>> fn) {
+        AsyncResultCombiner2<X, Y> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        return new AsyncResultCombiner4<>(executor, result1, result2, result3, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value()
+        ), executor, projected1, projected2));
+    }
+
+    /**
+     * Combines the 3 results by applying the success function once all complete, if all are {@link Result.Ok}.
+     * <p>
+     * If any result is {@link Result.Err}, all errors are accumulated and no success function is called.
+     *
+     * @param onSuccess function to apply to all success values
+     * @param <R> the type of the combined result
+     * @return an async result completed with {@link Result.Ok} if all results succeed, otherwise {@link Result.Err}
+     */
+    public <R extends @Nullable Object> AsyncResult<R> combine(TriFunction<T1, T2, T3, R> onSuccess) {
+        return ResultSlot.combineAsync(
+                () -> onSuccess.apply(
+                        result1.join().value(),
+                        result2.join().value(),
+                        result3.join().value()
+                ),
+                executor,
+                result1, result2, result3
+        );
+    }
+
+    /**
+     * Returns the last success value once all results complete, if all are {@link Result.Ok}, otherwise accumulates all errors.
+     *
+     * @return an async result completed with the third value if all results succeed, otherwise {@link Result.Err}
+     */
+    public AsyncResult<T3> getLast() {
+        return ResultSlot.combineAsync(() -> result3.join().value(), executor, result1, result2, result3);
+    }
+}
@@ -0,0 +1,189 @@
+package io.github.raniagus.javalidation.combiner;
+
+import io.github.raniagus.javalidation.AsyncResult;
+import io.github.raniagus.javalidation.Result;
+import io.github.raniagus.javalidation.function.QuadFunction;
+import io.github.raniagus.javalidation.function.TriFunction;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Combines 4 {@link AsyncResult}s, the asynchronous counterpart of {@link ResultCombiner4}.
+ * <p>
+ * Independent results are computed concurrently on the executor of the first {@link AsyncResult}.
+ * Dependent steps wait, without blocking a thread, only for the results they use, and
+ * {@code combine()} accumulates errors exactly like {@link ResultCombiner4#combine}.
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * AsyncResult<Person> person = AsyncResult.supply(() -> validateName(name))
+ *     .and(() -> validateAge(age))
+ *     .and(() -> validateEmail(email))
+ *     .and(() -> validateAddress(address))
+ *     .combine((v1, v2, v3, v4) -> new Person(v1, v2, v3, v4));
+ * }</pre>
+ *
+ * @param <T1> the type of the first result's success value
+ * @param <T2> the type of the second result's success value
+ * @param <T3> the type of the third result's success value
+ * @param <T4> the type of the fourth result's success value
+ * @see AsyncResult#and(Supplier)
+ */
+public final class AsyncResultCombiner4<T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object> {
+    private final Executor executor;
+    private final CompletableFuture<ResultSlot<T1>> result1;
+    private final CompletableFuture<ResultSlot<T2>> result2;
+    private final CompletableFuture<ResultSlot<T3>> result3;
+    private final CompletableFuture<ResultSlot<T4>> result4;
+
+    AsyncResultCombiner4(Executor executor, CompletableFuture<ResultSlot<T1>> result1, CompletableFuture<ResultSlot<T2>> result2, CompletableFuture<ResultSlot<T3>> result3, CompletableFuture<ResultSlot<T4>> result4) {
+        this.executor = executor;
+        this.result1 = result1;
+        this.result2 = result2;
+        this.result3 = result3;
+        this.result4 = result4;
+    }
+
+    public AsyncResult<T1> first() {
+        return AsyncResult.of(result1.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T2> second() {
+        return AsyncResult.of(result2.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T3> third() {
+        return AsyncResult.of(result3.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T4> fourth() {
+        return AsyncResult.of(result4.thenApply(ResultSlot::toResult), executor);
+    }
+
+    /**
+     * Chains another result, computed concurrently with the previous ones, producing an {@link AsyncResultCombiner5}.
+     *
+     * @param result5 supplies the next result
+     * @param <T5> the type of the next result's success value
+     * @return a combiner for 5 results
+     */
+    public <T5 extends @Nullable Object> AsyncResultCombiner5<T1, T2, T3, T4, T5> and(Supplier<Result<T5>> result5) {
+        return new AsyncResultCombiner5<>(executor, result1, result2, result3, result4, ResultSlot.fromAsync(result5, executor));
+    }
+
+    /**
+     * Chains another async result, computed independently of the previous ones, producing an {@link AsyncResultCombiner5}.
+     *
+     * @param result5 the next result to combine
+     * @param <T5> the type of the next result's success value
+     * @return a combiner for 5 results
+     */
+    public <T5 extends @Nullable Object> AsyncResultCombiner5<T1, T2, T3, T4, T5> and(AsyncResult<T5> result5) {
+        return new AsyncResultCombiner5<>(executor, result1, result2, result3, result4, ResultSlot.ofAsync(result5));
+    }
+
+    /**
+     * Chains another result computed from the previous success values, once all of them complete.
+     * <p>
+     * The function is only called if all previous results are {@link Result.Ok}. If any previous
+     * result is {@link Result.Err}, the function is skipped and existing errors are preserved by
+     * the final {@code combine()}.
+     *
+     * @param result5 supplies the next result using the previous success values
+     * @param <T5> the type of the next result's success value
+     * @return a combiner for 5 results
+     */
+    public <T5 extends @Nullable Object> AsyncResultCombiner5<T1, T2, T3, T4, T5> and(QuadFunction<T1, T2, T3, T4, Result<T5>> result5) {
+        return new AsyncResultCombiner5<>(executor, result1, result2, result3, result4, ResultSlot.fromAsync(() -> result5.apply(
+                result1.join().value(),
+                result2.join().value(),
+                result3.join().value(),
+                result4.join().value()
+        ), executor, result1, result2, result3, result4));
+    }
+
+    /**
+     * Chains another result computed from a selected prior result, once that result completes.
+     * <p>
+     * The projector receives this combiner and returns the specific prior {@link AsyncResult} to depend on.
+     * The function is only called if that result is {@link Result.Ok}, and does not wait for any other
+     * result. Any prior results not selected by the projector still contribute their errors independently
+     * through their own slots.
+     *
+     * @param projector selects which prior result to depend on
+     * @param fn        supplies the next result using the selected success value
+     * @param <X>       the type of the selected result's success value
+     * @param <T5>      the type of the next result's success value
+     * @return a combiner for 5 results
+     */
+    public <X extends @Nullable Object, T5 extends @Nullable Object> AsyncResultCombiner5<T1, T2, T3, T4, T5> andUsing(
+            Function<AsyncResultCombiner4<T1, T2, T3, T4>, AsyncResult<X>> projector,
+            Function<X, Result<T5>> fn) {
+        CompletableFuture<ResultSlot<X>> projected = ResultSlot.ofAsync(projector.apply(this));
+        return new AsyncResultCombiner5<>(executor, result1, result2, result3, result4, ResultSlot.fromAsync(
+                () -> fn.apply(projected.join().value()), executor, projected));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 2 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, T5 extends @Nullable Object> AsyncResultCombiner5<T1, T2, T3, T4, T5> andUsing(
+            Function<AsyncResultCombiner4<T1, T2, T3, T4>, AsyncResultCombiner2<X, Y>> projector,
+            BiFunction<X, Y, Result<T5>> fn) {
+        AsyncResultCombiner2<X, Y> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        return new AsyncResultCombiner5<>(executor, result1, result2, result3, result4, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value()
+        ), executor, projected1, projected2));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 3 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, Z extends @Nullable Object, T5 extends @Nullable Object> AsyncResultCombiner5<T1, T2, T3, T4, T5> andUsing(
+            Function<AsyncResultCombiner4<T1, T2, T3, T4>, AsyncResultCombiner3<X, Y, Z>> projector,
+            TriFunction<X, Y, Z, Result<T5>> fn) {
+        AsyncResultCombiner3<X, Y, Z> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        CompletableFuture<ResultSlot<Z>> projected3 = ResultSlot.ofAsync(sub.third());
+        return new AsyncResultCombiner5<>(executor, result1, result2, result3, result4, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value(),
+                projected3.join().value()
+        ), executor, projected1, projected2, projected3));
+    }
+
+    /**
+     * Combines the 4 results by applying the success function once all complete, if all are {@link Result.Ok}.
+     * <p>
+     * If any result is {@link Result.Err}, all errors are accumulated and no success function is called.
+     *
+     * @param onSuccess function to apply to all success values
+     * @param <R> the type of the combined result
+     * @return an async result completed with {@link Result.Ok} if all results succeed, otherwise {@link Result.Err}
+     */
+    public <R extends @Nullable Object> AsyncResult<R> combine(QuadFunction<T1, T2, T3, T4, R> onSuccess) {
+        return ResultSlot.combineAsync(
+                () -> onSuccess.apply(
+                        result1.join().value(),
+                        result2.join().value(),
+                        result3.join().value(),
+                        result4.join().value()
+                ),
+                executor,
+                result1, result2, result3, result4
+        );
+    }
+
+    /**
+     * Returns the last success value once all results complete, if all are {@link Result.Ok}, otherwise accumulates all errors.
+     *
+     * @return an async result completed with the fourth value if all results succeed, otherwise {@link Result.Err}
+     */
+    public AsyncResult<T4> getLast() {
+        return ResultSlot.combineAsync(() -> result4.join().value(), executor, result1, result2, result3, result4);
+    }
+}
@@ -0,0 +1,349 @@
+package io.github.raniagus.javalidation.combiner;
+
+import io.github.raniagus.javalidation.AsyncResult;
+import io.github.raniagus.javalidation.Result;
+import io.github.raniagus.javalidation.function.HexFunction;
+import io.github.raniagus.javalidation.function.NonaFunction;
+import io.github.raniagus.javalidation.function.OctaFunction;
+import io.github.raniagus.javalidation.function.PentaFunction;
+import io.github.raniagus.javalidation.function.QuadFunction;
+import io.github.raniagus.javalidation.function.SeptaFunction;
+import io.github.raniagus.javalidation.function.TriFunction;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Combines 9 {@link AsyncResult}s, the asynchronous counterpart of {@link ResultCombiner9}.
+ * <p>
+ * Independent results are computed concurrently on the executor of the first {@link AsyncResult}.
+ * Dependent steps wait, without blocking a thread, only for the results they use, and
+ * {@code combine()} accumulates errors exactly like {@link ResultCombiner9#combine}.
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * AsyncResult<Person> person = AsyncResult.supply(() -> validateName(name))
+ *     .and(() -> validateAge(age))
+ *     .and(() -> validateEmail(email))
+ *     .and(() -> validateAddress(address))
+ *     .and(() -> validatePhone(phone))
+ *     .and(() -> validatePassword(password))
+ *     .and(() -> validateRole(role))
+ *     .and(() -> validateIsAdmin(isAdmin))
+ *     .and(() -> validateIsPremium(isPremium))
+ *     .combine((v1, v2, v3, v4, v5, v6, v7, v8, v9) -> new Person(v1, v2, v3, v4, v5, v6, v7, v8, v9));
+ * }</pre>
+ *
+ * @param <T1> the type of the first result's success value
+ * @param <T2> the type of the second result's success value
+ * @param <T3> the type of the third result's success value
+ * @param <T4> the type of the fourth result's success value
+ * @param <T5> the type of the fifth result's success value
+ * @param <T6> the type of the sixth result's success value
+ * @param <T7> the type of the seventh result's success value
+ * @param <T8> the type of the eighth result's success value
+ * @param <T9> the type of the ninth result's success value
+ * @see AsyncResult#and(Supplier)
+ */
+public final class AsyncResultCombiner9<T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object, T8 extends @Nullable Object, T9 extends @Nullable Object> {
+    private final Executor executor;
+    private final CompletableFuture<ResultSlot<T1>> result1;
+    private final CompletableFuture<ResultSlot<T2>> result2;
+    private final CompletableFuture<ResultSlot<T3>> result3;
+    private final CompletableFuture<ResultSlot<T4>> result4;
+    private final CompletableFuture<ResultSlot<T5>> result5;
+    private final CompletableFuture<ResultSlot<T6>> result6;
+    private final CompletableFuture<ResultSlot<T7>> result7;
+    private final CompletableFuture<ResultSlot<T8>> result8;
+    private final CompletableFuture<ResultSlot<T9>> result9;
+
+    AsyncResultCombiner9(Executor executor, CompletableFuture<ResultSlot<T1>> result1, CompletableFuture<ResultSlot<T2>> result2, CompletableFuture<ResultSlot<T3>> result3, CompletableFuture<ResultSlot<T4>> result4, CompletableFuture<ResultSlot<T5>> result5, CompletableFuture<ResultSlot<T6>> result6, CompletableFuture<ResultSlot<T7>> result7, CompletableFuture<ResultSlot<T8>> result8, CompletableFuture<ResultSlot<T9>> result9) {
+        this.executor = executor;
+        this.result1 = result1;
+        this.result2 = result2;
+        this.result3 = result3;
+        this.result4 = result4;
+        this.result5 = result5;
+        this.result6 = result6;
+        this.result7 = result7;
+        this.result8 = result8;
+        this.result9 = result9;
+    }
+
+    public AsyncResult<T1> first() {
+        return AsyncResult.of(result1.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T2> second() {
+        return AsyncResult.of(result2.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T3> third() {
+        return AsyncResult.of(result3.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T4> fourth() {
+        return AsyncResult.of(result4.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T5> fifth() {
+        return AsyncResult.of(result5.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T6> sixth() {
+        return AsyncResult.of(result6.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T7> seventh() {
+        return AsyncResult.of(result7.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T8> eighth() {
+        return AsyncResult.of(result8.thenApply(ResultSlot::toResult), executor);
+    }
+
+    public AsyncResult<T9> ninth() {
+        return AsyncResult.of(result9.thenApply(ResultSlot::toResult), executor);
+    }
+
+    /**
+     * Chains another result, computed concurrently with the previous ones, producing an {@link AsyncResultCombiner10}.
+     *
+     * @param result10 supplies the next result
+     * @param <T10> the type of the next result's success value
+     * @return a combiner for 10 results
+     */
+    public <T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> and(Supplier<Result<T10>> result10) {
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(result10, executor));
+    }
+
+    /**
+     * Chains another async result, computed independently of the previous ones, producing an {@link AsyncResultCombiner10}.
+     *
+     * @param result10 the next result to combine
+     * @param <T10> the type of the next result's success value
+     * @return a combiner for 10 results
+     */
+    public <T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> and(AsyncResult<T10> result10) {
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.ofAsync(result10));
+    }
+
+    /**
+     * Chains another result computed from the previous success values, once all of them complete.
+     * <p>
+     * The function is only called if all previous results are {@link Result.Ok}. If any previous
+     * result is {@link Result.Err}, the function is skipped and existing errors are preserved by
+     * the final {@code combine()}.
+     *
+     * @param result10 supplies the next result using the previous success values
+     * @param <T10> the type of the next result's success value
+     * @return a combiner for 10 results
+     */
+    public <T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> and(NonaFunction<T1, T2, T3, T4, T5, T6, T7, T8, T9, Result<T10>> result10) {
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(() -> result10.apply(
+                result1.join().value(),
+                result2.join().value(),
+                result3.join().value(),
+                result4.join().value(),
+                result5.join().value(),
+                result6.join().value(),
+                result7.join().value(),
+                result8.join().value(),
+                result9.join().value()
+        ), executor, result1, result2, result3, result4, result5, result6, result7, result8, result9));
+    }
+
+    /**
+     * Chains another result computed from a selected prior result, once that result completes.
+     * <p>
+     * The projector receives this combiner and returns the specific prior {@link AsyncResult} to depend on.
+     * The function is only called if that result is {@link Result.Ok}, and does not wait for any other
+     * result. Any prior results not selected by the projector still contribute their errors independently
+     * through their own slots.
+     *
+     * @param projector selects which prior result to depend on
+     * @param fn        supplies the next result using the selected success value
+     * @param <X>       the type of the selected result's success value
+     * @param <T10>     the type of the next result's success value
+     * @return a combiner for 10 results
+     */
+    public <X extends @Nullable Object, T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> andUsing(
+            Function<AsyncResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9>, AsyncResult<X>> projector,
+            Function<X, Result<T10>> fn) {
+        CompletableFuture<ResultSlot<X>> projected = ResultSlot.ofAsync(projector.apply(this));
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(
+                () -> fn.apply(projected.join().value()), executor, projected));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 2 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> andUsing(
+            Function<AsyncResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9>, AsyncResultCombiner2<X, Y>> projector,
+            BiFunction<X, Y, Result<T10>> fn) {
+        AsyncResultCombiner2<X, Y> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value()
+        ), executor, projected1, projected2));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 3 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, Z extends @Nullable Object, T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> andUsing(
+            Function<AsyncResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9>, AsyncResultCombiner3<X, Y, Z>> projector,
+            TriFunction<X, Y, Z, Result<T10>> fn) {
+        AsyncResultCombiner3<X, Y, Z> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        CompletableFuture<ResultSlot<Z>> projected3 = ResultSlot.ofAsync(sub.third());
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value(),
+                projected3.join().value()
+        ), executor, projected1, projected2, projected3));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 4 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, Z extends @Nullable Object, W extends @Nullable Object, T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> andUsing(
+            Function<AsyncResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9>, AsyncResultCombiner4<X, Y, Z, W>> projector,
+            QuadFunction<X, Y, Z, W, Result<T10>> fn) {
+        AsyncResultCombiner4<X, Y, Z, W> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        CompletableFuture<ResultSlot<Z>> projected3 = ResultSlot.ofAsync(sub.third());
+        CompletableFuture<ResultSlot<W>> projected4 = ResultSlot.ofAsync(sub.fourth());
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value(),
+                projected3.join().value(),
+                projected4.join().value()
+        ), executor, projected1, projected2, projected3, projected4));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 5 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, Z extends @Nullable Object, W extends @Nullable Object, V extends @Nullable Object, T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> andUsing(
+            Function<AsyncResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9>, AsyncResultCombiner5<X, Y, Z, W, V>> projector,
+            PentaFunction<X, Y, Z, W, V, Result<T10>> fn) {
+        AsyncResultCombiner5<X, Y, Z, W, V> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        CompletableFuture<ResultSlot<Z>> projected3 = ResultSlot.ofAsync(sub.third());
+        CompletableFuture<ResultSlot<W>> projected4 = ResultSlot.ofAsync(sub.fourth());
+        CompletableFuture<ResultSlot<V>> projected5 = ResultSlot.ofAsync(sub.fifth());
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value(),
+                projected3.join().value(),
+                projected4.join().value(),
+                projected5.join().value()
+        ), executor, projected1, projected2, projected3, projected4, projected5));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 6 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, Z extends @Nullable Object, W extends @Nullable Object, V extends @Nullable Object, U extends @Nullable Object, T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> andUsing(
+            Function<AsyncResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9>, AsyncResultCombiner6<X, Y, Z, W, V, U>> projector,
+            HexFunction<X, Y, Z, W, V, U, Result<T10>> fn) {
+        AsyncResultCombiner6<X, Y, Z, W, V, U> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        CompletableFuture<ResultSlot<Z>> projected3 = ResultSlot.ofAsync(sub.third());
+        CompletableFuture<ResultSlot<W>> projected4 = ResultSlot.ofAsync(sub.fourth());
+        CompletableFuture<ResultSlot<V>> projected5 = ResultSlot.ofAsync(sub.fifth());
+        CompletableFuture<ResultSlot<U>> projected6 = ResultSlot.ofAsync(sub.sixth());
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value(),
+                projected3.join().value(),
+                projected4.join().value(),
+                projected5.join().value(),
+                projected6.join().value()
+        ), executor, projected1, projected2, projected3, projected4, projected5, projected6));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 7 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, Z extends @Nullable Object, W extends @Nullable Object, V extends @Nullable Object, U extends @Nullable Object, S extends @Nullable Object, T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> andUsing(
+            Function<AsyncResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9>, AsyncResultCombiner7<X, Y, Z, W, V, U, S>> projector,
+            SeptaFunction<X, Y, Z, W, V, U, S, Result<T10>> fn) {
+        AsyncResultCombiner7<X, Y, Z, W, V, U, S> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        CompletableFuture<ResultSlot<Z>> projected3 = ResultSlot.ofAsync(sub.third());
+        CompletableFuture<ResultSlot<W>> projected4 = ResultSlot.ofAsync(sub.fourth());
+        CompletableFuture<ResultSlot<V>> projected5 = ResultSlot.ofAsync(sub.fifth());
+        CompletableFuture<ResultSlot<U>> projected6 = ResultSlot.ofAsync(sub.sixth());
+        CompletableFuture<ResultSlot<S>> projected7 = ResultSlot.ofAsync(sub.seventh());
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value(),
+                projected3.join().value(),
+                projected4.join().value(),
+                projected5.join().value(),
+                projected6.join().value(),
+                projected7.join().value()
+        ), executor, projected1, projected2, projected3, projected4, projected5, projected6, projected7));
+    }
+
+    /** Like {@link #andUsing(Function, Function)}, but selecting 8 prior results. */
+    public <X extends @Nullable Object, Y extends @Nullable Object, Z extends @Nullable Object, W extends @Nullable Object, V extends @Nullable Object, U extends @Nullable Object, S extends @Nullable Object, R extends @Nullable Object, T10 extends @Nullable Object> AsyncResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> andUsing(
+            Function<AsyncResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9>, AsyncResultCombiner8<X, Y, Z, W, V, U, S, R>> projector,
+            OctaFunction<X, Y, Z, W, V, U, S, R, Result<T10>> fn) {
+        AsyncResultCombiner8<X, Y, Z, W, V, U, S, R> sub = projector.apply(this);
+        CompletableFuture<ResultSlot<X>> projected1 = ResultSlot.ofAsync(sub.first());
+        CompletableFuture<ResultSlot<Y>> projected2 = ResultSlot.ofAsync(sub.second());
+        CompletableFuture<ResultSlot<Z>> projected3 = ResultSlot.ofAsync(sub.third());
+        CompletableFuture<ResultSlot<W>> projected4 = ResultSlot.ofAsync(sub.fourth());
+        CompletableFuture<ResultSlot<V>> projected5 = ResultSlot.ofAsync(sub.fifth());
+        CompletableFuture<ResultSlot<U>> projected6 = ResultSlot.ofAsync(sub.sixth());
+        CompletableFuture<ResultSlot<S>> projected7 = ResultSlot.ofAsync(sub.seventh());
+        CompletableFuture<ResultSlot<R>> projected8 = ResultSlot.ofAsync(sub.eighth());
+        return new AsyncResultCombiner10<>(executor, result1, result2, result3, result4, result5, result6, result7, result8, result9, ResultSlot.fromAsync(() -> fn.apply(
+                projected1.join().value(),
+                projected2.join().value(),
+                projected3.join().value(),
+                projected4.join().value(),
+                projected5.join().value(),
+                projected6.join().value(),
+                projected7.join().value(),
+                projected8.join().value()
+        ), executor, projected1, projected2, projected3, projected4, projected5, projected6, projected7, projected8));
+    }
+
+    /**
+     * Combines the 9 results by applying the success function once all complete, if all are {@link Result.Ok}.
+     * <p>
+     * If any result is {@link Result.Err}, all errors are accumulated and no success function is called.
+     *
+     * @param onSuccess function to apply to all success values
+     * @param <R> the type of the combined result
+     * @return an async result completed with {@link Result.Ok} if all results succeed, otherwise {@link Result.Err}
+     */
+    public <R extends @Nullable Object> AsyncResult<R> combine(NonaFunction<T1, T2, T3, T4, T5, T6, T7, T8, T9, R> onSuccess) {
+        return ResultSlot.combineAsync(
+                () -> onSuccess.apply(
+                        result1.join().value(),
+                        result2.join().value(),
+                        result3.join().value(),
+                        result4.join().value(),
+                        result5.join().value(),
+                        result6.join().value(),
+                        result7.join().value(),
+                        result8.join().value(),
+                        result9.join().value()
+                ),
+                executor,
+                result1, result2, result3, result4, result5, result6, result7, result8, result9
+        );
+    }
+
+    /**
+     * Returns the last success value once all results complete, if all are {@link Result.Ok}, otherwise accumulates all errors.
+     *
+     * @return an async result completed with the ninth value if all results succeed, otherwise {@link Result.Err}
+     */
+    public AsyncResult<T9> getLast() {
+        return ResultSlot.combineAsync(() -> result9.join().value(), executor, result1, result2, result3, result4, result5, result6, result7, result8, result9);
+    }
+}
@@ -0,0 +1,310 @@
+package io.github.raniagus.javalidation.combiner;
+
+import io.github.raniagus.javalidation.Result;
+import io.github.raniagus.javalidation.ValidationErrors;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Evaluates independent {@link Result} suppliers concurrently and hands their results to a
+ * {@link ResultCombiner2 ResultCombinerN}.
+ * <p>
+ * Each call to {@code supply(...)} forks every supplier on the executor (a new virtual thread per
+ * supplier by default) and blocks until all of them complete. Like {@link Result#and(Result)}, the
+ * returned combiner accumulates the errors of every slot:
+ * <ul>
+ *   <li>A {@link io.github.raniagus.javalidation.JavalidationException JavalidationException} thrown by a
+ *       supplier becomes an {@link Result.Err} for that slot only.</li>
+ *   <li>A supplier that does not complete within the {@linkplain #withTimeout timeout} is cancelled and
+ *       its slot becomes an {@link Result.Err} with the configured error; the other slots are unaffected.</li>
+ *   <li>Any other exception cancels (interrupts) the sibling suppliers that are still running and is
+ *       rethrown by {@code supply(...)}.</li>
+ * </ul>
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * Result<Person> person = ConcurrentResults.create()
+ *     .withTimeout(Duration.ofSeconds(2), "service.timeout")
+ *     .supply(() -> validateName(name), () -> validateEmailIsFree(email))
+ *     .combine((n, e) -> new Person(n, e));
+ * }</pre>
+ * <p>
+ * Instances are immutable and can be shared; {@link Result#combineConcurrently(Supplier, Supplier)}
+ * uses the default one.
+ */
+public final class ConcurrentResults {
+    private static final ConcurrentResults DEFAULT = new ConcurrentResults(Thread::startVirtualThread, null, null);
+
+    private final Executor executor;
+    private final @Nullable Duration timeout;
+    private final @Nullable ValidationErrors timeoutErrors;
+
+    private ConcurrentResults(Executor executor, @Nullable Duration timeout, @Nullable ValidationErrors timeoutErrors) {
+        this.executor = executor;
+        this.timeout = timeout;
+        this.timeoutErrors = timeoutErrors;
+    }
+
+    /**
+     * Returns an instance that runs every supplier on a new virtual thread, without timeout.
+     *
+     * @return the default instance
+     */
+    public static ConcurrentResults create() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a copy that runs the suppliers on the given executor.
+     * <p>
+     * The executor must run each supplier on its own thread (or enough threads for all of them),
+     * since {@code supply(...)} blocks until every supplier completes.
+     *
+     * @param executor runs the suppliers
+     * @return a new instance using {@code executor}
+     */
+    public ConcurrentResults withExecutor(Executor executor) {
+        return new ConcurrentResults(Objects.requireNonNull(executor), timeout, timeoutErrors);
+    }
+
+    /**
+     * Returns a copy in which every supplier must complete within {@code timeout}, measured from the
+     * moment the suppliers are forked. A supplier that does not is cancelled and its slot fails with
+     * the given error.
+     *
+     * @param timeout the maximum time each supplier may run
+     * @param message the error message template for timed out slots
+     * @param args    the error message arguments
+     * @return a new instance using {@code timeout}
+     * @throws IllegalArgumentException if {@code timeout} is negative
+     */
+    public ConcurrentResults withTimeout(Duration timeout, String message, Object... args) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+        return new ConcurrentResults(executor, timeout, ValidationErrors.of(message, args));
+    }
+
+    /**
+     * Evaluates 2 suppliers concurrently and blocks until both complete.
+     *
+     * @param result1 supplies the first result
+     * @param result2 supplies the second result
+     * @param <T1> the type of the first result's success value
+     * @param <T2> the type of the second result's success value
+     * @return a combiner for the 2 results
+     * @throws CompletionException if the calling thread is interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    public <T1 extends @Nullable Object, T2 extends @Nullable Object> ResultCombiner2<T1, T2> supply(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2) {
+        ResultSlot<?>[] slots = fork(result1, result2);
+        return new ResultCombiner2<>(
+                (ResultSlot<T1>) slots[0],
+                (ResultSlot<T2>) slots[1]
+        );
+    }
+
+    /** Like {@link #supply(Supplier, Supplier)}, but evaluating 3 suppliers. */
+    @SuppressWarnings("unchecked")
+    public <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object> ResultCombiner3<T1, T2, T3> supply(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3) {
+        ResultSlot<?>[] slots = fork(result1, result2, result3);
+        return new ResultCombiner3<>(
+                (ResultSlot<T1>) slots[0],
+                (ResultSlot<T2>) slots[1],
+                (ResultSlot<T3>) slots[2]
+        );
+    }
+
+    /** Like {@link #supply(Supplier, Supplier)}, but evaluating 4 suppliers. */
+    @SuppressWarnings("unchecked")
+    public <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object> ResultCombiner4<T1, T2, T3, T4> supply(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4) {
+        ResultSlot<?>[] slots = fork(result1, result2, result3, result4);
+        return new ResultCombiner4<>(
+                (ResultSlot<T1>) slots[0],
+                (ResultSlot<T2>) slots[1],
+                (ResultSlot<T3>) slots[2],
+                (ResultSlot<T4>) slots[3]
+        );
+    }
+
+    /** Like {@link #supply(Supplier, Supplier)}, but evaluating 5 suppliers. */
+    @SuppressWarnings("unchecked")
+    public <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object> ResultCombiner5<T1, T2, T3, T4, T5> supply(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5) {
+        ResultSlot<?>[] slots = fork(result1, result2, result3, result4, result5);
+        return new ResultCombiner5<>(
+                (ResultSlot<T1>) slots[0],
+                (ResultSlot<T2>) slots[1],
+                (ResultSlot<T3>) slots[2],
+                (ResultSlot<T4>) slots[3],
+                (ResultSlot<T5>) slots[4]
+        );
+    }
+
+    /** Like {@link #supply(Supplier, Supplier)}, but evaluating 6 suppliers. */
+    @SuppressWarnings("unchecked")
+    public <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object> ResultCombiner6<T1, T2, T3, T4, T5, T6> supply(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6) {
+        ResultSlot<?>[] slots = fork(result1, result2, result3, result4, result5, result6);
+        return new ResultCombiner6<>(
+                (ResultSlot<T1>) slots[0],
+                (ResultSlot<T2>) slots[1],
+                (ResultSlot<T3>) slots[2],
+                (ResultSlot<T4>) slots[3],
+                (ResultSlot<T5>) slots[4],
+                (ResultSlot<T6>) slots[5]
+        );
+    }
+
+    /** Like {@link #supply(Supplier, Supplier)}, but evaluating 7 suppliers. */
+    @SuppressWarnings("unchecked")
+    public <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object> ResultCombiner7<T1, T2, T3, T4, T5, T6, T7> supply(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6, Supplier<Result<T7>> result7) {
+        ResultSlot<?>[] slots = fork(result1, result2, result3, result4, result5, result6, result7);
+        return new ResultCombiner7<>(
+                (ResultSlot<T1>) slots[0],
+                (ResultSlot<T2>) slots[1],
+                (ResultSlot<T3>) slots[2],
+                (ResultSlot<T4>) slots[3],
+                (ResultSlot<T5>) slots[4],
+                (ResultSlot<T6>) slots[5],
+                (ResultSlot<T7>) slots[6]
+        );
+    }
+
+    /** Like {@link #supply(Supplier, Supplier)}, but evaluating 8 suppliers. */
+    @SuppressWarnings("unchecked")
+    public <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object, T8 extends @Nullable Object> ResultCombiner8<T1, T2, T3, T4, T5, T6, T7, T8> supply(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6, Supplier<Result<T7>> result7, Supplier<Result<T8>> result8) {
+        ResultSlot<?>[] slots = fork(result1, result2, result3, result4, result5, result6, result7, result8);
+        return new ResultCombiner8<>(
+                (ResultSlot<T1>) slots[0],
+                (ResultSlot<T2>) slots[1],
+                (ResultSlot<T3>) slots[2],
+                (ResultSlot<T4>) slots[3],
+                (ResultSlot<T5>) slots[4],
+                (ResultSlot<T6>) slots[5],
+                (ResultSlot<T7>) slots[6],
+                (ResultSlot<T8>) slots[7]
+        );
+    }
+
+    /** Like {@link #supply(Supplier, Supplier)}, but evaluating 9 suppliers. */
+    @SuppressWarnings("unchecked")
+    public <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object, T8 extends @Nullable Object, T9 extends @Nullable Object> ResultCombiner9<T1, T2, T3, T4, T5, T6, T7, T8, T9> supply(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6, Supplier<Result<T7>> result7, Supplier<Result<T8>> result8, Supplier<Result<T9>> result9) {
+        ResultSlot<?>[] slots = fork(result1, result2, result3, result4, result5, result6, result7, result8, result9);
+        return new ResultCombiner9<>(
+                (ResultSlot<T1>) slots[0],
+                (ResultSlot<T2>) slots[1],
+                (ResultSlot<T3>) slots[2],
+                (ResultSlot<T4>) slots[3],
+                (ResultSlot<T5>) slots[4],
+                (ResultSlot<T6>) slots[5],
+                (ResultSlot<T7>) slots[6],
+                (ResultSlot<T8>) slots[7],
+                (ResultSlot<T9>) slots[8]
+        );
+    }
+
+    /** Like {@link #supply(Supplier, Supplier)}, but evaluating 10 suppliers. */
+    @SuppressWarnings("unchecked")
+    public <T1 extends @Nullable Object, T2 extends @Nullable Object, T3 extends @Nullable Object, T4 extends @Nullable Object, T5 extends @Nullable Object, T6 extends @Nullable Object, T7 extends @Nullable Object, T8 extends @Nullable Object, T9 extends @Nullable Object, T10 extends @Nullable Object> ResultCombiner10<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> supply(
+            Supplier<Result<T1>> result1, Supplier<Result<T2>> result2, Supplier<Result<T3>> result3, Supplier<Result<T4>> result4, Supplier<Result<T5>> result5, Supplier<Result<T6>> result6, Supplier<Result<T7>> result7, Supplier<Result<T8>> result8, Supplier<Result<T9>> result9, Supplier<Result<T10>> result10) {
+        ResultSlot<?>[] slots = fork(result1, result2, result3, result4, result5, result6, result7, result8, result9, result10);
+        return new ResultCombiner10<>(
+                (ResultSlot<T1>) slots[0],
+                (ResultSlot<T2>) slots[1],
+                (ResultSlot<T3>) slots[2],
+                (ResultSlot<T4>) slots[3],
+                (ResultSlot<T5>) slots[4],
+                (ResultSlot<T6>) slots[5],
+                (ResultSlot<T7>) slots[6],
+                (ResultSlot<T8>) slots[7],
+                (ResultSlot<T9>) slots[8],
+                (ResultSlot<T10>) slots[9]
+        );
+    }
+
+    @SafeVarargs
+    private ResultSlot<?>[] fork(Supplier<? extends Result<?>>... suppliers) {
+        BlockingQueue<Integer> completed = new LinkedBlockingQueue<>();
+        @SuppressWarnings("unchecked")
+        FutureTask<ResultSlot<?>>[] tasks = new FutureTask[suppliers.length];
+        for (int i = 0; i < suppliers.length; i++) {
+            @SuppressWarnings("unchecked")
+            Supplier<Result<@Nullable Object>> supplier = (Supplier<Result<@Nullable Object>>) suppliers[i];
+            int index = i;
+            tasks[i] = new FutureTask<>(() -> ResultSlot.from(supplier)) {
+                @Override
+                protected void done() {
+                    completed.add(index);
+                }
+            };
+        }
+
+        ResultSlot<?>[] slots = new ResultSlot<?>[suppliers.length];
+        try {
+            for (FutureTask<ResultSlot<?>> task : tasks) {
+                executor.execute(task);
+            }
+            long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+            for (int remaining = suppliers.length; remaining > 0; remaining--) {
+                Integer index = timeout == null
+                        ? completed.take()
+                        : completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (index == null) {
+                    timeOut(tasks, slots);
+                    break;
+                }
+                slots[index] = outcome(tasks[index]);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } finally {
+            for (FutureTask<ResultSlot<?>> task : tasks) {
+                task.cancel(true);
+            }
+        }
+        return slots;
+    }
+
+    private void timeOut(FutureTask<ResultSlot<?>>[] tasks, ResultSlot<?>[] slots) throws InterruptedException {
+        ResultSlot<?> timedOut = ResultSlot.of(Result.error(Objects.requireNonNull(timeoutErrors)));
+        for (int i = 0; i < tasks.length; i++) {
+            if (slots[i] == null) {
+                slots[i] = tasks[i].cancel(true) ? timedOut : outcome(tasks[i]);
+            }
+        }
+    }
+
+    private static ResultSlot<?> outcome(FutureTask<ResultSlot<?>> task) throws InterruptedException {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (CancellationException e) {
+            throw new CompletionException(e);
+        }
+    }
+}
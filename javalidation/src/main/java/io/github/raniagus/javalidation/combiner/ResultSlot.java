@@ -1,9 +1,12 @@
 package io.github.raniagus.javalidation.combiner;
 
+import io.github.raniagus.javalidation.AsyncResult;
 import io.github.raniagus.javalidation.JavalidationException;
 import io.github.raniagus.javalidation.Result;
 import io.github.raniagus.javalidation.Validation;
 import io.github.raniagus.javalidation.ValidationErrors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 
@@ -67,6 +70,44 @@ sealed interface ResultSlot<T extends @Nullable Object> permits ResultSlot.Value
         }
     }
 
+    static <T extends @Nullable Object> CompletableFuture<ResultSlot<T>> ofAsync(AsyncResult<T> result) {
+        return result.toCompletableFuture().thenApply(ResultSlot::of);
+    }
+
+    /**
+     * Waits for {@code dependencies} without blocking, then evaluates {@code supplier} on {@code executor}
+     * if all of them are ok, or skips it otherwise. The supplier may {@code join()} the dependencies.
+     */
+    @SafeVarargs
+    static <T extends @Nullable Object> CompletableFuture<ResultSlot<T>> fromAsync(
+            Supplier<Result<T>> supplier, Executor executor, CompletableFuture<? extends ResultSlot<?>>... dependencies) {
+        return CompletableFuture.allOf(dependencies).thenApplyAsync(
+                ignored -> allOk(joinAll(dependencies)) ? from(supplier) : skipped(),
+                executor
+        );
+    }
+
+    /**
+     * Waits for all {@code slots} without blocking, then accumulates their errors exactly like
+     * {@link #combine(Supplier, ResultSlot[])}. The success supplier may {@code join()} the slots.
+     */
+    @SafeVarargs
+    static <R extends @Nullable Object> AsyncResult<R> combineAsync(
+            Supplier<R> onSuccess, Executor executor, CompletableFuture<? extends ResultSlot<?>>... slots) {
+        return AsyncResult.of(
+                CompletableFuture.allOf(slots).thenApply(ignored -> combine(onSuccess, joinAll(slots))),
+                executor
+        );
+    }
+
+    private static ResultSlot<?>[] joinAll(CompletableFuture<? extends ResultSlot<?>>[] futures) {
+        ResultSlot<?>[] slots = new ResultSlot<?>[futures.length];
+        for (int i = 0; i < futures.length; i++) {
+            slots[i] = futures[i].join();
+        }
+        return slots;
+    }
+
     static boolean allOk(ResultSlot<?>... slots) {
         for (ResultSlot<?> slot : slots) {
             if (!slot.isOk()) {
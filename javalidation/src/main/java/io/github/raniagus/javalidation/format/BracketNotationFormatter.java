@@ -1,7 +1,6 @@
 package io.github.raniagus.javalidation.format;
 
 import io.github.raniagus.javalidation.FieldKey;
-import io.github.raniagus.javalidation.FieldKeyPart;
 
 /**
  * A {@link FieldKeyFormatter} that uses bracket notation.
@@ -13,26 +12,34 @@ import io.github.raniagus.javalidation.FieldKeyPart;
  *   <li>{@code "items[0][price]"} — mixed path (all non-first segments wrapped in {@code []})</li>
  * </ul>
  */
-public class BracketNotationFormatter implements FieldKeyFormatter {
+public class BracketNotationFormatter implements FieldKeyFormatter, SegmentNotation {
     @Override
     public String format(FieldKey fieldKey) {
-        FieldKeyPart[] parts = fieldKey.parts();
-        if (parts.length == 0) return "";
+        int size = fieldKey.size();
+        if (size == 0) return "";
 
         StringBuilder sb = new StringBuilder();
-
-        switch (parts[0]) {
-            case FieldKeyPart.StringKey s -> sb.append(s.objValue());
-            case FieldKeyPart.IntKey i -> sb.append('[').append(i.objValue()).append(']');
+        for (int i = 0; i < size; i++) {
+            if (fieldKey.isIndex(i)) {
+                appendIndex(sb, fieldKey.index(i), i == 0);
+            } else {
+                appendName(sb, fieldKey.name(i), i == 0);
+            }
         }
+        return sb.toString();
+    }
 
-        for (int i = 1; i < parts.length; i++) {
-            switch (parts[i]) {
-                case FieldKeyPart.StringKey s -> sb.append('[').append(s.objValue()).append(']');
-                case FieldKeyPart.IntKey i2 -> sb.append('[').append(i2.objValue()).append(']');
-            }
+    @Override
+    public void appendName(StringBuilder sb, String name, boolean first) {
+        if (first) {
+            sb.append(name);
+        } else {
+            sb.append('[').append(name).append(']');
         }
+    }
 
-        return sb.toString();
+    @Override
+    public void appendIndex(StringBuilder sb, int index, boolean first) {
+        sb.append('[').append(index).append(']');
     }
 }
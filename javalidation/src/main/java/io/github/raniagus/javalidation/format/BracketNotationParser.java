@@ -0,0 +1,67 @@
+package io.github.raniagus.javalidation.format;
+
+import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.FieldKeyPart;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link FieldKeyParser} for bracket notation, the inverse of {@link BracketNotationFormatter}.
+ * <p>
+ * Every segment after the first is enclosed in brackets, e.g. {@code "items[0][price]"}; the first one
+ * may be bare or bracketed. Bracketed segments do not distinguish names from indexes, so a segment that
+ * is an index literal ({@code 0} or a non-zero integer without leading zeros that fits in an {@code int})
+ * becomes a {@link FieldKeyPart.IntKey}, except that a bare first segment is always a name. Segments may
+ * not be empty or contain {@code '['} or {@code ']'}.
+ */
+public class BracketNotationParser implements FieldKeyParser {
+    private static final String NOTATION = "bracket";
+
+    @Override
+    public FieldKey parse(String path) {
+        return Objects.requireNonNull(parse(path, true));
+    }
+
+    @Override
+    public @Nullable FieldKey tryParse(String path) {
+        return parse(path, false);
+    }
+
+    private static @Nullable FieldKey parse(String path, boolean strict) {
+        int length = path.length();
+        if (length == 0) return PathSyntax.EMPTY;
+
+        FieldKeyPart[] parts = new FieldKeyPart[PathSyntax.count(path, '[') + (path.charAt(0) == '[' ? 0 : 1)];
+        int count = 0;
+        int pos = 0;
+        if (path.charAt(0) != '[') {
+            int end = path.indexOf('[');
+            if (end < 0) {
+                end = length;
+            }
+            if (path.lastIndexOf(']', end - 1) >= 0) {
+                return PathSyntax.fail(strict, NOTATION, path, path.lastIndexOf(']', end - 1));
+            }
+            parts[count++] = new FieldKeyPart.StringKey(path.substring(0, end));
+            pos = end;
+        }
+        while (pos < length) {
+            if (path.charAt(pos) != '[') {
+                return PathSyntax.fail(strict, NOTATION, path, pos);
+            }
+            int end = pos + 1;
+            while (end < length && path.charAt(end) != ']') {
+                if (path.charAt(end) == '[') {
+                    return PathSyntax.fail(strict, NOTATION, path, end);
+                }
+                end++;
+            }
+            if (end == length || end == pos + 1) {
+                return PathSyntax.fail(strict, NOTATION, path, pos);
+            }
+            parts[count++] = PathSyntax.segment(path, pos + 1, end);
+            pos = end + 1;
+        }
+        return FieldKey.of(parts);
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.raniagus.javalidation.format;
+
+import io.github.raniagus.javalidation.FieldKey;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link FieldKeyFormatter} that memoizes the output of another formatter.
+ * <p>
+ * Applications usually format the same few hundred field paths over and over, so this decorator keeps
+ * the formatted string of each distinct {@link FieldKey} in a concurrent map and returns it on every
+ * later call. The map holds about {@code maxSize} entries; once full, each new entry evicts one arbitrary
+ * older entry, so a burst of new keys never drops the whole working set at once.
+ * <p>
+ * When the delegate is exactly one of the built-in notations, not a subclass that may render segments
+ * differently, indexes are not part of the cached key: {@code items[0].price}, {@code items[1].price}, …
+ * share one entry holding the rendered field names, and only the indexes are spliced in.
+ * <p>
+ * <b>Example:</b>
+ * <pre>{@code
+ * FieldKeyFormatter formatter = new CachingFieldKeyFormatter(new PropertyPathNotationFormatter(), 1024);
+ * }</pre>
+ */
+public final class CachingFieldKeyFormatter implements FieldKeyFormatter {
+    private final FieldKeyFormatter delegate;
+    private final int maxSize;
+    // The delegate, when it is known to render each segment on its own; null caches whole keys
+    private final @Nullable SegmentNotation notation;
+    // Keys without indexes map to themselves, keys with indexes to their Shape; values are the rendered
+    // field name runs between indexes, so a key with n indexes has n + 1 runs
+    private final ConcurrentHashMap<Object, String[]> cache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a caching decorator.
+     *
+     * @param delegate the formatter whose output is cached
+     * @param maxSize  the maximum number of cache entries
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    public CachingFieldKeyFormatter(FieldKeyFormatter delegate, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maxSize = maxSize;
+        this.notation = builtInNotation(delegate);
+    }
+
+    // Exact classes only: a subclass may override format without keeping the segment contract
+    private static @Nullable SegmentNotation builtInNotation(FieldKeyFormatter delegate) {
+        Class<?> type = delegate.getClass();
+        if (type == PropertyPathNotationFormatter.class
+                || type == DotNotationFormatter.class
+                || type == BracketNotationFormatter.class) {
+            return (SegmentNotation) delegate;
+        }
+        return null;
+    }
+
+    /** Returns the formatter whose output is cached. */
+    public FieldKeyFormatter delegate() {
+        return delegate;
+    }
+
+    /** Returns the number of entries currently cached; keys that differ only in their indexes share one. */
+    public int size() {
+        return cache.size();
+    }
+
+    /** Returns the number of lookups answered from the cache since this formatter was created. */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /** Returns the number of lookups that had to call the delegate since this formatter was created. */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public String format(FieldKey fieldKey) {
+        int indexes = notation == null ? 0 : indexCount(fieldKey);
+        if (indexes == 0) {
+            return cached(fieldKey, fieldKey, 0)[0];
+        }
+        String[] runs = cached(Shape.of(fieldKey), fieldKey, indexes);
+        StringBuilder sb = new StringBuilder();
+        int run = 0;
+        for (int i = 0; i < fieldKey.size(); i++) {
+            if (fieldKey.isIndex(i)) {
+                sb.append(runs[run++]);
+                Objects.requireNonNull(notation).appendIndex(sb, fieldKey.index(i), i == 0);
+            }
+        }
+        return sb.append(runs[run]).toString();
+    }
+
+    private static int indexCount(FieldKey fieldKey) {
+        int count = 0;
+        for (int i = 0; i < fieldKey.size(); i++) {
+            if (fieldKey.isIndex(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private String[] cached(Object cacheKey, FieldKey fieldKey, int indexes) {
+        String[] runs = cache.get(cacheKey);
+        if (runs != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            runs = indexes == 0 ? new String[]{delegate.format(fieldKey)} : nameRuns(fieldKey, indexes);
+            if (cache.size() >= maxSize) {
+                evictOne();
+            }
+            cache.put(cacheKey, runs);
+        }
+        return runs;
+    }
+
+    /** Renders the field names between the indexes of {@code fieldKey}, leaving the indexes out. */
+    private String[] nameRuns(FieldKey fieldKey, int indexes) {
+        String[] runs = new String[indexes + 1];
+        StringBuilder sb = new StringBuilder();
+        int run = 0;
+        for (int i = 0; i < fieldKey.size(); i++) {
+            if (fieldKey.isIndex(i)) {
+                runs[run++] = sb.toString();
+                sb.setLength(0);
+            } else {
+                Objects.requireNonNull(notation).appendName(sb, fieldKey.name(i), i == 0);
+            }
+        }
+        runs[run] = sb.toString();
+        return runs;
+    }
+
+    // Iteration order follows the hash table, so this drops an unrelated entry rather than the oldest one
+    private void evictOne() {
+        Iterator<Object> keys = cache.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /** A key with its indexes left out: the field names, with {@code null} where an index was. */
+    private static final class Shape {
+        private final @Nullable String[] names;
+        private final int hash;
+
+        private Shape(@Nullable String[] names) {
+            this.names = names;
+            this.hash = Arrays.hashCode(names);
+        }
+
+        static Shape of(FieldKey fieldKey) {
+            @Nullable String[] names = new String[fieldKey.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = fieldKey.isIndex(i) ? null : fieldKey.name(i);
+            }
+            return new Shape(names);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Shape other && Arrays.equals(names, other.names);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package io.github.raniagus.javalidation.format;
 
 import io.github.raniagus.javalidation.FieldKey;
-import io.github.raniagus.javalidation.FieldKeyPart;
 
 /**
  * A {@link FieldKeyFormatter} that uses dot notation.
@@ -13,17 +12,32 @@ import io.github.raniagus.javalidation.FieldKeyPart;
  *   <li>{@code "items.0.price"} — mixed path</li>
  * </ul>
  */
-public class DotNotationFormatter implements FieldKeyFormatter {
+public class DotNotationFormatter implements FieldKeyFormatter, SegmentNotation {
     @Override
     public String format(FieldKey fieldKey) {
-        FieldKeyPart[] parts = fieldKey.parts();
-        if (parts.length == 0) return "";
+        int size = fieldKey.size();
+        if (size == 0) return "";
 
         StringBuilder sb = new StringBuilder();
-        sb.append(parts[0]);
-        for (int i = 1; i < parts.length; i++) {
-            sb.append('.').append(parts[i]);
+        for (int i = 0; i < size; i++) {
+            if (fieldKey.isIndex(i)) {
+                appendIndex(sb, fieldKey.index(i), i == 0);
+            } else {
+                appendName(sb, fieldKey.name(i), i == 0);
+            }
         }
         return sb.toString();
     }
+
+    @Override
+    public void appendName(StringBuilder sb, String name, boolean first) {
+        if (!first) sb.append('.');
+        sb.append(name);
+    }
+
+    @Override
+    public void appendIndex(StringBuilder sb, int index, boolean first) {
+        if (!first) sb.append('.');
+        sb.append(index);
+    }
 }
@@ -0,0 +1,48 @@
+package io.github.raniagus.javalidation.format;
+
+import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.FieldKeyPart;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link FieldKeyParser} for dot notation, the inverse of {@link DotNotationFormatter}.
+ * <p>
+ * Segments are separated by dots, e.g. {@code "items.0.price"}. Dot notation does not distinguish
+ * names from indexes, so a segment that is an index literal ({@code 0} or a non-zero integer without
+ * leading zeros that fits in an {@code int}) becomes a {@link FieldKeyPart.IntKey}, and any other
+ * non-empty segment becomes a {@link FieldKeyPart.StringKey}.
+ */
+public class DotNotationParser implements FieldKeyParser {
+    private static final String NOTATION = "dot";
+
+    @Override
+    public FieldKey parse(String path) {
+        return Objects.requireNonNull(parse(path, true));
+    }
+
+    @Override
+    public @Nullable FieldKey tryParse(String path) {
+        return parse(path, false);
+    }
+
+    private static @Nullable FieldKey parse(String path, boolean strict) {
+        int length = path.length();
+        if (length == 0) return PathSyntax.EMPTY;
+
+        FieldKeyPart[] parts = new FieldKeyPart[PathSyntax.count(path, '.') + 1];
+        int start = 0;
+        for (int i = 0; i < parts.length; i++) {
+            int end = path.indexOf('.', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end == start) {
+                return PathSyntax.fail(strict, NOTATION, path, start);
+            }
+            parts[i] = PathSyntax.segment(path, start, end);
+            start = end + 1;
+        }
+        return FieldKey.of(parts);
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.raniagus.javalidation.format;
+
+import io.github.raniagus.javalidation.FieldKey;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Parses a formatted field path back into a {@link FieldKey}; the inverse of a {@link FieldKeyFormatter}.
+ * <p>
+ * Each built-in formatter has a matching parser:
+ * <ul>
+ *   <li>{@link PropertyPathNotationFormatter} – {@link PropertyPathNotationParser}</li>
+ *   <li>{@link DotNotationFormatter} – {@link DotNotationParser}</li>
+ *   <li>{@link BracketNotationFormatter} – {@link BracketNotationParser}</li>
+ * </ul>
+ * An empty string parses to the empty key, which every formatter renders as {@code ""}.
+ */
+@FunctionalInterface
+public interface FieldKeyParser {
+    /**
+     * Parses {@code path} into a {@link FieldKey}.
+     *
+     * @param path the formatted path
+     * @return the parsed key
+     * @throws IllegalArgumentException if {@code path} is not valid in this parser's notation
+     */
+    FieldKey parse(String path);
+
+    /**
+     * Parses {@code path} into a {@link FieldKey}, or returns {@code null} if it is not valid in this
+     * parser's notation.
+     * <p>
+     * The built-in parsers do this without creating an exception, so it is the cheaper choice when invalid
+     * paths are expected. The default implementation catches the exception thrown by {@link #parse}.
+     *
+     * @param path the formatted path
+     * @return the parsed key, or {@code null} if {@code path} is not valid
+     */
+    default @Nullable FieldKey tryParse(String path) {
+        try {
+            return parse(path);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static FieldKeyParser getDefault() {
+        return new PropertyPathNotationParser();
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.raniagus.javalidation.format;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event timing one {@link MessageFormatTemplateStringFormatter#format} call. Formatting happens one
+ * error at a time, as serializers and the Spring validator walk a report, so a batch shows up as a run of
+ * these events on one thread. Disabled by default.
+ */
+@Name("io.github.raniagus.javalidation.Format")
+@Label("Error Message Format")
+@Category("Javalidation")
+@Description("A TemplateString was formatted with MessageFormat")
+@Enabled(false)
+final class FormatEvent extends Event {
+    @Label("Message")
+    @Description("The message template or key")
+    String message;
+
+    @Label("Argument Count")
+    int argumentCount;
+}
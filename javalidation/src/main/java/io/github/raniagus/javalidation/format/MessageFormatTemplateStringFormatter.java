@@ -6,6 +6,14 @@ import java.text.MessageFormat;
 public class MessageFormatTemplateStringFormatter implements TemplateStringFormatter {
     @Override
     public String format(TemplateString template) {
-        return MessageFormat.format(template.message(), template.args());
+        FormatEvent event = new FormatEvent();
+        event.begin();
+        String formatted = MessageFormat.format(template.message(), template.args());
+        if (event.shouldCommit()) {
+            event.message = template.message();
+            event.argumentCount = template.args().length;
+            event.commit();
+        }
+        return formatted;
     }
 }
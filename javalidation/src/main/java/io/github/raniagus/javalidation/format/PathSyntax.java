@@ -0,0 +1,79 @@
+package io.github.raniagus.javalidation.format;
+
+import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.FieldKeyPart;
+import org.jspecify.annotations.Nullable;
+
+/** Scanning helpers shared by the {@link FieldKeyParser} implementations. */
+final class PathSyntax {
+    static final FieldKey EMPTY = FieldKey.of(new FieldKeyPart[0]);
+    /** Returned by {@link #parseIndex} when the range is not an index literal. */
+    static final long NOT_AN_INDEX = Long.MIN_VALUE;
+
+    private PathSyntax() {
+    }
+
+    /**
+     * Parses {@code path[from, to)} as an index literal ({@code 0} or {@code -?[1-9][0-9]*}) that fits in an
+     * {@code int}, without allocating.
+     *
+     * @return the index, or {@link #NOT_AN_INDEX} if the range is not an index literal
+     */
+    static long parseIndex(String path, int from, int to) {
+        int i = from;
+        boolean negative = i < to && path.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == to) {
+            return NOT_AN_INDEX;
+        }
+        if (path.charAt(i) == '0') {
+            return i + 1 == to && !negative ? 0 : NOT_AN_INDEX;
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            char c = path.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_AN_INDEX;
+            }
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NOT_AN_INDEX;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? NOT_AN_INDEX : value;
+    }
+
+    /** Returns an index segment for an index literal, or a name segment for anything else. */
+    static FieldKeyPart segment(String path, int from, int to) {
+        long index = parseIndex(path, from, to);
+        return index != NOT_AN_INDEX
+                ? new FieldKeyPart.IntKey((int) index)
+                : new FieldKeyPart.StringKey(path.substring(from, to));
+    }
+
+    static int count(String path, char c) {
+        int count = 0;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == c) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Throws {@link #invalid} for {@code parse}, or returns {@code null} for {@code tryParse}. */
+    static @Nullable FieldKey fail(boolean strict, String notation, String path, int index) {
+        if (strict) {
+            throw invalid(notation, path, index);
+        }
+        return null;
+    }
+
+    static IllegalArgumentException invalid(String notation, String path, int index) {
+        return new IllegalArgumentException(
+                "Invalid " + notation + " notation at index " + index + " in: '" + path + "'");
+    }
+}
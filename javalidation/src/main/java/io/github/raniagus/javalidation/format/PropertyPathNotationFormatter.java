@@ -1,7 +1,6 @@
 package io.github.raniagus.javalidation.format;
 
 import io.github.raniagus.javalidation.FieldKey;
-import io.github.raniagus.javalidation.FieldKeyPart;
 
 /**
  * A {@link FieldKeyFormatter} that uses property-path notation.
@@ -13,25 +12,31 @@ import io.github.raniagus.javalidation.FieldKeyPart;
  *   <li>{@code "items[0].price"} — mixed path</li>
  * </ul>
  */
-public class PropertyPathNotationFormatter implements FieldKeyFormatter {
+public class PropertyPathNotationFormatter implements FieldKeyFormatter, SegmentNotation {
     @Override
     public String format(FieldKey fieldKey) {
-        FieldKeyPart[] parts = fieldKey.parts();
-        if (parts.length == 0) return "";
+        int size = fieldKey.size();
+        if (size == 0) return "";
 
         StringBuilder sb = new StringBuilder();
-        switch (parts[0]) {
-            case FieldKeyPart.StringKey s -> sb.append(s);
-            case FieldKeyPart.IntKey i   -> sb.append('[').append(i).append(']');
-        }
-
-        for (int idx = 1; idx < parts.length; idx++) {
-            switch (parts[idx]) {
-                case FieldKeyPart.StringKey s -> sb.append('.').append(s);
-                case FieldKeyPart.IntKey i   -> sb.append('[').append(i).append(']');
+        for (int i = 0; i < size; i++) {
+            if (fieldKey.isIndex(i)) {
+                appendIndex(sb, fieldKey.index(i), i == 0);
+            } else {
+                appendName(sb, fieldKey.name(i), i == 0);
             }
         }
-
         return sb.toString();
     }
+
+    @Override
+    public void appendName(StringBuilder sb, String name, boolean first) {
+        if (!first) sb.append('.');
+        sb.append(name);
+    }
+
+    @Override
+    public void appendIndex(StringBuilder sb, int index, boolean first) {
+        sb.append('[').append(index).append(']');
+    }
 }
@@ -0,0 +1,69 @@
+package io.github.raniagus.javalidation.format;
+
+import io.github.raniagus.javalidation.FieldKey;
+import io.github.raniagus.javalidation.FieldKeyPart;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link FieldKeyParser} for property path notation, the inverse of {@link PropertyPathNotationFormatter}.
+ * <p>
+ * Names are separated by dots and indexes are enclosed in brackets, e.g. {@code "items[0].price"} or
+ * {@code "[0].name"}. Names may not contain {@code '.'}, {@code '['} or {@code ']'}, and an index must be
+ * {@code 0} or a non-zero integer without leading zeros that fits in an {@code int}.
+ */
+public class PropertyPathNotationParser implements FieldKeyParser {
+    private static final String NOTATION = "property-path";
+
+    @Override
+    public FieldKey parse(String path) {
+        return Objects.requireNonNull(parse(path, true));
+    }
+
+    @Override
+    public @Nullable FieldKey tryParse(String path) {
+        return parse(path, false);
+    }
+
+    private static @Nullable FieldKey parse(String path, boolean strict) {
+        int length = path.length();
+        if (length == 0) return PathSyntax.EMPTY;
+
+        int segments = PathSyntax.count(path, '.') + PathSyntax.count(path, '[') + (path.charAt(0) == '[' ? 0 : 1);
+        FieldKeyPart[] parts = new FieldKeyPart[segments];
+        int count = 0;
+        int pos = 0;
+        while (pos < length) {
+            char c = path.charAt(pos);
+            if (c == '[') {
+                int close = path.indexOf(']', pos + 1);
+                long index = close < 0 ? PathSyntax.NOT_AN_INDEX : PathSyntax.parseIndex(path, pos + 1, close);
+                if (index == PathSyntax.NOT_AN_INDEX) {
+                    return PathSyntax.fail(strict, NOTATION, path, pos);
+                }
+                parts[count++] = new FieldKeyPart.IntKey((int) index);
+                pos = close + 1;
+            } else {
+                // A name either starts the path or follows a dot
+                int start = c == '.' && pos > 0 ? pos + 1 : pos;
+                if (start == pos && pos > 0) {
+                    return PathSyntax.fail(strict, NOTATION, path, pos);
+                }
+                int end = start;
+                while (end < length && !isDelimiter(path.charAt(end))) {
+                    end++;
+                }
+                if (end == start) {
+                    return PathSyntax.fail(strict, NOTATION, path, pos);
+                }
+                parts[count++] = new FieldKeyPart.StringKey(path.substring(start, end));
+                pos = end;
+            }
+        }
+        return FieldKey.of(parts);
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == '.' || c == '[' || c == ']';
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.raniagus.javalidation.format;
+
+/**
+ * Implemented by the built-in formatters, whose output is each segment rendered in turn, where the rendering
+ * of a segment only depends on the segment itself and on whether it is the first one.
+ * <p>
+ * {@link CachingFieldKeyFormatter} uses it to cache the field names of a key once per shape, so
+ * {@code items[0].price} and {@code items[1].price} share one entry and only the indexes are spliced in.
+ * It only does so for the built-in classes themselves, since a user subclass inherits this interface but
+ * may not keep its contract.
+ */
+interface SegmentNotation {
+    /** Appends the rendering of a field name segment. */
+    void appendName(StringBuilder sb, String name, boolean first);
+
+    /** Appends the rendering of an index segment. */
+    void appendIndex(StringBuilder sb, int index, boolean first);
+}
@@ -0,0 +1,71 @@
+package io.github.raniagus.javalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.raniagus.javalidation.util.ErrorStrings;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class AsyncResultTest {
+
+    @Nested
+    class SupplyTests {
+
+        @Test
+        void givenSupplier_whenSupply_thenRunsOnVirtualThread() {
+            var virtual = new AtomicBoolean();
+
+            var result = AsyncResult.supply(() -> {
+                virtual.set(Thread.currentThread().isVirtual());
+                return Result.ok("value");
+            });
+
+            assertThat(result.join()).isEqualTo(Result.ok("value"));
+            assertThat(virtual).isTrue();
+        }
+
+        @Test
+        void givenSupplierThrowsJavalidationException_whenSupply_thenReturnsErr() {
+            var result = AsyncResult.<String>supply(() -> {
+                throw JavalidationException.of(ErrorStrings.ERROR_1);
+            });
+
+            assertThat(result.join()).isEqualTo(Result.error(ErrorStrings.ERROR_1));
+        }
+
+        @Test
+        void givenSupplierThrowsOtherException_whenJoin_thenPropagatesException() {
+            var result = AsyncResult.<String>supply(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class OfTests {
+
+        @Test
+        void givenStageFailedWithJavalidationException_whenOf_thenReturnsErr() {
+            var stage = CompletableFuture.<Result<String>>failedFuture(JavalidationException.of(ErrorStrings.ERROR_1));
+
+            assertThat(AsyncResult.of(stage).join()).isEqualTo(Result.error(ErrorStrings.ERROR_1));
+        }
+
+        @Test
+        void givenCompletedResult_whenToCompletableFuture_thenReturnsIndependentCopy() {
+            var result = AsyncResult.completed(Result.ok("value"));
+
+            result.toCompletableFuture().obtrudeValue(Result.ok("other"));
+
+            assertThat(result.join()).isEqualTo(Result.ok("value"));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.raniagus.javalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ErrorListTest {
+    private static final TemplateString ERROR_1 = TemplateString.of("error 1");
+    private static final TemplateString ERROR_2 = TemplateString.of("error 2");
+    private static final TemplateString ERROR_3 = TemplateString.of("error 3");
+
+    @Nested
+    class AppendTests {
+
+        @Test
+        void givenEmptyList_whenAppend_thenReturnsSingletonList() {
+            List<TemplateString> errors = ErrorList.append(List.of(), ERROR_1, 0);
+
+            assertThat(errors).isNotInstanceOf(ErrorList.class).containsExactly(ERROR_1);
+        }
+
+        @Test
+        void givenSingletonList_whenAppend_thenReturnsErrorList() {
+            List<TemplateString> errors = ErrorList.append(List.of(ERROR_1), ERROR_2, 0);
+
+            assertThat(errors).isInstanceOf(ErrorList.class).containsExactly(ERROR_1, ERROR_2);
+        }
+
+        @Test
+        void givenErrorList_whenAppend_thenGrowsInPlace() {
+            List<TemplateString> errors = ErrorList.append(List.of(ERROR_1), ERROR_2, 0);
+
+            List<TemplateString> appended = errors;
+            for (int i = 0; i < 10; i++) {
+                appended = ErrorList.append(appended, ERROR_3, 0);
+            }
+
+            assertThat(appended).isSameAs(errors).hasSize(12).startsWith(ERROR_1, ERROR_2);
+        }
+
+        @Test
+        void givenErrorListOfOlderVersion_whenAppend_thenCopiesIt() {
+            List<TemplateString> errors = ErrorList.append(List.of(ERROR_1), ERROR_2, 0);
+
+            List<TemplateString> appended = ErrorList.append(errors, ERROR_3, 1);
+
+            assertThat(appended).isNotSameAs(errors).containsExactly(ERROR_1, ERROR_2, ERROR_3);
+            assertThat(errors).containsExactly(ERROR_1, ERROR_2);
+        }
+    }
+
+    @Nested
+    class AppendAllTests {
+
+        @Test
+        void givenEmptyNewErrors_whenAppendAll_thenReturnsSameList() {
+            List<TemplateString> errors = List.of(ERROR_1);
+
+            assertThat(ErrorList.appendAll(errors, List.of(), 0)).isSameAs(errors);
+        }
+
+        @Test
+        void givenEmptyListAndSingleNewError_whenAppendAll_thenReturnsSingletonList() {
+            List<TemplateString> errors = ErrorList.appendAll(List.of(), List.of(ERROR_1), 0);
+
+            assertThat(errors).isNotInstanceOf(ErrorList.class).containsExactly(ERROR_1);
+        }
+
+        @Test
+        void givenNewErrorList_whenAppendAll_thenDoesNotShareIt() {
+            List<TemplateString> newErrors = ErrorList.append(List.of(ERROR_1), ERROR_2, 0);
+
+            List<TemplateString> errors = ErrorList.appendAll(List.of(), newErrors, 0);
+            ErrorList.append(newErrors, ERROR_3, 0);
+
+            assertThat(errors).isNotSameAs(newErrors).containsExactly(ERROR_1, ERROR_2);
+        }
+
+        @Test
+        void givenSameList_whenAppendAll_thenDuplicatesErrors() {
+            List<TemplateString> errors = ErrorList.append(List.of(ERROR_1), ERROR_2, 0);
+
+            assertThat(ErrorList.appendAll(errors, errors, 0)).containsExactly(ERROR_1, ERROR_2, ERROR_1, ERROR_2);
+        }
+    }
+
+    @Nested
+    class UnmodifiableTests {
+
+        @Test
+        void givenErrorList_whenAdd_thenThrowsUnsupportedOperationException() {
+            List<TemplateString> errors = ErrorList.append(List.of(ERROR_1), ERROR_2, 0);
+
+            assertThatThrownBy(() -> errors.add(ERROR_3))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        void givenErrorList_whenComparedWithEquivalentList_thenEqual() {
+            List<TemplateString> errors = ErrorList.append(List.of(ERROR_1), ERROR_2, 0);
+
+            assertThat(errors).isEqualTo(List.of(ERROR_1, ERROR_2))
+                    .hasSameHashCodeAs(List.of(ERROR_1, ERROR_2));
+        }
+    }
+}
@@ -330,4 +330,187 @@ class FieldKeyTest {
             assertThat(key.toString()).isEqualTo("FieldKey{parts=[3]}");
         }
     }
+
+    @Nested
+    class SegmentAccessTests {
+
+        @Test
+        void givenMixedPath_whenAccessingSegments_thenReturnsNamesAndIndexes() {
+            FieldKey key = FieldKey.of("items", -1, "price");
+
+            assertThat(key.size()).isEqualTo(3);
+            assertThat(key.isIndex(0)).isFalse();
+            assertThat(key.name(0)).isEqualTo("items");
+            assertThat(key.isIndex(1)).isTrue();
+            assertThat(key.index(1)).isEqualTo(-1);
+            assertThat(key.name(2)).isEqualTo("price");
+        }
+
+        @Test
+        void givenIndexSegment_whenName_thenThrowsIllegalStateException() {
+            FieldKey key = FieldKey.of(0);
+
+            assertThatThrownBy(() -> key.name(0)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void givenNameSegment_whenIndex_thenThrowsIllegalStateException() {
+            FieldKey key = FieldKey.of("name");
+
+            assertThatThrownBy(() -> key.index(0)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void givenKey_whenPartsCalledTwice_thenReturnsSameArray() {
+            FieldKey key = FieldKey.of("items", 0, "price");
+
+            assertThat(key.parts()).isSameAs(key.parts());
+        }
+    }
+
+    @Nested
+    class UninternedNameTests {
+        private static final String LONG_NAME = "x".repeat(FieldNames.MAX_NAME_LENGTH + 1);
+
+        @Test
+        void givenNameLongerThanInternLimit_whenCompared_thenEqualToSamePath() {
+            FieldKey key1 = FieldKey.of("map", LONG_NAME);
+            FieldKey key2 = FieldKey.of(new FieldKeyPart.StringKey("map"), new FieldKeyPart.StringKey(LONG_NAME));
+
+            assertThat(key1).isEqualTo(key2);
+            assertThat(key1.hashCode()).isEqualTo(key2.hashCode());
+            assertThat(key1.compareTo(key2)).isZero();
+            assertThat(key1.name(1)).isEqualTo(LONG_NAME);
+        }
+
+        @Test
+        void givenUninternedName_whenPrefixed_thenKeepsName() {
+            FieldKey key = FieldKey.of(LONG_NAME, "field").withPrefix(new FieldKeyPart.IntKey(0));
+
+            assertThat(key.parts()).containsExactly(
+                    new FieldKeyPart.IntKey(0),
+                    new FieldKeyPart.StringKey(LONG_NAME),
+                    new FieldKeyPart.StringKey("field")
+            );
+        }
+
+        @Test
+        void givenUninternedAndInternedNames_whenCompareTo_thenComparesAlphabetically() {
+            FieldKey key1 = FieldKey.of("a");
+            FieldKey key2 = FieldKey.of(LONG_NAME);
+
+            assertThat(key1.compareTo(key2)).isNegative();
+            assertThat(key2.compareTo(key1)).isPositive();
+        }
+    }
+
+    @Nested
+    class SharedArrayTests {
+        private static final FieldKey BASE = FieldKey.of(new FieldKeyPart[0])
+                .withSuffix(new FieldKeyPart.StringKey("order"), true)
+                .withSuffix(new FieldKeyPart.StringKey("items"), true);
+
+        @Test
+        void givenSiblingSuffixes_whenAppended_thenEachKeepsItsOwnSegment() {
+            FieldKey first = BASE.withSuffix(new FieldKeyPart.IntKey(0), true);
+            FieldKey second = BASE.withSuffix(new FieldKeyPart.IntKey(1), true);
+
+            assertThat(first).isEqualTo(FieldKey.of("order", "items", 0));
+            assertThat(second).isEqualTo(FieldKey.of("order", "items", 1));
+            assertThat(BASE).isEqualTo(FieldKey.of("order", "items"));
+        }
+
+        @Test
+        void givenSameSuffixTwice_whenAppended_thenKeysAreEqual() {
+            FieldKey first = BASE.withSuffix(new FieldKeyPart.StringKey("price"), true);
+            FieldKey second = BASE.withSuffix(new FieldKeyPart.StringKey("price"), true);
+
+            assertThat(first).isEqualTo(second).isEqualTo(FieldKey.of("order", "items", "price"));
+        }
+
+        @Test
+        void givenUninternedSiblingSuffixes_whenAppended_thenEachKeepsItsOwnName() {
+            String firstName = "x".repeat(FieldNames.MAX_NAME_LENGTH + 1);
+            String secondName = "y".repeat(FieldNames.MAX_NAME_LENGTH + 1);
+
+            FieldKey first = BASE.withSuffix(new FieldKeyPart.StringKey(firstName), false);
+            FieldKey second = BASE.withSuffix(new FieldKeyPart.StringKey(secondName), false);
+
+            assertThat(first.name(2)).isEqualTo(firstName);
+            assertThat(second.name(2)).isEqualTo(secondName);
+        }
+
+        @Test
+        void givenPrefixOfLongerKey_whenAppended_thenLongerKeyIsUnchanged() {
+            FieldKey key = BASE.withSuffix(new FieldKeyPart.IntKey(0), true);
+
+            FieldKey other = key.prefix(1).withSuffix(new FieldKeyPart.StringKey("total"), true);
+
+            assertThat(other).isEqualTo(FieldKey.of("order", "total"));
+            assertThat(key).isEqualTo(FieldKey.of("order", "items", 0));
+        }
+
+        @Test
+        void givenKeySharingLongerArray_whenPositionPastSize_thenThrowsIndexOutOfBoundsException() {
+            BASE.withSuffix(new FieldKeyPart.IntKey(0), true);
+
+            assertThatThrownBy(() -> BASE.isIndex(2)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThat(BASE.parts()).hasSize(2);
+        }
+    }
+
+    @Nested
+    class InterningTests {
+
+        @Test
+        void givenNameFromParts_whenInternedLater_thenKeysStayEqual() {
+            String name = "partsFirst" + System.nanoTime();
+            FieldKey fromParts = FieldKey.of(new FieldKeyPart.StringKey(name), new FieldKeyPart.IntKey(0));
+            FieldKey fromCode = FieldKey.of(name).withSuffix(new FieldKeyPart.IntKey(0), true);
+
+            assertThat(fromParts).isEqualTo(fromCode);
+            assertThat(fromCode).isEqualTo(fromParts);
+            assertThat(fromParts.hashCode()).isEqualTo(fromCode.hashCode());
+        }
+
+        @Test
+        void givenNameFromParts_whenConstructed_thenIsNotInterned() {
+            String name = "parsed" + System.nanoTime();
+
+            FieldKey.of(new FieldKeyPart.StringKey(name));
+
+            assertThat(FieldNames.existingIdOf(name)).isEqualTo(-1);
+        }
+
+        @Test
+        void givenMapKey_whenWithFieldKeyPart_thenIsNotInterned() {
+            String key = "mapKey" + System.nanoTime();
+            Validation validation = Validation.create();
+
+            validation.withField(FieldKeyPart.of(key), () -> validation.addError("invalid"));
+
+            assertThat(validation.finish().fieldErrors()).containsOnlyKeys(FieldKey.of(new FieldKeyPart.StringKey(key)));
+            assertThat(FieldNames.existingIdOf(key)).isEqualTo(-1);
+        }
+
+        @Test
+        void givenNumberMapKey_whenWithFieldKeyPart_thenUsesIndexSegment() {
+            Validation validation = Validation.create();
+
+            validation.withField(FieldKeyPart.of(3L), () -> validation.addError("invalid"));
+
+            assertThat(validation.finish().fieldErrors()).containsOnlyKeys(FieldKey.of(3));
+        }
+
+        @Test
+        void givenFieldName_whenWithField_thenIsInterned() {
+            String field = "field" + System.nanoTime();
+            Validation validation = Validation.create();
+
+            validation.withField(field, () -> validation.addError("invalid"));
+            validation.finish();
+
+            assertThat(FieldNames.existingIdOf(field)).isNotNegative();
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package io.github.raniagus.javalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.raniagus.javalidation.format.TemplateStringFormatter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+class FlightRecorderEventsTest {
+
+    @Test
+    void givenNoRecording_whenGetEventType_thenEventsAreDisabled() {
+        assertThat(List.of(ExceptionThrownEvent.class, ExceptionCaughtEvent.class, LargeReportEvent.class))
+                .map(EventType::getEventType)
+                .noneMatch(EventType::isEnabled);
+    }
+
+    @Test
+    void givenExceptionCaughtByFlatMap_whenRecording_thenRecordsThrowAndCatch() throws IOException {
+        List<RecordedEvent> events = record(() -> Result.ok(1).flatMap(value -> {
+            throw JavalidationException.at("value", "invalid");
+        }));
+
+        assertThat(events).filteredOn(event -> event.getEventType().getName().endsWith(".ExceptionThrown"))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getInt("errorCount")).isEqualTo(1));
+        assertThat(events).filteredOn(event -> event.getEventType().getName().endsWith(".ExceptionCaught"))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getString("operation")).isEqualTo("Result.flatMap"));
+    }
+
+    @Test
+    void givenLargeAndSmallReports_whenRecording_thenRecordsOnlyLargeOne() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Validation small = Validation.create();
+            small.addErrorAt("name", "required");
+            small.finish();
+            Validation large = Validation.create();
+            for (int i = 0; i < 150; i++) {
+                large.addErrorAt(FieldKey.of("items", i), "invalid");
+            }
+            large.finish();
+        });
+
+        assertThat(events).filteredOn(event -> event.getEventType().getName().endsWith(".LargeReport"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getInt("errorCount")).isEqualTo(150);
+                    assertThat(event.getInt("fieldCount")).isEqualTo(150);
+                });
+    }
+
+    @Test
+    void givenDefaultFormatter_whenRecording_thenRecordsFormatCall() throws IOException {
+        List<RecordedEvent> events = record(() ->
+                TemplateStringFormatter.getDefault().format(new TemplateString("Hello {0}!", new Object[]{"World"})));
+
+        assertThat(events).filteredOn(event -> event.getEventType().getName().endsWith(".Format"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("message")).isEqualTo("Hello {0}!");
+                    assertThat(event.getInt("argumentCount")).isEqualTo(1);
+                });
+    }
+
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = Files.createTempFile("javalidation", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("ExceptionThrown", "ExceptionCaught", "LargeReport", "Format")) {
+                recording.enable("io.github.raniagus.javalidation." + name).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.raniagus.javalidation;
+
+import static io.github.raniagus.javalidation.ResultCollector.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ForwardingResultCollectorTest {
+
+    @Nested
+    class ForEachValidTests {
+
+        @Test
+        void givenMixedResults_whenForEachValid_thenForwardsValuesAndKeepsErrors() {
+            List<String> sink = new ArrayList<>();
+
+            PartitionSummary summary = Stream.of(Result.ok("a"), Result.<String>error("root"), Result.ok("b"))
+                    .collect(forEachValid(sink::add));
+
+            assertThat(sink).containsExactly("a", "b");
+            assertThat(summary).isEqualTo(new PartitionSummary(2, 1, ValidationErrors.of("root"), Integer.MAX_VALUE));
+            assertThat(summary.hasErrors()).isTrue();
+            assertThat(summary.isSampled()).isFalse();
+        }
+
+        @Test
+        void givenAllOkResults_whenForEachValid_thenHasNoErrors() {
+            List<String> sink = new ArrayList<>();
+
+            PartitionSummary summary = Stream.of(Result.ok("a"), Result.ok("b"))
+                    .collect(forEachValid(sink::add));
+
+            assertThat(summary.hasErrors()).isFalse();
+            assertThat(summary.errors().isEmpty()).isTrue();
+        }
+
+        @Test
+        void givenWithIndex_whenForEachValid_thenPrefixesErrorsWithIndex() {
+            PartitionSummary summary = Stream.of(Result.ok("a"), Result.<String>errorAt("name", "error"))
+                    .collect(withIndex(forEachValid(value -> {})));
+
+            assertThat(summary.errors()).isEqualTo(ValidationErrors.at(FieldKey.of(1, "name"), "error"));
+        }
+    }
+
+    @Nested
+    class SampleTests {
+
+        @Test
+        void givenMoreFailuresThanSample_whenForEachValid_thenKeepsFirstErrorsAndCountsAll() {
+            PartitionSummary summary = Stream.of(
+                    Result.<String>error("first"),
+                    Result.<String>error("second"),
+                    Result.<String>error("third")
+            ).collect(withIndex(forEachValid(value -> {}, 2)));
+
+            assertThat(summary.invalidCount()).isEqualTo(3);
+            assertThat(summary.errors()).isEqualTo(ValidationErrors.at(0, "first").mergeWith(ValidationErrors.at(1, "second")));
+            assertThat(summary.isSampled()).isTrue();
+        }
+
+        @Test
+        void givenParallelStream_whenForEachValid_thenKeepsSampleSizeFailedElements() {
+            List<Integer> sink = Collections.synchronizedList(new ArrayList<>());
+
+            PartitionSummary summary = IntStream.range(0, 1000).boxed().parallel()
+                    .map(i -> i % 2 == 0 ? Result.ok(i) : Result.<Integer>error("odd " + i))
+                    .collect(forEachValid(sink::add, 3));
+
+            assertThat(sink).hasSize(500);
+            assertThat(summary.validCount()).isEqualTo(500);
+            assertThat(summary.invalidCount()).isEqualTo(500);
+            assertThat(summary.errors()).isEqualTo(ValidationErrors.of("odd 1")
+                    .mergeWith(ValidationErrors.of("odd 3"))
+                    .mergeWith(ValidationErrors.of("odd 5")));
+        }
+
+        @Test
+        void givenPartialCollectors_whenCombine_thenFillsOnlyRemainingSample() {
+            var left = new ForwardingResultCollector<String>(value -> {}, 2);
+            left.add(Result.error("first"), PrefixStack.of(0));
+            var right = new ForwardingResultCollector<String>(value -> {}, 2);
+            right.add(Result.error("second"), PrefixStack.of(1));
+            right.add(Result.error("third"), PrefixStack.of(2));
+
+            PartitionSummary summary = left.combine(right).finish();
+
+            assertThat(summary.invalidCount()).isEqualTo(3);
+            assertThat(summary.errors()).isEqualTo(ValidationErrors.at(0, "first").mergeWith(ValidationErrors.at(1, "second")));
+        }
+
+        @Test
+        void givenZeroSample_whenForEachValid_thenKeepsOnlyCounts() {
+            PartitionSummary summary = Stream.of(Result.ok("a"), Result.<String>error("first"))
+                    .collect(forEachValid(value -> {}, 0));
+
+            assertThat(summary).isEqualTo(new PartitionSummary(1, 1, ValidationErrors.empty(), 0));
+        }
+
+        @Test
+        void givenNegativeSample_whenForEachValid_thenThrowsIllegalArgumentException() {
+            assertThatThrownBy(() -> forEachValid(value -> {}, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
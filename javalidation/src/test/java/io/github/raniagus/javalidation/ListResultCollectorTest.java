@@ -280,4 +280,26 @@ class ListResultCollectorTest {
             ));
         }
     }
+
+    @Nested
+    class FinishTests {
+
+        @Test
+        void givenOkResults_whenToResultList_thenListIsUnmodifiable() {
+            var list = Stream.of(Result.ok("value1"), Result.ok("value2"))
+                    .collect(toResultList(2))
+                    .getOrThrow();
+
+            assertThatThrownBy(() -> list.add("value3"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        void givenNullValue_whenToPartialResult_thenKeepsNull() {
+            var partitioned = Stream.of(Result.ok("value1"), Result.<String>ok(null))
+                    .collect(toPartialResult());
+
+            assertThat(partitioned.success()).containsExactly("value1", null);
+        }
+    }
 }
@@ -205,6 +205,26 @@ class PrefixStackTest {
 
             assertThat(stack.toFieldKey()).isEqualTo(stack.toFieldKey());
         }
+
+        @Test
+        void givenToFieldKeyCalledTwice_whenCompared_thenSameInstance() {
+            PrefixStack stack = PrefixStack.of("order").prepend("items");
+
+            assertThat(stack.toFieldKey()).isSameAs(stack.toFieldKey());
+        }
+
+        @Test
+        void givenSharedTail_whenToFieldKeyOnChildren_thenTailKeyIsUnchanged() {
+            PrefixStack parent = PrefixStack.of("items");
+            FieldKey parentKey = parent.toFieldKey();
+
+            FieldKey first = parent.prepend(0).toFieldKey();
+            FieldKey second = parent.prepend(1).toFieldKey();
+
+            assertThat(parentKey).isEqualTo(FieldKey.of("items"));
+            assertThat(first).isEqualTo(FieldKey.of("items", 0));
+            assertThat(second).isEqualTo(FieldKey.of("items", 1));
+        }
     }
 
     @Nested
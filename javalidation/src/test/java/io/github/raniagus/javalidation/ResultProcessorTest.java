@@ -0,0 +1,276 @@
+package io.github.raniagus.javalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ResultProcessorTest {
+
+    private static final class Upstream implements Flow.Subscription {
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class Downstream<T> implements Flow.Subscriber<T> {
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Flow.@Nullable Subscription subscription;
+        private volatile @Nullable Throwable error;
+        private volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        void request(long n) {
+            subscription.request(n);
+        }
+    }
+
+    private static <T> Downstream<Result<T>> subscribe(ResultProcessor<T> processor, long request) {
+        var downstream = new Downstream<Result<T>>();
+        processor.subscribe(downstream);
+        downstream.request(request);
+        return downstream;
+    }
+
+    @Nested
+    class WindowTests {
+
+        @Test
+        void givenOkResults_whenOnNext_thenForwardsValuesImmediately() {
+            ResultProcessor<String> processor = ResultProcessor.create(10);
+            var downstream = subscribe(processor, Long.MAX_VALUE);
+            processor.onSubscribe(new Upstream());
+
+            processor.onNext(Result.ok("a"));
+            processor.onNext(Result.ok("b"));
+
+            assertThat(downstream.items).containsExactly(Result.ok("a"), Result.ok("b"));
+        }
+
+        @Test
+        void givenErrResults_whenBatchIsFull_thenForwardsIndexedErrorWindow() {
+            ResultProcessor<String> processor = ResultProcessor.create(2);
+            var downstream = subscribe(processor, Long.MAX_VALUE);
+            processor.onSubscribe(new Upstream());
+
+            processor.onNext(Result.error("first"));
+            processor.onNext(Result.ok("b"));
+            assertThat(downstream.items).containsExactly(Result.ok("b"));
+
+            processor.onNext(Result.errorAt("name", "second"));
+
+            assertThat(downstream.items).containsExactly(
+                    Result.ok("b"),
+                    Result.error(ValidationErrors.at(0, "first").mergeWith(ValidationErrors.at(FieldKey.of(2, "name"), "second")))
+            );
+        }
+
+        @Test
+        void givenPartialWindow_whenOnComplete_thenForwardsWindowAndCompletes() {
+            ResultProcessor<String> processor = ResultProcessor.create(10);
+            var downstream = subscribe(processor, Long.MAX_VALUE);
+            processor.onSubscribe(new Upstream());
+
+            processor.onNext(Result.error("first"));
+            processor.onComplete();
+
+            assertThat(downstream.items).containsExactly(Result.error(ValidationErrors.at(0, "first")));
+            assertThat(downstream.completed).isTrue();
+        }
+
+        @Test
+        void givenPartialWindow_whenOnError_thenForwardsWindowAndError() {
+            ResultProcessor<String> processor = ResultProcessor.create(10);
+            var downstream = subscribe(processor, Long.MAX_VALUE);
+            processor.onSubscribe(new Upstream());
+            var failure = new IllegalStateException("boom");
+
+            processor.onNext(Result.error("first"));
+            processor.onError(failure);
+
+            assertThat(downstream.items).containsExactly(Result.error(ValidationErrors.at(0, "first")));
+            assertThat(downstream.error).isSameAs(failure);
+        }
+
+        @Test
+        void givenMaxDelay_whenDelayElapses_thenForwardsWindowBeforeCompletion() throws InterruptedException {
+            ResultProcessor<String> processor = ResultProcessor.create(10, Duration.ofMillis(20));
+            var downstream = subscribe(processor, Long.MAX_VALUE);
+            processor.onSubscribe(new Upstream());
+
+            processor.onNext(Result.error("first"));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (downstream.items.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(downstream.items).containsExactly(Result.error(ValidationErrors.at(0, "first")));
+            assertThat(downstream.completed).isFalse();
+        }
+    }
+
+    @Nested
+    class BackpressureTests {
+
+        @Test
+        void givenDownstreamDemand_whenSubscribed_thenRequestsSameAmountUpstream() {
+            ResultProcessor<String> processor = ResultProcessor.create(10);
+            var upstream = new Upstream();
+            var downstream = subscribe(processor, 3);
+
+            processor.onSubscribe(upstream);
+
+            assertThat(upstream.requested).hasValue(3);
+            assertThat(downstream.items).isEmpty();
+        }
+
+        @Test
+        void givenErrResult_whenOnNext_thenRequestsReplacementUpstream() {
+            ResultProcessor<String> processor = ResultProcessor.create(10);
+            var upstream = new Upstream();
+            subscribe(processor, 1);
+            processor.onSubscribe(upstream);
+
+            processor.onNext(Result.error("first"));
+
+            assertThat(upstream.requested).hasValue(2);
+        }
+
+        @Test
+        void givenNoDemand_whenWindowCloses_thenHoldsItUntilRequested() {
+            ResultProcessor<String> processor = ResultProcessor.create(1);
+            var upstream = new Upstream();
+            var downstream = subscribe(processor, 1);
+            processor.onSubscribe(upstream);
+
+            processor.onNext(Result.ok("a"));
+            assertThat(upstream.requested).hasValue(1);
+
+            downstream.request(1);
+            processor.onNext(Result.error("second"));
+
+            assertThat(downstream.items).containsExactly(Result.ok("a"), Result.error(ValidationErrors.at(1, "second")));
+            assertThat(upstream.requested).hasValue(2);
+        }
+
+        @Test
+        void givenDownstreamCancels_whenCancel_thenCancelsUpstream() {
+            ResultProcessor<String> processor = ResultProcessor.create(10);
+            var upstream = new Upstream();
+            var downstream = subscribe(processor, 1);
+            processor.onSubscribe(upstream);
+
+            downstream.subscription.cancel();
+
+            assertThat(upstream.cancelled).isTrue();
+        }
+
+        @Test
+        void givenCancelledDownstream_whenOnNext_thenDropsItems() {
+            ResultProcessor<String> processor = ResultProcessor.create(1);
+            var upstream = new Upstream();
+            var downstream = subscribe(processor, 2);
+            processor.onSubscribe(upstream);
+            downstream.subscription.cancel();
+
+            processor.onNext(Result.ok("a"));
+            processor.onNext(Result.error("late"));
+            processor.onComplete();
+
+            assertThat(downstream.items).isEmpty();
+            assertThat(downstream.completed).isFalse();
+        }
+    }
+
+    @Nested
+    class SubscriptionTests {
+
+        @Test
+        void givenSubscribedProcessor_whenSecondSubscriber_thenRejectsIt() {
+            ResultProcessor<String> processor = ResultProcessor.create(10);
+            subscribe(processor, 1);
+
+            var second = subscribe(processor, 1);
+
+            assertThat(second.error).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        void givenNonPositiveRequest_whenRequest_thenSignalsErrorAndCancelsUpstream() {
+            ResultProcessor<String> processor = ResultProcessor.create(10);
+            var upstream = new Upstream();
+            var downstream = subscribe(processor, 0);
+            processor.onSubscribe(upstream);
+
+            assertThat(downstream.error).isInstanceOf(IllegalArgumentException.class);
+            assertThat(upstream.cancelled).isTrue();
+        }
+
+        @Test
+        void givenQueuedItems_whenNonPositiveRequest_thenSignalsOnlyTheError() {
+            ResultProcessor<String> processor = ResultProcessor.create(10);
+            var upstream = new Upstream();
+            var downstream = subscribe(processor, 1);
+            processor.onSubscribe(upstream);
+            processor.onNext(Result.ok("a"));
+            processor.onNext(Result.ok("b"));
+
+            downstream.request(-1);
+            downstream.request(1);
+            processor.onNext(Result.ok("c"));
+
+            assertThat(downstream.items).containsExactly(Result.ok("a"));
+            assertThat(downstream.error).isInstanceOf(IllegalArgumentException.class);
+            assertThat(downstream.completed).isFalse();
+            assertThat(upstream.cancelled).isTrue();
+        }
+
+        @Test
+        void givenNonPositiveBatchSize_whenCreate_thenThrowsIllegalArgumentException() {
+            assertThatThrownBy(() -> ResultProcessor.create(0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> ResultProcessor.create(1, Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
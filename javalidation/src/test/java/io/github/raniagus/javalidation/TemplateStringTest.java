@@ -33,6 +33,24 @@ class TemplateStringTest {
             assertThat(ts.message()).isEqualTo("Value must be between {0} and {1}");
             assertThat(ts.args()).containsExactly(10, 100);
         }
+
+        @Test
+        void givenNoArgs_whenOf_thenSharesEmptyArgs() {
+            TemplateString ts1 = TemplateString.of("First message");
+            TemplateString ts2 = new TemplateString("Second message", new Object[0]);
+
+            assertThat(ts1.args()).isSameAs(ts2.args());
+        }
+
+        @Test
+        void givenArgsArray_whenModifiedAfterConstruction_thenTemplateStringIsUnchanged() {
+            Object[] args = {10, 100};
+            TemplateString ts = new TemplateString("Value must be between {0} and {1}", args);
+
+            args[0] = 0;
+
+            assertThat(ts.args()).containsExactly(10, 100);
+        }
     }
 
     @Nested
@@ -2,6 +2,8 @@ package io.github.raniagus.javalidation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +59,78 @@ class ValidationErrorsTest {
             assertThat(prefixed.fieldErrors()).containsOnlyKeys(FieldKey.of("parent", "child", "field"));
         }
     }
+
+    @Nested
+    class CountTests {
+
+        @Test
+        void givenRootAndFieldErrors_whenConstructed_thenComputesCount() {
+            var errors = new ValidationErrors(
+                    List.of(TemplateString.of("root")),
+                    Map.of(FieldKey.of("a"), List.of(TemplateString.of("e1"), TemplateString.of("e2")))
+            );
+
+            assertThat(errors.count()).isEqualTo(3);
+        }
+
+        @Test
+        void givenValidation_whenFinish_thenCountsAllErrors() {
+            var validation = Validation.create()
+                    .addError("root")
+                    .addErrorAt("a", "e1")
+                    .addErrorAt("a", "e2");
+            validation.withField("b", () -> validation.addAll(ValidationErrors.at("c", "e3").mergeWith(ValidationErrors.of("e4"))));
+
+            var errors = validation.finish();
+
+            assertThat(errors.count()).isEqualTo(5);
+            assertThat(errors).isEqualTo(new ValidationErrors(errors.rootErrors(), errors.fieldErrors()));
+        }
+
+        @Test
+        void givenErrors_whenMergeWithAndWithPrefix_thenKeepsCount() {
+            var errors = ValidationErrors.of("root").mergeWith(ValidationErrors.at("a", "e1"));
+
+            assertThat(errors.count()).isEqualTo(2);
+            assertThat(errors.withPrefix("parent").count()).isEqualTo(2);
+        }
+
+        @Test
+        void givenFieldErrors_whenCountByField_thenReturnsFieldCount() {
+            var errors = Validation.create()
+                    .addErrorAt("a", "e1")
+                    .addErrorAt("a", "e2")
+                    .addErrorAt("b", "e3")
+                    .finish();
+
+            assertThat(errors.count(FieldKey.of("a"))).isEqualTo(2);
+            assertThat(errors.count(FieldKey.of("b"))).isEqualTo(1);
+            assertThat(errors.count(FieldKey.of("c"))).isZero();
+        }
+
+        @Test
+        void givenNoErrors_whenCount_thenIsEmpty() {
+            assertThat(ValidationErrors.empty().count()).isZero();
+            assertThat(ValidationErrors.empty().isEmpty()).isTrue();
+        }
+
+        @Test
+        void givenConstructedErrors_whenCount_thenCountsLists() {
+            var errors = new ValidationErrors(List.of(TemplateString.of("root")), Map.of());
+
+            assertThat(errors.count()).isEqualTo(1);
+            assertThat(errors.isEmpty()).isFalse();
+        }
+
+        @Test
+        void givenFinishedErrors_whenDeconstructed_thenHasRootAndFieldErrors() {
+            ValidationErrors errors = Validation.create().addError("root").addErrorAt("a", "e1").finish();
+
+            int sizes = switch (errors) {
+                case ValidationErrors(var rootErrors, var fieldErrors) -> rootErrors.size() + fieldErrors.size();
+            };
+
+            assertThat(sizes).isEqualTo(2);
+        }
+    }
 }
@@ -0,0 +1,176 @@
+package io.github.raniagus.javalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ValidationListenersTest {
+    private static final String SERVICE_FILE = "META-INF/services/" + ValidationListener.class.getName();
+
+    public static class RecordingListener implements ValidationListener {
+        // Only filled in the isolated class loader, where this class has its own copy of the list
+        static final List<String> EVENTS = new ArrayList<>();
+
+        @Override
+        public void onStart(Validation validation) {
+            EVENTS.add("start");
+        }
+
+        @Override
+        public void onErrorAdded(Validation validation, @Nullable FieldKey field, TemplateString error) {
+            EVENTS.add("error " + (field == null ? "<root>" : Arrays.toString(field.parts())) + " " + error.message());
+        }
+
+        @Override
+        public void onFinish(Validation validation, ValidationErrors errors) {
+            EVENTS.add("finish " + errors.count());
+        }
+
+        @Override
+        public void onCollectorFinish(ResultCollector<?, ?, ?> collector, Object result) {
+            EVENTS.add("collector " + collector.getClass().getSimpleName());
+        }
+    }
+
+    /** Scenarios run inside the isolated class loader; each returns the events it produced. */
+    public static class Scenarios {
+        public static List<String> rootAndFieldErrors() {
+            RecordingListener.EVENTS.clear();
+            Validation validation = Validation.create();
+            validation.addError("root");
+            validation.withField("name", () -> validation.addError("required"));
+            validation.finish();
+            return List.copyOf(RecordingListener.EVENTS);
+        }
+
+        public static List<String> mergedErrors() {
+            ValidationErrors errors = ValidationErrors.at("name", "required");
+            RecordingListener.EVENTS.clear();
+            Validation validation = Validation.create(1);
+            validation.addAll(errors);
+            return List.copyOf(RecordingListener.EVENTS);
+        }
+
+        public static List<String> collectedStream() {
+            RecordingListener.EVENTS.clear();
+            Stream.of(Result.ok(1), Result.ok(2)).collect(ResultCollector.toListOrThrow());
+            return List.copyOf(RecordingListener.EVENTS);
+        }
+    }
+
+    private static Path serviceDirectory(Path dir, String... providers) throws IOException {
+        Path file = dir.resolve(SERVICE_FILE);
+        Files.createDirectories(file.getParent());
+        Files.write(file, List.of(providers));
+        return dir;
+    }
+
+    @Test
+    void givenNoServiceFile_whenLoaded_thenListenersAreDisabled() {
+        assertThat(ValidationListeners.ENABLED).isFalse();
+        assertThat(ValidationListeners.LISTENER).isSameAs(ValidationListeners.NoOp.INSTANCE);
+    }
+
+    @Nested
+    class OfTests {
+
+        @Test
+        void givenNoListeners_whenOf_thenReturnsNoOp() {
+            assertThat(ValidationListeners.of(List.of())).isSameAs(ValidationListeners.NoOp.INSTANCE);
+        }
+
+        @Test
+        void givenOneListener_whenOf_thenReturnsIt() {
+            ValidationListener listener = new RecordingListener();
+
+            assertThat(ValidationListeners.of(List.of(listener))).isSameAs(listener);
+        }
+
+        @Test
+        void givenSeveralListeners_whenOf_thenCallsEachInOrder() {
+            List<String> events = new ArrayList<>();
+            ValidationListener first = new ValidationListener() {
+                @Override
+                public void onStart(Validation validation) {
+                    events.add("first");
+                }
+            };
+            ValidationListener second = new ValidationListener() {
+                @Override
+                public void onStart(Validation validation) {
+                    events.add("second");
+                }
+            };
+
+            ValidationListeners.of(List.of(first, second)).onStart(Validation.create());
+
+            assertThat(events).containsExactly("first", "second");
+        }
+
+        @Test
+        void givenServiceFileWithMissingClass_whenOf_thenSkipsItAndKeepsTheOthers(@TempDir Path dir) throws IOException {
+            serviceDirectory(dir, "com.example.MissingListener", RecordingListener.class.getName());
+            try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, getClass().getClassLoader())) {
+                ValidationListener listener = ValidationListeners.of(ServiceLoader.load(ValidationListener.class, loader));
+
+                assertThat(listener).isInstanceOf(RecordingListener.class);
+            }
+        }
+    }
+
+    @Nested
+    class HookTests {
+
+        // Loads a fresh copy of the library with a service file, so the listener is enabled only there
+        @SuppressWarnings("unchecked")
+        private List<String> runIsolated(Path dir, String scenario) throws Exception {
+            URL[] urls = {
+                    Validation.class.getProtectionDomain().getCodeSource().getLocation(),
+                    ValidationListenersTest.class.getProtectionDomain().getCodeSource().getLocation(),
+                    serviceDirectory(dir, RecordingListener.class.getName()).toUri().toURL()
+            };
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+            try (URLClassLoader loader = new URLClassLoader(urls, ClassLoader.getPlatformClassLoader())) {
+                thread.setContextClassLoader(loader);
+                Class<?> scenarios = loader.loadClass(Scenarios.class.getName());
+                return (List<String>) scenarios.getMethod(scenario).invoke(null);
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+        }
+
+        @Test
+        void givenRootAndFieldErrors_whenFinish_thenNotifiesEachStep(@TempDir Path dir) throws Exception {
+            assertThat(runIsolated(dir, "rootAndFieldErrors")).containsExactly(
+                    "start",
+                    "error <root> root",
+                    "error [name] required",
+                    "finish 2"
+            );
+        }
+
+        @Test
+        void givenMergedErrors_whenAddAll_thenNotifiesEachError(@TempDir Path dir) throws Exception {
+            assertThat(runIsolated(dir, "mergedErrors")).containsExactly("start", "error [name] required");
+        }
+
+        @Test
+        void givenCollector_whenStreamCollected_thenNotifiesFinish(@TempDir Path dir) throws Exception {
+            assertThat(runIsolated(dir, "collectedStream")).last().isEqualTo("collector ToList");
+        }
+    }
+}
@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Nested;
@@ -40,6 +43,44 @@ class ValidationTest {
         void givenNullMessage_whenAddError_thenThrowsNullPointerException() {
             var validation = Validation.create();
 
+            assertThatThrownBy(() -> validation.addError((String) null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        void givenTemplateString_whenAddError_thenAddsSameInstance() {
+            var error = TemplateString.of("must be at least {0}", 18);
+            var validation = Validation.create()
+                    .addError(error);
+
+            var errors = validation.finish();
+            assertThat(errors.rootErrors()).singleElement().isSameAs(error);
+        }
+
+        @Test
+        void givenTemplateStringInsideField_whenAddError_thenAddsFieldError() {
+            var error = TemplateString.of("must be at least {0}", 18);
+            var validation = Validation.create();
+
+            validation.withField("age", () -> validation.addError(error));
+
+            var errors = validation.finish();
+            assertThat(errors.fieldErrors()).containsExactly(Map.entry(FieldKey.of("age"), List.of(error)));
+        }
+
+        @Test
+        void givenNullTemplateString_whenAddError_thenThrowsNullPointerException() {
+            var validation = Validation.create();
+
+            assertThatThrownBy(() -> validation.addError((TemplateString) null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        void givenUntypedNull_whenAddError_thenCompilesAndThrowsNullPointerException() {
+            var validation = Validation.create();
+
+            // Resolves to addError(TemplateString) without a cast, since the varargs overload needs a later phase
             assertThatThrownBy(() -> validation.addError(null))
                     .isInstanceOf(NullPointerException.class);
         }
@@ -232,6 +273,67 @@ class ValidationTest {
             var errors = validation.finish();
             assertThat(errors.isEmpty()).isTrue();
         }
+
+        @Test
+        void givenFinishedValidation_whenReused_thenSnapshotIsUnchanged() {
+            var validation = Validation.create()
+                    .addError("root error 1")
+                    .addError("root error 2")
+                    .addErrorAt("field", "error 1")
+                    .addErrorAt("field", "error 2");
+            var snapshot = validation.finish();
+
+            validation.addError("root error 3")
+                    .addErrorAt("field", "error 3")
+                    .addErrorAt("other", "error");
+
+            assertThat(snapshot).isEqualTo(new ValidationErrors(
+                    List.of(TemplateString.of("root error 1"), TemplateString.of("root error 2")),
+                    Map.of(FieldKey.of("field"), List.of(TemplateString.of("error 1"), TemplateString.of("error 2")))
+            ));
+            assertThat(validation.finish().count()).isEqualTo(7);
+        }
+
+        @Test
+        void givenFinishedValidation_whenFieldErrorsModified_thenThrowsUnsupportedOperationException() {
+            var errors = Validation.create()
+                    .addErrorAt("field", "error")
+                    .finish();
+
+            assertThatThrownBy(() -> errors.fieldErrors().remove(FieldKey.of("field")))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        void givenExpectedFields_whenCreate_thenBehavesLikeEmptyValidation() {
+            var validation = Validation.create(16);
+            assertThat(validation.finish().isEmpty()).isTrue();
+
+            validation.addErrorAt("field", "error");
+            assertThat(validation.finish()).isEqualTo(ValidationErrors.at("field", "error"));
+        }
+
+        @Test
+        void givenNegativeExpectedFields_whenCreate_thenThrowsIllegalArgumentException() {
+            assertThatThrownBy(() -> Validation.create(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void givenErrors_whenFinish_thenErrorListsAreUnmodifiable() {
+            var validation = Validation.create()
+                    .addError("root error")
+                    .addErrorAt("field", "error 1")
+                    .addErrorAt("field", "error 2");
+
+            var errors = validation.finish();
+            assertThat(errors.fieldErrors().get(FieldKey.of("field")))
+                    .containsExactly(TemplateString.of("error 1"), TemplateString.of("error 2"));
+            assertThatThrownBy(() -> errors.rootErrors().add(TemplateString.of("other")))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> errors.fieldErrors().get(FieldKey.of("field")).add(TemplateString.of("other")))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
     }
 
     @Nested
@@ -375,6 +477,24 @@ class ValidationTest {
                     .containsExactly(TemplateString.of("required"));
         }
 
+        @Test
+        void givenExceptionInConsumer_whenWithField_thenRestoresParentScope() {
+            var validation = Validation.create();
+
+            validation.withField("parent", () -> {
+                assertThatThrownBy(() -> validation.withField("child", () -> {
+                    throw new IllegalStateException();
+                })).isInstanceOf(IllegalStateException.class);
+                validation.addError("error");
+            });
+            validation.addError("root");
+
+            assertThat(validation.finish()).isEqualTo(new ValidationErrors(
+                    List.of(TemplateString.of("root")),
+                    Map.of(FieldKey.of("parent"), List.of(TemplateString.of("error")))
+            ));
+        }
+
         @Test
         void givenNullField_whenWithField_thenThrowsNullPointerException() {
             var validation = Validation.create();
@@ -528,4 +648,28 @@ class ValidationTest {
                     .isInstanceOf(NullPointerException.class);
         }
     }
+
+    @Nested
+    class InstantTests {
+        private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+        @Test
+        void givenSeveralCalls_whenInstant_thenReadsFirstClockOnly() {
+            var validation = Validation.create();
+
+            Instant first = validation.instant(Clock.fixed(NOW, ZoneOffset.UTC));
+            Instant second = validation.instant(Clock.fixed(NOW.plusSeconds(1), ZoneOffset.UTC));
+
+            assertThat(first).isEqualTo(NOW);
+            assertThat(second).isEqualTo(NOW);
+        }
+
+        @Test
+        void givenNullClock_whenInstant_thenThrowsNullPointerException() {
+            var validation = Validation.create();
+
+            assertThatThrownBy(() -> validation.instant(null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
 }
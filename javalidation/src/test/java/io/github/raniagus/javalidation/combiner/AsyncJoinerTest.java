@@ -0,0 +1,247 @@
+package io.github.raniagus.javalidation.combiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.list;
+
+import io.github.raniagus.javalidation.AsyncResult;
+import io.github.raniagus.javalidation.JavalidationException;
+import io.github.raniagus.javalidation.Result;
+import io.github.raniagus.javalidation.TemplateString;
+import io.github.raniagus.javalidation.ValidationErrors;
+import io.github.raniagus.javalidation.util.ErrorStrings;
+import io.github.raniagus.javalidation.util.Person;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class AsyncJoinerTest {
+
+    private static Result<Boolean> awaitBoth(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return Result.ok(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error(ErrorStrings.ERROR_1);
+        }
+    }
+
+    private static void assertRootErrors(Result<?> result, String... messages) {
+        assertThat(result.errors())
+                .extracting(ValidationErrors::rootErrors)
+                .asInstanceOf(list(TemplateString.class))
+                .map(TemplateString::message)
+                .containsExactly(messages);
+    }
+
+    @Nested
+    class AsyncResultCombiner2Tests {
+
+        @Test
+        void givenTwoOkResults_whenCombine_thenCombinesValues() {
+            var combined = AsyncResult.supply(() -> Result.ok("Agustin"))
+                    .and(() -> Result.ok(23))
+                    .combine(Person::new);
+
+            assertThat(combined.join().getOrThrow()).isEqualTo(new Person("Agustin", 23));
+        }
+
+        @Test
+        void givenTwoErrResults_whenCombine_thenAccumulatesErrorsInOrder() {
+            var combined = AsyncResult.supply(() -> Result.<String>error(ErrorStrings.ERROR_1))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_2))
+                    .combine(Person::new);
+
+            assertRootErrors(combined.join(), "Error 1", "Error 2");
+        }
+
+        @Test
+        void givenIndependentSuppliers_whenCombine_thenRunConcurrently() {
+            var latch = new CountDownLatch(2);
+
+            var combined = AsyncResult.supply(() -> awaitBoth(latch))
+                    .and(() -> awaitBoth(latch))
+                    .combine((first, second) -> first && second);
+
+            assertThat(combined.join().getOrThrow()).isTrue();
+        }
+
+        @Test
+        void givenTwoOkResults_whenGetLast_thenReturnsSecondValue() {
+            var result = AsyncResult.completed(Result.ok("Agustin"))
+                    .and(AsyncResult.completed(Result.ok(23)))
+                    .getLast();
+
+            assertThat(result.join().getOrThrow()).isEqualTo(23);
+        }
+
+        @Test
+        void givenCustomExecutor_whenCombine_thenRunsSuppliersOnIt() {
+            var tasks = new AtomicInteger();
+            Executor executor = command -> {
+                tasks.incrementAndGet();
+                command.run();
+            };
+
+            var combined = AsyncResult.supply(() -> Result.ok("Agustin"), executor)
+                    .and(() -> Result.ok(23))
+                    .and((name, age) -> Result.ok(name.length() + age))
+                    .combine((name, age, sum) -> sum);
+
+            assertThat(combined.join().getOrThrow()).isEqualTo(30);
+            assertThat(tasks).hasValue(3);
+        }
+    }
+
+    @Nested
+    class DependentAndTests {
+
+        @Test
+        void givenOkResult_whenDependentAnd_thenSuppliesContainedValue() {
+            var combined = AsyncResult.supply(() -> Result.ok("Agustin"))
+                    .and(name -> Result.ok(name.length()))
+                    .combine((name, length) -> name + ":" + length);
+
+            assertThat(combined.join().getOrThrow()).isEqualTo("Agustin:7");
+        }
+
+        @Test
+        void givenErrResult_whenDependentAnd_thenSkipsFunctionAndAccumulatesIndependentErrors() {
+            var called = new AtomicBoolean();
+
+            var combined = AsyncResult.supply(() -> Result.<String>error(ErrorStrings.ERROR_1))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_2))
+                    .and((name, age) -> {
+                        called.set(true);
+                        return Result.ok(name + age);
+                    })
+                    .combine((name, age, text) -> text);
+
+            assertThat(called).isFalse();
+            assertRootErrors(combined.join(), "Error 1", "Error 2");
+        }
+
+        @Test
+        void givenDependentAndThrowsJavalidationException_whenCombine_thenCatchesAndReturnsErr() {
+            var combined = AsyncResult.supply(() -> Result.ok("Agustin"))
+                    .and(name -> {
+                        throw JavalidationException.of(ErrorStrings.ERROR_1);
+                    })
+                    .combine((name, value) -> name);
+
+            assertRootErrors(combined.join(), "Error 1");
+        }
+
+        @Test
+        void givenDependentAndThrowsOtherException_whenJoin_thenPropagatesException() {
+            var combined = AsyncResult.supply(() -> Result.ok("Agustin"))
+                    .<Integer>and(name -> {
+                        throw new IllegalStateException("boom");
+                    })
+                    .combine((name, value) -> name);
+
+            assertThatThrownBy(combined::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class AndUsingTests {
+
+        @Test
+        void givenSlowUnprojectedSlot_whenAndUsing_thenDoesNotWaitForIt() {
+            var unblock = new CountDownLatch(1);
+
+            var combined = AsyncResult.supply(() -> Result.ok("Agustin"))
+                    .and(() -> {
+                        try {
+                            return Result.ok(unblock.await(5, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return Result.<Boolean>error(ErrorStrings.ERROR_1);
+                        }
+                    })
+                    .andUsing(r -> r.first(), name -> {
+                        unblock.countDown();
+                        return Result.ok(name.length());
+                    })
+                    .combine((name, unblocked, length) -> unblocked ? length : -1);
+
+            assertThat(combined.join().getOrThrow()).isEqualTo(7);
+        }
+
+        @Test
+        void givenProjectedSlotErr_whenAndUsing_thenFunctionSkippedAndErrorsAccumulated() {
+            var called = new AtomicBoolean();
+
+            var combined = AsyncResult.supply(() -> Result.<String>error(ErrorStrings.ERROR_1))
+                    .and(() -> Result.ok(23))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_2))
+                    .andUsing(r -> r.first().and(r.second()), (name, age) -> {
+                        called.set(true);
+                        return Result.ok(name + age);
+                    })
+                    .combine((name, age, other, text) -> text);
+
+            assertThat(called).isFalse();
+            assertRootErrors(combined.join(), "Error 1", "Error 2");
+        }
+
+        @Test
+        void givenProjectedSlotsOk_whenTwoSlotAndUsing_thenFunctionRuns() {
+            var combined = AsyncResult.supply(() -> Result.ok("Agustin"))
+                    .and(() -> Result.<String>error(ErrorStrings.ERROR_1))
+                    .and(() -> Result.ok(23))
+                    .andUsing(r -> r.first().and(r.third()), (name, age) -> Result.<String>error(ErrorStrings.ERROR_2))
+                    .combine((name, other, age, text) -> text);
+
+            assertRootErrors(combined.join(), "Error 1", "Error 2");
+        }
+    }
+
+    @Nested
+    class AsyncResultCombiner10Tests {
+
+        @Test
+        void givenTenOkResults_whenCombine_thenCombinesValues() {
+            var combined = AsyncResult.supply(() -> Result.ok(1))
+                    .and(() -> Result.ok(2))
+                    .and(() -> Result.ok(3))
+                    .and(() -> Result.ok(4))
+                    .and(() -> Result.ok(5))
+                    .and(() -> Result.ok(6))
+                    .and(() -> Result.ok(7))
+                    .and(() -> Result.ok(8))
+                    .and(() -> Result.ok(9))
+                    .and(() -> Result.ok(10))
+                    .combine((v1, v2, v3, v4, v5, v6, v7, v8, v9, v10) -> v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10);
+
+            assertThat(combined.join().getOrThrow()).isEqualTo(55);
+        }
+
+        @Test
+        void givenTenErrResults_whenCombine_thenAccumulatesErrorsInOrder() {
+            var combined = AsyncResult.supply(() -> Result.<Integer>error(ErrorStrings.ERROR_1))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_2))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_3))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_4))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_5))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_6))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_7))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_8))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_9))
+                    .and(() -> Result.<Integer>error(ErrorStrings.ERROR_10))
+                    .getLast();
+
+            assertRootErrors(combined.join(), "Error 1", "Error 2", "Error 3", "Error 4", "Error 5",
+                    "Error 6", "Error 7", "Error 8", "Error 9", "Error 10");
+        }
+    }
+}
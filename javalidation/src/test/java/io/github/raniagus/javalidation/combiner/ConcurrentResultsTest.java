@@ -0,0 +1,167 @@
+package io.github.raniagus.javalidation.combiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.list;
+
+import io.github.raniagus.javalidation.JavalidationException;
+import io.github.raniagus.javalidation.Result;
+import io.github.raniagus.javalidation.TemplateString;
+import io.github.raniagus.javalidation.ValidationErrors;
+import io.github.raniagus.javalidation.util.ErrorStrings;
+import io.github.raniagus.javalidation.util.Person;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentResultsTest {
+
+    private static Result<Boolean> awaitAll(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return Result.ok(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error(ErrorStrings.ERROR_1);
+        }
+    }
+
+    private static Result<String> sleepUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(Duration.ofSeconds(10));
+            return Result.ok("not interrupted");
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            return Result.ok("interrupted");
+        }
+    }
+
+    private static void assertRootErrors(Result<?> result, String... messages) {
+        assertThat(result.errors())
+                .extracting(ValidationErrors::rootErrors)
+                .asInstanceOf(list(TemplateString.class))
+                .map(TemplateString::message)
+                .containsExactly(messages);
+    }
+
+    @Nested
+    class CombineConcurrentlyTests {
+
+        @Test
+        void givenTwoOkSuppliers_whenCombineConcurrently_thenCombinesValues() {
+            Result<Person> combined = Result.combineConcurrently(() -> Result.ok("Agustin"), () -> Result.ok(23))
+                    .combine(Person::new);
+
+            assertThat(combined.getOrThrow()).isEqualTo(new Person("Agustin", 23));
+        }
+
+        @Test
+        void givenIndependentSuppliers_whenCombineConcurrently_thenRunInParallel() {
+            var latch = new CountDownLatch(3);
+
+            var combined = Result.combineConcurrently(() -> awaitAll(latch), () -> awaitAll(latch), () -> awaitAll(latch))
+                    .combine((a, b, c) -> a && b && c);
+
+            assertThat(combined.getOrThrow()).isTrue();
+        }
+
+        @Test
+        void givenErrSuppliersAndJavalidationException_whenCombineConcurrently_thenAccumulatesErrorsInOrder() {
+            var combined = Result.combineConcurrently(
+                    () -> Result.<String>error(ErrorStrings.ERROR_1),
+                    () -> {
+                        throw JavalidationException.of(ErrorStrings.ERROR_2);
+                    },
+                    () -> Result.<Integer>error(ErrorStrings.ERROR_3)
+            ).getLast();
+
+            assertRootErrors(combined, "Error 1", "Error 2", "Error 3");
+        }
+
+        @Test
+        void givenTenSuppliers_whenCombineConcurrently_thenCombinesValues() {
+            var combined = Result.combineConcurrently(
+                    () -> Result.ok(1), () -> Result.ok(2), () -> Result.ok(3), () -> Result.ok(4), () -> Result.ok(5),
+                    () -> Result.ok(6), () -> Result.ok(7), () -> Result.ok(8), () -> Result.ok(9), () -> Result.ok(10)
+            ).combine((v1, v2, v3, v4, v5, v6, v7, v8, v9, v10) -> v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9 + v10);
+
+            assertThat(combined.getOrThrow()).isEqualTo(55);
+        }
+    }
+
+    @Nested
+    class CancellationTests {
+
+        @Test
+        void givenSupplierThrowsOtherException_whenSupply_thenCancelsSiblingsAndRethrows() throws InterruptedException {
+            var interrupted = new CountDownLatch(1);
+
+            assertThatThrownBy(() -> ConcurrentResults.create().supply(
+                    () -> sleepUntilInterrupted(interrupted),
+                    () -> {
+                        throw new IllegalStateException("boom");
+                    }
+            )).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Nested
+    class TimeoutTests {
+
+        @Test
+        void givenSlowSupplier_whenTimeoutElapses_thenSlotFailsAndIsCancelled() throws InterruptedException {
+            var interrupted = new CountDownLatch(1);
+
+            var combined = ConcurrentResults.create()
+                    .withTimeout(Duration.ofMillis(50), "timed out after {0}ms", 50)
+                    .supply(() -> Result.ok("Agustin"), () -> sleepUntilInterrupted(interrupted))
+                    .getLast();
+
+            assertThat(combined.errors().rootErrors()).containsExactly(TemplateString.of("timed out after {0}ms", 50));
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        void givenFastSuppliers_whenTimeoutConfigured_thenCombinesValues() {
+            var combined = ConcurrentResults.create()
+                    .withTimeout(Duration.ofSeconds(5), ErrorStrings.ERROR_1)
+                    .supply(() -> Result.ok("Agustin"), () -> Result.ok(23))
+                    .combine(Person::new);
+
+            assertThat(combined.getOrThrow()).isEqualTo(new Person("Agustin", 23));
+        }
+
+        @Test
+        void givenNegativeTimeout_whenWithTimeout_thenThrowsIllegalArgumentException() {
+            assertThatThrownBy(() -> ConcurrentResults.create().withTimeout(Duration.ofSeconds(-1), ErrorStrings.ERROR_1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class ExecutorTests {
+
+        @Test
+        void givenCustomExecutor_whenSupply_thenRunsEverySupplierOnIt() {
+            var tasks = new AtomicInteger();
+            Executor executor = command -> {
+                tasks.incrementAndGet();
+                Thread.startVirtualThread(command);
+            };
+
+            var combined = ConcurrentResults.create()
+                    .withExecutor(executor)
+                    .supply(() -> Result.ok("Agustin"), () -> Result.ok(23))
+                    .combine(Person::new);
+
+            assertThat(combined.getOrThrow()).isEqualTo(new Person("Agustin", 23));
+            assertThat(tasks).hasValue(2);
+        }
+    }
+}
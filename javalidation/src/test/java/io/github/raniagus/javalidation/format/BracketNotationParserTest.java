@@ -0,0 +1,53 @@
+package io.github.raniagus.javalidation.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.raniagus.javalidation.FieldKey;
+import org.junit.jupiter.api.Test;
+
+class BracketNotationParserTest {
+    private final FieldKeyParser parser = new BracketNotationParser();
+
+    @Test
+    void givenEmptyString_whenParse_thenReturnEmptyKey() {
+        assertThat(parser.parse("").parts()).isEmpty();
+    }
+
+    @Test
+    void givenNestedValue_whenParse_thenIndexLiteralsBecomeIntKeys() {
+        assertThat(parser.parse("test[42][nested]")).isEqualTo(FieldKey.of("test", 42, "nested"));
+    }
+
+    @Test
+    void givenBareNumericFirstSegment_whenParse_thenReturnStringKey() {
+        assertThat(parser.parse("0[1]")).isEqualTo(FieldKey.of("0", 1));
+    }
+
+    @Test
+    void givenFormattedKey_whenParse_thenReturnOriginalKey() {
+        FieldKey original = FieldKey.of(0, "user.name", 3);
+
+        assertThat(parser.parse(new BracketNotationFormatter().format(original))).isEqualTo(original);
+    }
+
+    @Test
+    void givenUnbalancedBrackets_whenParse_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> parser.parse("a]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a[")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("[0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a[[0]]")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenInvalidSegment_whenParse_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> parser.parse("a[]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a[0]b")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenInvalidSegment_whenTryParse_thenReturnsNull() {
+        assertThat(parser.tryParse("a[0]b")).isNull();
+        assertThat(parser.tryParse("a[0]")).isEqualTo(FieldKey.of("a", 0));
+    }
+}
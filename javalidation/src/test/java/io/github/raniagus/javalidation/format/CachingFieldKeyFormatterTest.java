@@ -0,0 +1,143 @@
+package io.github.raniagus.javalidation.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.raniagus.javalidation.FieldKey;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CachingFieldKeyFormatterTest {
+
+    @Test
+    void givenSameKey_whenFormatTwice_thenDelegatesOnceAndReturnsSameString() {
+        AtomicInteger calls = new AtomicInteger();
+        FieldKeyFormatter formatter = new CachingFieldKeyFormatter(key -> {
+            calls.incrementAndGet();
+            return new DotNotationFormatter().format(key);
+        }, 10);
+
+        String first = formatter.format(FieldKey.of("user", "email"));
+        String second = formatter.format(FieldKey.of("user", "email"));
+
+        assertThat(first).isEqualTo("user.email").isSameAs(second);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void givenTrailingIndexes_whenFormat_thenSharesOneEntry() {
+        CachingFieldKeyFormatter formatter = new CachingFieldKeyFormatter(new PropertyPathNotationFormatter(), 10);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(formatter.format(FieldKey.of("items", i, 2))).isEqualTo("items[" + i + "][2]");
+        }
+        assertThat(formatter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void givenInteriorIndexes_whenFormat_thenSharesOneEntry() {
+        CachingFieldKeyFormatter formatter = new CachingFieldKeyFormatter(new PropertyPathNotationFormatter(), 10);
+
+        for (int i = 0; i < 2000; i++) {
+            assertThat(formatter.format(FieldKey.of("order", "items", i, "price")))
+                    .isEqualTo("order.items[" + i + "].price");
+        }
+        assertThat(formatter.size()).isEqualTo(1);
+        assertThat(formatter.hitCount()).isEqualTo(1999);
+    }
+
+    @Test
+    void givenSameNamesWithIndexesElsewhere_whenFormat_thenCachesEachShape() {
+        CachingFieldKeyFormatter formatter = new CachingFieldKeyFormatter(new DotNotationFormatter(), 10);
+
+        assertThat(formatter.format(FieldKey.of("items", 0, "price"))).isEqualTo("items.0.price");
+        assertThat(formatter.format(FieldKey.of("items", "price", 0))).isEqualTo("items.price.0");
+        assertThat(formatter.format(FieldKey.of("items", "price"))).isEqualTo("items.price");
+        assertThat(formatter.size()).isEqualTo(3);
+    }
+
+    @Test
+    void givenRepeatedKeys_whenFormat_thenCountsHitsAndMisses() {
+        CachingFieldKeyFormatter formatter = new CachingFieldKeyFormatter(new PropertyPathNotationFormatter(), 10);
+
+        formatter.format(FieldKey.of("user", "email"));
+        formatter.format(FieldKey.of("user", "email"));
+        formatter.format(FieldKey.of("items", 0));
+        formatter.format(FieldKey.of("items", 1));
+
+        assertThat(formatter.missCount()).isEqualTo(2);
+        assertThat(formatter.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void givenBuiltInNotations_whenFormat_thenMatchesDelegate() {
+        FieldKey key = FieldKey.of(1, "order", "items", 3, "price", 4, 5, "tags");
+        for (FieldKeyFormatter delegate : new FieldKeyFormatter[]{
+                new PropertyPathNotationFormatter(), new DotNotationFormatter(), new BracketNotationFormatter()}) {
+            CachingFieldKeyFormatter formatter = new CachingFieldKeyFormatter(delegate, 10);
+
+            assertThat(formatter.format(key)).isEqualTo(delegate.format(key));
+            assertThat(formatter.format(key)).isEqualTo(delegate.format(key));
+        }
+    }
+
+    @Test
+    void givenSubclassOfBuiltInNotation_whenFormat_thenCachesWholeKeys() {
+        FieldKeyFormatter delegate = new PropertyPathNotationFormatter() {
+            @Override
+            public String format(FieldKey fieldKey) {
+                StringBuilder sb = new StringBuilder(fieldKey.name(0));
+                for (int i = 1; i < fieldKey.size(); i++) {
+                    sb.append('/').append(fieldKey.isIndex(i) ? fieldKey.index(i) : fieldKey.name(i));
+                }
+                return sb.toString();
+            }
+        };
+        CachingFieldKeyFormatter formatter = new CachingFieldKeyFormatter(delegate, 10);
+
+        assertThat(formatter.format(FieldKey.of("items", 0))).isEqualTo("items/0");
+        assertThat(formatter.format(FieldKey.of("items", 1))).isEqualTo("items/1");
+        assertThat(formatter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void givenIndexOnlyKeys_whenFormat_thenSharesOneEntry() {
+        CachingFieldKeyFormatter formatter = new CachingFieldKeyFormatter(new DotNotationFormatter(), 10);
+
+        assertThat(formatter.format(FieldKey.of(0, 1))).isEqualTo("0.1");
+        assertThat(formatter.format(FieldKey.of(2, 3))).isEqualTo("2.3");
+        assertThat(formatter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void givenMoreKeysThanMaxSize_whenFormat_thenSizeStaysBounded() {
+        CachingFieldKeyFormatter formatter = new CachingFieldKeyFormatter(new PropertyPathNotationFormatter(), 3);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(formatter.format(FieldKey.of("field" + i))).isEqualTo("field" + i);
+            assertThat(formatter.size()).isLessThanOrEqualTo(3);
+        }
+    }
+
+    @Test
+    void givenFullCache_whenNewKeyFormatted_thenEvictsOneEntryOnly() {
+        CachingFieldKeyFormatter formatter = new CachingFieldKeyFormatter(new PropertyPathNotationFormatter(), 3);
+        formatter.format(FieldKey.of("a"));
+        formatter.format(FieldKey.of("b"));
+        formatter.format(FieldKey.of("c"));
+
+        formatter.format(FieldKey.of("d"));
+
+        assertThat(formatter.size()).isEqualTo(3);
+        formatter.format(FieldKey.of("a"));
+        formatter.format(FieldKey.of("b"));
+        formatter.format(FieldKey.of("c"));
+        assertThat(formatter.hitCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void givenNonPositiveMaxSize_whenConstructed_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> new CachingFieldKeyFormatter(new DotNotationFormatter(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
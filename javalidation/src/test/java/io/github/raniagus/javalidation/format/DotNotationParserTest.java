@@ -0,0 +1,47 @@
+package io.github.raniagus.javalidation.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.raniagus.javalidation.FieldKey;
+import org.junit.jupiter.api.Test;
+
+class DotNotationParserTest {
+    private final FieldKeyParser parser = new DotNotationParser();
+
+    @Test
+    void givenEmptyString_whenParse_thenReturnEmptyKey() {
+        assertThat(parser.parse("").parts()).isEmpty();
+    }
+
+    @Test
+    void givenNestedValue_whenParse_thenIndexLiteralsBecomeIntKeys() {
+        assertThat(parser.parse("test.42.nested")).isEqualTo(FieldKey.of("test", 42, "nested"));
+    }
+
+    @Test
+    void givenNonCanonicalNumbers_whenParse_thenReturnStringKeys() {
+        assertThat(parser.parse("01.-0.2147483648")).isEqualTo(FieldKey.of("01", "-0", "2147483648"));
+    }
+
+    @Test
+    void givenFormattedKey_whenParse_thenReturnOriginalKey() {
+        FieldKey original = FieldKey.of("user", 3, "email[x]");
+
+        assertThat(parser.parse(new DotNotationFormatter().format(original))).isEqualTo(original);
+    }
+
+    @Test
+    void givenEmptySegment_whenParse_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> parser.parse(".")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse(".a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a.")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a..b")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenEmptySegment_whenTryParse_thenReturnsNull() {
+        assertThat(parser.tryParse("a..b")).isNull();
+        assertThat(parser.tryParse("a.0")).isEqualTo(FieldKey.of("a", 0));
+    }
+}
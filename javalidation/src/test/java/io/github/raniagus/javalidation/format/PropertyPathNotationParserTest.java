@@ -0,0 +1,88 @@
+package io.github.raniagus.javalidation.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.raniagus.javalidation.FieldKey;
+import org.junit.jupiter.api.Test;
+
+class PropertyPathNotationParserTest {
+    private final FieldKeyParser parser = new PropertyPathNotationParser();
+
+    @Test
+    void givenEmptyString_whenParse_thenReturnEmptyKey() {
+        assertThat(parser.parse("").parts()).isEmpty();
+    }
+
+    @Test
+    void givenMixedPath_whenParse_thenReturnStringAndIntKeys() {
+        assertThat(parser.parse("items[0].price")).isEqualTo(FieldKey.of("items", 0, "price"));
+    }
+
+    @Test
+    void givenLeadingIndexes_whenParse_thenReturnIntKeys() {
+        assertThat(parser.parse("[0][-1].name")).isEqualTo(FieldKey.of(0, -1, "name"));
+    }
+
+    @Test
+    void givenIntBounds_whenParse_thenReturnIntKeys() {
+        assertThat(parser.parse("[2147483647][-2147483648]")).isEqualTo(FieldKey.of(Integer.MAX_VALUE, Integer.MIN_VALUE));
+    }
+
+    @Test
+    void givenFormattedKey_whenParse_thenReturnOriginalKey() {
+        FieldKey original = FieldKey.of(1, "user", "addresses", 3, 4, "street");
+
+        assertThat(parser.parse(new PropertyPathNotationFormatter().format(original))).isEqualTo(original);
+    }
+
+    @Test
+    void givenEmptyName_whenParse_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> parser.parse(".a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a.")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a..b")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a.[0]")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenNameAfterIndexWithoutDot_whenParse_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> parser.parse("[0]a")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenUnbalancedBrackets_whenParse_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> parser.parse("a]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a[")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a[0.b")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenInvalidIndex_whenParse_thenThrowsIllegalArgumentException() {
+        assertThatThrownBy(() -> parser.parse("a[]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a[01]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a[-0]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a[x]")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parser.parse("a[2147483648]")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenValidPath_whenTryParse_thenReturnsParsedKey() {
+        assertThat(parser.tryParse("items[0].price")).isEqualTo(FieldKey.of("items", 0, "price"));
+    }
+
+    @Test
+    void givenInvalidPath_whenTryParse_thenReturnsNull() {
+        assertThat(parser.tryParse("map[key]")).isNull();
+        assertThat(parser.tryParse("a..b")).isNull();
+        assertThat(parser.tryParse("a[0.b")).isNull();
+    }
+
+    @Test
+    void givenThrowingParser_whenTryParse_thenDefaultReturnsNull() {
+        FieldKeyParser throwing = path -> {
+            throw new IllegalArgumentException(path);
+        };
+
+        assertThat(throwing.tryParse("a")).isNull();
+    }
+}